@@ -0,0 +1,77 @@
+package seedu.finance.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import seedu.finance.commons.util.FileUtil;
+import seedu.finance.commons.util.JsonUtil;
+import seedu.finance.model.record.Record;
+
+/**
+ * Entry point of the {@code benchmark} Gradle task. Runs every microbenchmark in this source set on synthetic
+ * ledgers of each size in the system property {@value #LEDGER_SIZES_PROPERTY} (by default 10k, 100k and 1M
+ * records), then writes the results as JSON to the file in the system property {@value #RESULTS_FILE_PROPERTY}, so
+ * that the results of different commits can be compared.
+ */
+public class BenchmarkRunner {
+
+    public static final String LEDGER_SIZES_PROPERTY = "benchmark.ledgerSizes";
+    public static final String RESULTS_FILE_PROPERTY = "benchmark.resultsFile";
+
+    private static final String DEFAULT_RESULTS_FILE = "build/benchmark/results.json";
+
+    public static void main(String[] args) throws IOException {
+        for (int ledgerSize : getLedgerSizes()) {
+            List<Record> ledger = SyntheticLedger.generate(ledgerSize);
+            new UniqueRecordListBenchmark(ledger).run();
+            new PredicateBenchmark(ledger).run();
+            new SearchCacheBenchmark(ledger).run();
+            new SortBenchmark(ledger).run();
+            new JsonRoundTripBenchmark(ledger).run();
+        }
+        new UiConstructionBenchmark().run();
+        new RecordListScrollBenchmark().run();
+
+        Path resultsFile = Paths.get(System.getProperty(RESULTS_FILE_PROPERTY, DEFAULT_RESULTS_FILE));
+        FileUtil.createParentDirsOfFile(resultsFile);
+        JsonUtil.saveJsonFile(new BenchmarkResults(Microbenchmark.getResults()), resultsFile);
+        System.out.println("Results written to " + resultsFile.toAbsolutePath());
+    }
+
+    private static List<Integer> getLedgerSizes() {
+        List<Integer> ledgerSizes = new ArrayList<>();
+        String property = System.getProperty(LEDGER_SIZES_PROPERTY);
+        if (property == null) {
+            for (int size : SyntheticLedger.STANDARD_SIZES) {
+                ledgerSizes.add(size);
+            }
+            return ledgerSizes;
+        }
+        for (String size : property.split(",")) {
+            ledgerSizes.add(Integer.parseInt(size.trim()));
+        }
+        return ledgerSizes;
+    }
+
+    /**
+     * The results of one run of the benchmarks, as written to the results file.
+     */
+    private static class BenchmarkResults {
+        private final String finishedAt = Instant.now().toString();
+        private final String javaVersion = System.getProperty("java.version");
+        private final String osName = System.getProperty("os.name");
+        private final int availableProcessors = Runtime.getRuntime().availableProcessors();
+        private final long maxHeapBytes = Runtime.getRuntime().maxMemory();
+        private final Map<String, Double> nanosPerOp;
+
+        private BenchmarkResults(Map<String, Double> nanosPerOp) {
+            this.nanosPerOp = nanosPerOp;
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package seedu.finance.benchmark;
+
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_CATEGORY;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_DATE;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_NAME;
+import static seedu.finance.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static seedu.finance.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.finance.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.finance.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.finance.logic.parser.CliSyntax.PREFIX_PERIOD;
+import static seedu.finance.logic.parser.CliSyntax.PREFIX_PERIOD_AMOUNT;
+
+import java.util.List;
+import java.util.Random;
+
+import seedu.finance.logic.commands.DeleteCommand;
+import seedu.finance.logic.commands.EditCommand;
+import seedu.finance.logic.commands.ListCommand;
+import seedu.finance.logic.commands.RedoCommand;
+import seedu.finance.logic.commands.SearchCommand;
+import seedu.finance.logic.commands.SpendCommand;
+import seedu.finance.logic.commands.SummaryCommand;
+import seedu.finance.logic.commands.UndoCommand;
+import seedu.finance.model.record.Record;
+
+/**
+ * Generates a script of commands in the proportions a user might type them: mostly new spending, with edits,
+ * deletions, searches, summaries, undos and redos in between. The same seed always gives the same script for the same
+ * record lists, and the records spent and searched for are those of a {@link SyntheticLedger}.
+ */
+public class CommandMix {
+
+    // how often each kind of command is typed relative to the others
+    private static final int SPEND_WEIGHT = 30;
+    private static final int EDIT_WEIGHT = 15;
+    private static final int DELETE_WEIGHT = 10;
+    private static final int SEARCH_WEIGHT = 15;
+    private static final int LIST_WEIGHT = 5;
+    private static final int SUMMARY_WEIGHT = 10;
+    private static final int UNDO_WEIGHT = 10;
+    private static final int REDO_WEIGHT = 5;
+    private static final int TOTAL_WEIGHT = SPEND_WEIGHT + EDIT_WEIGHT + DELETE_WEIGHT + SEARCH_WEIGHT + LIST_WEIGHT
+            + SUMMARY_WEIGHT + UNDO_WEIGHT + REDO_WEIGHT;
+
+    private final Random random;
+    private final List<Record> recordsToSpend;
+    private int nextRecordToSpend;
+
+    public CommandMix(int commandCount, long seed) {
+        random = new Random(seed);
+        recordsToSpend = SyntheticLedger.generate(Math.max(1, commandCount), seed);
+    }
+
+    /**
+     * Returns the next command of the script, given that {@code shownRecordCount} records are shown.
+     * Edits and deletions only refer to the records shown, and become new spending if no record is shown.
+     */
+    public String next(int shownRecordCount) {
+        int kind = random.nextInt(TOTAL_WEIGHT);
+        if (kind < SPEND_WEIGHT) {
+            return spend();
+        }
+        kind -= SPEND_WEIGHT;
+        if (kind < EDIT_WEIGHT) {
+            return shownRecordCount == 0 ? spend() : EditCommand.COMMAND_WORD + " " + pickIndex(shownRecordCount)
+                    + " " + PREFIX_AMOUNT + nextRecordToSpend().getAmount();
+        }
+        kind -= EDIT_WEIGHT;
+        if (kind < DELETE_WEIGHT) {
+            return shownRecordCount == 0 ? spend() : DeleteCommand.COMMAND_WORD + " " + pickIndex(shownRecordCount);
+        }
+        kind -= DELETE_WEIGHT;
+        if (kind < SEARCH_WEIGHT) {
+            return search();
+        }
+        kind -= SEARCH_WEIGHT;
+        if (kind < LIST_WEIGHT) {
+            return ListCommand.COMMAND_WORD;
+        }
+        kind -= LIST_WEIGHT;
+        if (kind < SUMMARY_WEIGHT) {
+            return SummaryCommand.COMMAND_WORD + " " + PREFIX_PERIOD_AMOUNT + (random.nextInt(12) + 1) + " "
+                    + PREFIX_PERIOD + "m";
+        }
+        kind -= SUMMARY_WEIGHT;
+        return kind < UNDO_WEIGHT ? UndoCommand.COMMAND_WORD : RedoCommand.COMMAND_WORD;
+    }
+
+    private String spend() {
+        Record record = nextRecordToSpend();
+        return SpendCommand.COMMAND_WORD + " " + PREFIX_NAME + record.getName() + " " + PREFIX_AMOUNT
+                + record.getAmount() + " " + PREFIX_DATE + record.getDate() + " " + PREFIX_CATEGORY
+                + record.getCategory();
+    }
+
+    private String search() {
+        Record record = nextRecordToSpend();
+        switch (random.nextInt(3)) {
+        case 0:
+            return SearchCommand.COMMAND_WORD + " " + COMMAND_FLAG_NAME + " "
+                    + record.getName().toString().split(" ")[0];
+        case 1:
+            return SearchCommand.COMMAND_WORD + " " + COMMAND_FLAG_CATEGORY + " " + record.getCategory();
+        default:
+            return SearchCommand.COMMAND_WORD + " " + COMMAND_FLAG_DATE + " " + record.getDate();
+        }
+    }
+
+    private int pickIndex(int shownRecordCount) {
+        return random.nextInt(shownRecordCount) + 1;
+    }
+
+    private Record nextRecordToSpend() {
+        Record record = recordsToSpend.get(nextRecordToSpend);
+        nextRecordToSpend = (nextRecordToSpend + 1) % recordsToSpend.size();
+        return record;
+    }
+
+}
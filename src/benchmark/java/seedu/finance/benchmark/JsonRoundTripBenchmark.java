@@ -0,0 +1,65 @@
+package seedu.finance.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.finance.commons.exceptions.DataConversionException;
+import seedu.finance.model.FinanceTracker;
+import seedu.finance.model.ReadOnlyFinanceTracker;
+import seedu.finance.model.record.Record;
+import seedu.finance.storage.JsonFinanceTrackerStorage;
+
+/**
+ * Measures saving a ledger to, and reading it back from, a JSON data file the way the app does, which converts
+ * every record to and from {@code JsonAdaptedRecord} through {@code JsonSerializableFinanceTracker}.
+ */
+public class JsonRoundTripBenchmark {
+
+    private final Microbenchmark microbenchmark = new Microbenchmark(1, 3);
+    private final FinanceTracker financeTracker;
+
+    public JsonRoundTripBenchmark(List<Record> ledger) {
+        financeTracker = SyntheticLedger.toFinanceTracker(ledger);
+    }
+
+    /**
+     * Runs all benchmarks in this class.
+     */
+    public void run() throws IOException {
+        String ledgerSize = " (" + financeTracker.getRecordList().size() + " records)";
+        System.out.println("== JSON round trip" + ledgerSize + " ==");
+
+        Path dataFile = Files.createTempFile("benchmark", ".json");
+        try {
+            JsonFinanceTrackerStorage storage = new JsonFinanceTrackerStorage(dataFile);
+            microbenchmark.run("JsonFinanceTrackerStorage#saveFinanceTracker" + ledgerSize, 1, () -> {
+                save(storage);
+                return 1;
+            });
+            microbenchmark.run("JsonFinanceTrackerStorage#readFinanceTracker" + ledgerSize, 1, () ->
+                    read(storage).getRecordList().size());
+        } finally {
+            Files.deleteIfExists(dataFile);
+        }
+    }
+
+    private void save(JsonFinanceTrackerStorage storage) {
+        try {
+            storage.saveFinanceTracker(financeTracker);
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private ReadOnlyFinanceTracker read(JsonFinanceTrackerStorage storage) {
+        try {
+            return storage.readFinanceTracker().orElseThrow(IllegalStateException::new);
+        } catch (DataConversionException dce) {
+            throw new IllegalStateException(dce);
+        }
+    }
+
+}
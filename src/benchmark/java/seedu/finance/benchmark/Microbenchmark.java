@@ -0,0 +1,76 @@
+package seedu.finance.benchmark;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * A minimal JMH-style harness: runs warmup iterations so that the JIT settles,
+ * then reports the average time per operation over the measurement iterations.
+ */
+public class Microbenchmark {
+
+    private static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10;
+
+    /** Results are accumulated here so that the JIT cannot eliminate the benchmarked code. */
+    private static volatile int sink;
+    /** The average nanoseconds per operation of every benchmark run so far, in the order they were run. */
+    private static final Map<String, Double> results = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+
+    public Microbenchmark() {
+        this(DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASUREMENT_ITERATIONS);
+    }
+
+    public Microbenchmark(int warmupIterations, int measurementIterations) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+    }
+
+    /**
+     * Runs {@code operation} {@code opsPerIteration} times per iteration and prints the average
+     * nanoseconds per operation under {@code name}.
+     *
+     * @return the average nanoseconds per operation.
+     */
+    public double run(String name, int opsPerIteration, IntSupplier operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(opsPerIteration, operation);
+        }
+
+        long totalNanos = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            totalNanos += runIteration(opsPerIteration, operation);
+        }
+
+        double nanosPerOp = (double) totalNanos / ((long) measurementIterations * opsPerIteration);
+        System.out.println(String.format("%-70s %14.1f ns/op", name, nanosPerOp));
+        results.put(name, nanosPerOp);
+        return nanosPerOp;
+    }
+
+    /**
+     * Returns the average nanoseconds per operation of every benchmark run so far, by name.
+     */
+    public static Map<String, Double> getResults() {
+        synchronized (results) {
+            return new LinkedHashMap<>(results);
+        }
+    }
+
+    private static long runIteration(int opsPerIteration, IntSupplier operation) {
+        int result = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < opsPerIteration; i++) {
+            result += operation.getAsInt();
+        }
+        long elapsed = System.nanoTime() - start;
+        sink += result;
+        return elapsed;
+    }
+
+}
@@ -0,0 +1,57 @@
+package seedu.finance.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.finance.model.record.AndPredicate;
+import seedu.finance.model.record.CategoryContainsKeywordsPredicate;
+import seedu.finance.model.record.DateContainsKeywordsPredicate;
+import seedu.finance.model.record.NameContainsKeywordsPredicate;
+import seedu.finance.model.record.OrPredicate;
+import seedu.finance.model.record.Record;
+
+/**
+ * Measures filtering a ledger with the predicates used by the {@code search} command, one scan of the whole
+ * ledger per operation.
+ */
+public class PredicateBenchmark {
+
+    private final Microbenchmark microbenchmark = new Microbenchmark();
+    private final List<Record> records;
+
+    public PredicateBenchmark(List<Record> ledger) {
+        records = ledger;
+    }
+
+    /**
+     * Runs all benchmarks in this class.
+     */
+    public void run() {
+        String ledgerSize = " (" + records.size() + " records)";
+        System.out.println("== Predicates" + ledgerSize + " ==");
+
+        Predicate<Record> byName = new NameContainsKeywordsPredicate(Arrays.asList("rice", "tea"));
+        Predicate<Record> byCategory = new CategoryContainsKeywordsPredicate(Arrays.asList("food"));
+        Predicate<Record> byDate = new DateContainsKeywordsPredicate(Arrays.asList("01/06/2017", "02/06/2017"));
+
+        microbenchmark.run("NameContainsKeywordsPredicate" + ledgerSize, 1, () -> countMatches(byName));
+        microbenchmark.run("CategoryContainsKeywordsPredicate" + ledgerSize, 1, () -> countMatches(byCategory));
+        microbenchmark.run("DateContainsKeywordsPredicate" + ledgerSize, 1, () -> countMatches(byDate));
+        microbenchmark.run("AndPredicate (name and category)" + ledgerSize, 1, () ->
+                countMatches(new AndPredicate(Arrays.asList(byName, byCategory))));
+        microbenchmark.run("OrPredicate (name or date)" + ledgerSize, 1, () ->
+                countMatches(new OrPredicate(Arrays.asList(byName, byDate))));
+    }
+
+    private int countMatches(Predicate<Record> predicate) {
+        int count = 0;
+        for (Record record : records) {
+            if (predicate.test(record)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+}
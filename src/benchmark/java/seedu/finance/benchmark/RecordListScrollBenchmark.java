@@ -0,0 +1,116 @@
+package seedu.finance.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.function.IntSupplier;
+
+import org.testfx.api.FxToolkit;
+
+import com.sun.management.ThreadMXBean;
+
+import guitests.guihandles.RecordListPanelHandle;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.finance.model.record.Record;
+import seedu.finance.ui.RecordListPanel;
+
+/**
+ * Measures scrolling a {@code RecordListPanel} of {@value #RECORD_COUNT} records in jumps, laying out the list after
+ * every jump as a frame would. Reports the mean frame time, and the longest frame and the memory allocated on the
+ * JavaFX application thread per frame over one more pass through the list.
+ *
+ * Run with {@code -Dtestfx.headless=true} to use the headless Monocle toolkit.
+ */
+public class RecordListScrollBenchmark {
+
+    private static final int RECORD_COUNT = 100_000;
+    private static final int FRAMES_PER_ITERATION = 500;
+    private static final int WINDOW_WIDTH = 400;
+    private static final int WINDOW_HEIGHT = 600;
+    private static final long ALLOCATION_UNAVAILABLE = -1;
+
+    private final Microbenchmark microbenchmark = new Microbenchmark(2, 5);
+    private final List<Record> records = SyntheticLedger.generate(RECORD_COUNT);
+
+    /**
+     * Runs all benchmarks in this class.
+     */
+    public void run() {
+        try {
+            FxToolkit.registerPrimaryStage();
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("The JavaFX toolkit did not start", e);
+        }
+
+        System.out.println("== RecordListPanel scrolling (" + RECORD_COUNT + " records) ==");
+        UiConstructionBenchmark.runOnFxThread(() -> {
+            Stage stage = new Stage();
+            try {
+                runScrollBenchmark(stage);
+            } finally {
+                stage.close();
+            }
+            return null;
+        });
+    }
+
+    private void runScrollBenchmark(Stage stage) {
+        RecordListPanel recordListPanel = new RecordListPanel(FXCollections.observableArrayList(records),
+                new SimpleObjectProperty<>(), record -> {});
+        stage.setScene(new Scene(recordListPanel.getRoot(), WINDOW_WIDTH, WINDOW_HEIGHT));
+        stage.show();
+        ListView<?> recordListView =
+                (ListView<?>) recordListPanel.getRoot().lookup(RecordListPanelHandle.RECORD_LIST_VIEW_ID);
+
+        int step = RECORD_COUNT / FRAMES_PER_ITERATION;
+        int[] frame = { 0 };
+        IntSupplier scrollFrame = () -> {
+            int index = (frame[0]++ % FRAMES_PER_ITERATION) * step;
+            recordListView.scrollTo(index);
+            recordListView.layout();
+            return index;
+        };
+        microbenchmark.run("RecordListPanel scroll frame (" + RECORD_COUNT + " records)", FRAMES_PER_ITERATION,
+                scrollFrame);
+
+        long maxFrameNanos = 0;
+        long allocatedBytesBefore = measureAllocatedBytesOfCurrentThread();
+        for (int i = 0; i < FRAMES_PER_ITERATION; i++) {
+            long start = System.nanoTime();
+            scrollFrame.getAsInt();
+            maxFrameNanos = Math.max(maxFrameNanos, System.nanoTime() - start);
+        }
+        long allocatedBytesAfter = measureAllocatedBytesOfCurrentThread();
+
+        System.out.println(String.format("%-70s %14.2f ms", "RecordListPanel longest scroll frame",
+                maxFrameNanos / 1e6));
+        if (allocatedBytesBefore == ALLOCATION_UNAVAILABLE || allocatedBytesAfter == ALLOCATION_UNAVAILABLE) {
+            System.out.println("Allocation per scroll frame is not counted by this JVM");
+        } else {
+            System.out.println(String.format("%-70s %14.1f KB", "RecordListPanel allocation per scroll frame",
+                    (allocatedBytesAfter - allocatedBytesBefore) / 1024.0 / FRAMES_PER_ITERATION));
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by this thread so far, or {@code ALLOCATION_UNAVAILABLE} if the JVM does
+     * not count them.
+     */
+    private static long measureAllocatedBytesOfCurrentThread() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof ThreadMXBean)) {
+            return ALLOCATION_UNAVAILABLE;
+        }
+        ThreadMXBean allocationCountingBean = (ThreadMXBean) threadBean;
+        if (!allocationCountingBean.isThreadAllocatedMemorySupported()
+                || !allocationCountingBean.isThreadAllocatedMemoryEnabled()) {
+            return ALLOCATION_UNAVAILABLE;
+        }
+        return allocationCountingBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
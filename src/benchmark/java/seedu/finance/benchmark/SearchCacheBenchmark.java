@@ -0,0 +1,66 @@
+package seedu.finance.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.finance.model.ModelManager;
+import seedu.finance.model.UserPrefs;
+import seedu.finance.model.record.CategoryContainsKeywordsPredicate;
+import seedu.finance.model.record.NameContainsKeywordsPredicate;
+import seedu.finance.model.record.Record;
+
+/**
+ * Measures searching a ledger through {@code ModelManager#updateFilteredRecordList}: a search that misses the search
+ * result cache, a search whose cached result replaces another search shown, and a search for the records already
+ * shown. The last is left as it is without testing any record, so its time should not grow with the ledger.
+ */
+public class SearchCacheBenchmark {
+
+    private static final int REPEATED_SEARCHES_PER_ITERATION = 1000;
+
+    private final Microbenchmark microbenchmark = new Microbenchmark();
+    private final ModelManager model;
+    private int searchCount;
+
+    public SearchCacheBenchmark(List<Record> ledger) {
+        model = new ModelManager(SyntheticLedger.toFinanceTracker(ledger), new UserPrefs());
+    }
+
+    /**
+     * Runs all benchmarks in this class.
+     */
+    public void run() {
+        String ledgerSize = " (" + model.getRecordCount() + " records)";
+        System.out.println("== Search result cache" + ledgerSize + " ==");
+
+        microbenchmark.run("search, cache miss" + ledgerSize, 1, () -> {
+            model.clearSearchCache();
+            return search(searchCount++ % 2 == 0 ? byName() : byCategory());
+        });
+        microbenchmark.run("search, cache hit replacing another search" + ledgerSize, 1, () ->
+                search(searchCount++ % 2 == 0 ? byName() : byCategory()));
+
+        search(byName());
+        microbenchmark.run("search, cache hit for the records shown" + ledgerSize, REPEATED_SEARCHES_PER_ITERATION,
+                () -> search(byName()));
+    }
+
+    /**
+     * Searches with {@code predicate} and returns the number of records found.
+     */
+    private int search(Predicate<Record> predicate) {
+        model.updateFilteredRecordList(predicate);
+        return model.getFilteredRecordCount();
+    }
+
+    // a new predicate for every search, as the search command parses one from its arguments every time
+    private static Predicate<Record> byName() {
+        return new NameContainsKeywordsPredicate(Arrays.asList("rice", "tea"));
+    }
+
+    private static Predicate<Record> byCategory() {
+        return new CategoryContainsKeywordsPredicate(Arrays.asList("food"));
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.finance.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.finance.logic.parser.comparator.RecordAmountComparator;
+import seedu.finance.logic.parser.comparator.RecordCategoryComparator;
+import seedu.finance.logic.parser.comparator.RecordDateComparator;
+import seedu.finance.logic.parser.comparator.RecordMultiKeyComparator;
+import seedu.finance.logic.parser.comparator.RecordNameComparator;
+import seedu.finance.model.record.Record;
+
+/**
+ * Measures sorting a ledger by each of the record comparators, and compares sorting by category, then date, then
+ * amount using comparators that unwrap, re-parse and case-fold the record fields on every comparison against the
+ * comparators that use the keys precomputed by the fields.
+ */
+public class SortBenchmark {
+
+    private final Microbenchmark microbenchmark = new Microbenchmark(2, 5);
+    private final List<Record> records;
+
+    public SortBenchmark(List<Record> ledger) {
+        records = ledger;
+    }
+
+    /**
+     * Runs all benchmarks in this class.
+     */
+    public void run() {
+        String ledgerSize = " (" + records.size() + " records)";
+        System.out.println("== Sort" + ledgerSize + " ==");
+
+        microbenchmark.run("sort by name" + ledgerSize, 1, () -> sortCopy(new RecordNameComparator()));
+        microbenchmark.run("sort by amount" + ledgerSize, 1, () -> sortCopy(new RecordAmountComparator()));
+        microbenchmark.run("sort by date" + ledgerSize, 1, () -> sortCopy(new RecordDateComparator()));
+        microbenchmark.run("sort by category" + ledgerSize, 1, () -> sortCopy(new RecordCategoryComparator()));
+
+        // the comparisons made by the comparators before the keys were precomputed
+        Comparator<Record> byCategory = (r1, r2) ->
+                r1.getCategory().toString().compareToIgnoreCase(r2.getCategory().toString());
+        Comparator<Record> unwrappingComparator = byCategory
+                .thenComparing((r1, r2) -> r2.getDate().getDate().compareTo(r1.getDate().getDate()))
+                .thenComparing((r1, r2) -> Float.compare(Float.parseFloat(r2.getAmount().toString()),
+                        Float.parseFloat(r1.getAmount().toString())));
+        Comparator<Record> precomputedKeyComparator = new RecordMultiKeyComparator(Arrays.asList(
+                new RecordCategoryComparator(), new RecordDateComparator(), new RecordAmountComparator()));
+
+        microbenchmark.run("sort by category, date and amount (comparator chain, unwrapping)" + ledgerSize, 1, () ->
+                sortCopy(unwrappingComparator));
+        microbenchmark.run("sort by category, date and amount (multi-key, precomputed keys)" + ledgerSize, 1, () ->
+                sortCopy(precomputedKeyComparator));
+    }
+
+    private int sortCopy(Comparator<Record> comparator) {
+        List<Record> copy = new ArrayList<>(records);
+        copy.sort(comparator);
+        return copy.get(0).hashCode();
+    }
+
+}
@@ -0,0 +1,249 @@
+package seedu.finance.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import seedu.finance.commons.core.Config;
+import seedu.finance.commons.core.StartupTimer;
+import seedu.finance.commons.util.ConfigUtil;
+import seedu.finance.commons.util.FileUtil;
+import seedu.finance.commons.util.JsonUtil;
+import seedu.finance.model.UserPrefs;
+import seedu.finance.storage.JsonFinanceTrackerStorage;
+import seedu.finance.storage.JsonUserPrefsStorage;
+
+/**
+ * Entry point of the {@code startupBenchmark} Gradle task. Measures cold starts of the app on headless JavaFX, each in
+ * a new JVM, with data files of synthetic ledgers of the sizes in the system property {@value #LEDGER_SIZES_PROPERTY}.
+ * Plots the time to the first interactive frame against the number of records, and writes the median end of each
+ * startup phase for every ledger size as JSON to the file in the system property
+ * {@value BenchmarkRunner#RESULTS_FILE_PROPERTY}.
+ */
+public class StartupBenchmark {
+
+    public static final String LEDGER_SIZES_PROPERTY = "benchmark.startup.ledgerSizes";
+    public static final String LAUNCHES_PROPERTY = "benchmark.startup.launches";
+
+    private static final String DEFAULT_LEDGER_SIZES = "0,1000,10000,50000,100000";
+    private static final int DEFAULT_LAUNCHES = 3;
+    private static final String DEFAULT_RESULTS_FILE = "build/benchmark/startup.json";
+    private static final long LAUNCH_TIMEOUT_MILLIS = 180_000;
+    private static final int PLOT_WIDTH = 60;
+    // runs JavaFX without a screen, as the headless Gradle task does for the tests
+    private static final List<String> HEADLESS_OPTIONS = Arrays.asList("-Dtestfx.headless=true",
+            "-Dglass.platform=Monocle", "-Dmonocle.platform=Headless", "-Dprism.order=sw", "-Dprism.text=t2k");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int launches = Math.max(1, Integer.getInteger(LAUNCHES_PROPERTY, DEFAULT_LAUNCHES));
+        StartupResults results = new StartupResults(launches);
+        for (String ledgerSize : System.getProperty(LEDGER_SIZES_PROPERTY, DEFAULT_LEDGER_SIZES).split(",")) {
+            int recordCount = Integer.parseInt(ledgerSize.trim());
+            Path dataDirectory = Files.createTempDirectory("startup");
+            try {
+                Path configFile = writeDataFiles(dataDirectory, recordCount);
+                List<Map<String, Long>> phaseEndsOfLaunches = new ArrayList<>();
+                for (int i = 0; i < launches; i++) {
+                    phaseEndsOfLaunches.add(launch(dataDirectory, configFile));
+                }
+                results.ledgerSizes.add(new LedgerSizeResult(recordCount,
+                        Files.size(dataDirectory.resolve("financetracker.json")), getMedians(phaseEndsOfLaunches)));
+            } finally {
+                deleteDirectory(dataDirectory.toFile());
+            }
+            System.out.println("Measured startup with " + recordCount + " records");
+        }
+
+        printPhases(results.ledgerSizes);
+        plotFirstInteractiveFrame(results.ledgerSizes);
+        Path resultsFile = Paths.get(System.getProperty(BenchmarkRunner.RESULTS_FILE_PROPERTY, DEFAULT_RESULTS_FILE));
+        FileUtil.createParentDirsOfFile(resultsFile);
+        JsonUtil.saveJsonFile(results, resultsFile);
+        System.out.println("Results written to " + resultsFile.toAbsolutePath());
+    }
+
+    /**
+     * Writes a data file of a ledger of {@code recordCount} records to {@code dataDirectory}, with the preferences and
+     * config files that point the app to it, and returns the path of the config file.
+     */
+    private static Path writeDataFiles(Path dataDirectory, int recordCount) throws IOException {
+        Path dataFile = dataDirectory.resolve("financetracker.json");
+        new JsonFinanceTrackerStorage(dataFile).saveFinanceTracker(
+                SyntheticLedger.toFinanceTracker(SyntheticLedger.generate(recordCount)));
+
+        Path userPrefsFile = dataDirectory.resolve("preferences.json");
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFinanceTrackerFilePath(dataFile);
+        new JsonUserPrefsStorage(userPrefsFile).saveUserPrefs(userPrefs);
+
+        Path configFile = dataDirectory.resolve("config.json");
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFile);
+        ConfigUtil.saveConfig(config, configFile);
+        return configFile;
+    }
+
+    /**
+     * Starts the app in a new JVM in {@code dataDirectory}, where it also writes its log, and returns how long after
+     * the start each phase of the startup ended.
+     */
+    private static Map<String, Long> launch(Path dataDirectory, Path configFile)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.addAll(HEADLESS_OPTIONS);
+        command.add(StartupProbe.class.getName());
+        command.add("--config=" + configFile);
+        Process process = new ProcessBuilder(command)
+                .directory(dataDirectory.toFile())
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        Map<String, Long> phaseEndMillis = new LinkedHashMap<>();
+        try (BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith(StartupProbe.PHASE_LINE_PREFIX)) {
+                    String[] endAndPhase = line.substring(StartupProbe.PHASE_LINE_PREFIX.length()).split(" ", 2);
+                    phaseEndMillis.put(endAndPhase[1], Long.parseLong(endAndPhase[0]));
+                }
+            }
+        }
+        if (!process.waitFor(LAUNCH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+        }
+        if (!phaseEndMillis.containsKey(StartupTimer.FIRST_INTERACTIVE_FRAME)) {
+            throw new IllegalStateException("The app did not show its first frame, phases ended: " + phaseEndMillis);
+        }
+        return phaseEndMillis;
+    }
+
+    /**
+     * Returns the median end of each phase that ended in every launch, in the order of the first launch.
+     */
+    private static Map<String, Long> getMedians(List<Map<String, Long>> phaseEndsOfLaunches) {
+        Map<String, Long> medians = new LinkedHashMap<>();
+        for (String phase : phaseEndsOfLaunches.get(0).keySet()) {
+            List<Long> phaseEnds = new ArrayList<>();
+            for (Map<String, Long> phaseEndMillis : phaseEndsOfLaunches) {
+                if (phaseEndMillis.containsKey(phase)) {
+                    phaseEnds.add(phaseEndMillis.get(phase));
+                }
+            }
+            if (phaseEnds.size() == phaseEndsOfLaunches.size()) {
+                Collections.sort(phaseEnds);
+                medians.put(phase, phaseEnds.get(phaseEnds.size() / 2));
+            }
+        }
+        return medians;
+    }
+
+    /**
+     * Prints how long each phase took with each ledger size, from the median ends of the phases.
+     */
+    private static void printPhases(List<LedgerSizeResult> ledgerSizes) {
+        StringBuilder header = new StringBuilder(String.format("%-28s", "phase (ms) \\ records"));
+        ledgerSizes.forEach(ledgerSize -> header.append(String.format(" %9d", ledgerSize.recordCount)));
+        System.out.println(header);
+
+        for (String phase : ledgerSizes.get(0).medianPhaseEndMillis.keySet()) {
+            StringBuilder row = new StringBuilder(String.format("%-28s", phase));
+            for (LedgerSizeResult ledgerSize : ledgerSizes) {
+                Long phaseMillis = ledgerSize.getPhaseMillis().get(phase);
+                row.append(phaseMillis == null ? String.format(" %9s", "-") : String.format(" %9d", phaseMillis));
+            }
+            System.out.println(row);
+        }
+    }
+
+    /**
+     * Plots the median time to the first interactive frame against the number of records.
+     */
+    private static void plotFirstInteractiveFrame(List<LedgerSizeResult> ledgerSizes) {
+        long maxMillis = 1;
+        for (LedgerSizeResult ledgerSize : ledgerSizes) {
+            maxMillis = Math.max(maxMillis, ledgerSize.getFirstInteractiveFrameMillis());
+        }
+
+        System.out.println("Time to the " + StartupTimer.FIRST_INTERACTIVE_FRAME + " against the number of records:");
+        for (LedgerSizeResult ledgerSize : ledgerSizes) {
+            long millis = ledgerSize.getFirstInteractiveFrameMillis();
+            int barLength = (int) (millis * PLOT_WIDTH / maxMillis);
+            System.out.println(String.format("%9d records |%-" + PLOT_WIDTH + "s| %d ms", ledgerSize.recordCount,
+                    String.join("", Collections.nCopies(barLength, "#")), millis));
+        }
+    }
+
+    private static void deleteDirectory(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * The startup measurements with one ledger size, as written to the results file.
+     */
+    private static class LedgerSizeResult {
+        private final int recordCount;
+        private final long dataFileBytes;
+        private final Map<String, Long> medianPhaseEndMillis;
+
+        private LedgerSizeResult(int recordCount, long dataFileBytes, Map<String, Long> medianPhaseEndMillis) {
+            this.recordCount = recordCount;
+            this.dataFileBytes = dataFileBytes;
+            this.medianPhaseEndMillis = medianPhaseEndMillis;
+        }
+
+        private long getFirstInteractiveFrameMillis() {
+            return medianPhaseEndMillis.getOrDefault(StartupTimer.FIRST_INTERACTIVE_FRAME, 0L);
+        }
+
+        /**
+         * Returns how long each phase took, from the end of the phase before it or from the start.
+         */
+        private Map<String, Long> getPhaseMillis() {
+            Map<String, Long> phaseMillis = new LinkedHashMap<>();
+            long previousEndMillis = 0;
+            for (Map.Entry<String, Long> phaseEnd : medianPhaseEndMillis.entrySet()) {
+                phaseMillis.put(phaseEnd.getKey(), phaseEnd.getValue() - previousEndMillis);
+                previousEndMillis = phaseEnd.getValue();
+            }
+            return phaseMillis;
+        }
+    }
+
+    /**
+     * The results of one run of the benchmark, as written to the results file.
+     */
+    private static class StartupResults {
+        private final String startedAt = Instant.now().toString();
+        private final String javaVersion = System.getProperty("java.version");
+        private final int launchesPerLedgerSize;
+        private final List<LedgerSizeResult> ledgerSizes = new ArrayList<>();
+
+        private StartupResults(int launchesPerLedgerSize) {
+            this.launchesPerLedgerSize = launchesPerLedgerSize;
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package seedu.finance.benchmark;
+
+import java.util.Map;
+
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import seedu.finance.MainApp;
+import seedu.finance.commons.core.StartupTimer;
+
+/**
+ * Starts the app once, prints how long after the start each phase of its startup ended, and exits.
+ * Launched by {@link StartupBenchmark} in a new JVM for every measurement, so that every start is a cold start.
+ */
+public class StartupProbe extends MainApp {
+
+    public static final String PHASE_LINE_PREFIX = "Startup phase ended after ms: ";
+
+    private static final long TIMEOUT_MILLIS = 120_000;
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    public static void main(String[] args) {
+        launch(args);
+        System.exit(0);
+    }
+
+    @Override
+    public void start(Stage primaryStage) {
+        super.start(primaryStage);
+        Thread reporter = new Thread(this::reportWhenPanelsBuilt, "Startup reporter");
+        reporter.setDaemon(true);
+        reporter.start();
+    }
+
+    /**
+     * Waits until every panel of the main window is built, then prints the end of each phase and stops the app.
+     */
+    private void reportWhenPanelsBuilt() {
+        long deadlineMillis = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Map<String, Long> phaseEndMillis = StartupTimer.getInstance().getPhaseEndMillis();
+        while (!phaseEndMillis.containsKey(StartupTimer.DEFERRED_PANELS_BUILT)
+                && System.currentTimeMillis() < deadlineMillis) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException ie) {
+                break;
+            }
+            phaseEndMillis = StartupTimer.getInstance().getPhaseEndMillis();
+        }
+
+        phaseEndMillis.forEach((phase, endMillis) -> System.out.println(PHASE_LINE_PREFIX + endMillis + " " + phase));
+        System.out.flush();
+        Platform.exit();
+    }
+
+}
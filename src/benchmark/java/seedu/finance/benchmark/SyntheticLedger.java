@@ -0,0 +1,148 @@
+package seedu.finance.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import seedu.finance.model.FinanceTracker;
+import seedu.finance.model.record.Amount;
+import seedu.finance.model.record.Date;
+import seedu.finance.model.record.Description;
+import seedu.finance.model.record.Record;
+import seedu.finance.testutil.RecordBuilder;
+import seedu.finance.testutil.TypicalRecords;
+
+/**
+ * Generates ledgers of realistic records for the benchmarks. The same size and seed always give the same records,
+ * so that different commits are measured against the same data.
+ *
+ * Each record is a purchase of one of a fixed set of items, built with {@code RecordBuilder} from the typical
+ * records and a list of everyday purchases. Frequent items are bought more often, their amounts vary around the
+ * usual price of the item, and the records are spread over three years in roughly the order they would be entered.
+ * The fields are shared between records where they are equal, so that a million records fit in a default sized heap.
+ */
+public class SyntheticLedger {
+
+    public static final int[] STANDARD_SIZES = { 10_000, 100_000, 1_000_000 };
+    public static final long DEFAULT_SEED = 2103;
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2016, 1, 1);
+    private static final int DAYS_COVERED = 3 * 365;
+    // how many days a record may be entered before or after the records around it
+    private static final int MAX_DAYS_OUT_OF_ORDER = 7;
+    private static final int TYPICAL_RECORD_WEIGHT = 1;
+
+    // name, category, usual price and how often the item is bought relative to the others
+    private static final Object[][] EVERYDAY_PURCHASES = {
+        { "Chicken Rice", "food", "3.50", 30 },
+        { "Kopi", "food", "1.20", 40 },
+        { "Bubble Tea", "food", "4.80", 12 },
+        { "Dinner with Friends", "food", "28.00", 6 },
+        { "Weekly Groceries", "groceries", "62.40", 8 },
+        { "Milk and Bread", "groceries", "6.75", 10 },
+        { "Bus Fare", "transport", "1.45", 35 },
+        { "MRT Fare", "transport", "1.83", 35 },
+        { "Taxi Home", "transport", "14.60", 5 },
+        { "Phone Bill", "bills", "42.00", 1 },
+        { "Electricity Bill", "bills", "96.30", 1 },
+        { "Movie Ticket", "leisure", "13.50", 3 },
+        { "Concert Ticket", "leisure", "128.00", 1 },
+        { "Running Shoes", "clothes", "139.00", 1 },
+        { "T Shirt", "clothes", "19.90", 2 },
+        { "Textbook", "education", "54.00", 1 }
+    };
+    private static final String[] DESCRIPTIONS = { "", "", "", "", "paid by card", "shared with friends", "on sale" };
+
+    private final List<Record> templates = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private final Date[] dates = new Date[DAYS_COVERED];
+    private final Description[] descriptions = new Description[DESCRIPTIONS.length];
+    private final Map<Long, Amount> amounts = new HashMap<>();
+    private final Random random;
+    private int totalWeight;
+
+    private SyntheticLedger(long seed) {
+        random = new Random(seed);
+        for (Record typicalRecord : TypicalRecords.getTypicalRecords()) {
+            addTemplate(typicalRecord, TYPICAL_RECORD_WEIGHT);
+        }
+        for (Object[] purchase : EVERYDAY_PURCHASES) {
+            addTemplate(new RecordBuilder().withName((String) purchase[0]).withCategory((String) purchase[1])
+                    .withAmount((String) purchase[2]).build(), (Integer) purchase[3]);
+        }
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = new Date(FIRST_DATE.plusDays(i));
+        }
+        for (int i = 0; i < descriptions.length; i++) {
+            descriptions[i] = new Description(DESCRIPTIONS[i]);
+        }
+    }
+
+    /**
+     * Returns a ledger of {@code size} records generated from {@link #DEFAULT_SEED}.
+     */
+    public static List<Record> generate(int size) {
+        return generate(size, DEFAULT_SEED);
+    }
+
+    /**
+     * Returns a ledger of {@code size} records generated from {@code seed}.
+     */
+    public static List<Record> generate(int size, long seed) {
+        return new SyntheticLedger(seed).generateRecords(size);
+    }
+
+    /**
+     * Returns a {@code FinanceTracker} with the records of {@code ledger}.
+     */
+    public static FinanceTracker toFinanceTracker(List<Record> ledger) {
+        FinanceTracker financeTracker = new FinanceTracker();
+        financeTracker.setRecords(ledger);
+        return financeTracker;
+    }
+
+    private void addTemplate(Record template, int weight) {
+        templates.add(template);
+        totalWeight += weight;
+        cumulativeWeights.add(totalWeight);
+    }
+
+    private List<Record> generateRecords(int size) {
+        List<Record> records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Record template = pickTemplate();
+            int day = (int) ((long) i * DAYS_COVERED / size)
+                    + random.nextInt(2 * MAX_DAYS_OUT_OF_ORDER + 1) - MAX_DAYS_OUT_OF_ORDER;
+            Date date = dates[Math.max(0, Math.min(DAYS_COVERED - 1, day))];
+            Description description = descriptions[random.nextInt(descriptions.length)];
+            records.add(new Record(template.getName(), varyAmount(template.getAmount()), date, description,
+                    template.getCategory()));
+        }
+        return records;
+    }
+
+    private Record pickTemplate() {
+        int target = random.nextInt(totalWeight);
+        int index = 0;
+        while (cumulativeWeights.get(index) <= target) {
+            index++;
+        }
+        return templates.get(index);
+    }
+
+    /**
+     * Returns an amount between half and one and a half times {@code usualAmount}, rounded to 10 cents for the
+     * cheaper items so that equal amounts are common, as they are in a real ledger.
+     */
+    private Amount varyAmount(Amount usualAmount) {
+        long usualCents = Math.round(usualAmount.getNumericValue() * 100);
+        long variedCents = Math.max(10, Math.round(usualCents * (0.5 + random.nextDouble())));
+        long cents = variedCents < 2000 ? variedCents / 10 * 10 : variedCents;
+        return amounts.computeIfAbsent(cents, unused ->
+                new Amount(String.format("%d.%02d", cents / 100, cents % 100)));
+    }
+
+}
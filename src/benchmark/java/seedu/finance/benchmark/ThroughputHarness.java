@@ -0,0 +1,267 @@
+package seedu.finance.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import seedu.finance.commons.core.Config;
+import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.commons.util.FileUtil;
+import seedu.finance.commons.util.JsonUtil;
+import seedu.finance.logic.CommandMetrics;
+import seedu.finance.logic.Logic;
+import seedu.finance.logic.LogicManager;
+import seedu.finance.logic.commands.exceptions.CommandException;
+import seedu.finance.logic.parser.exceptions.ParseException;
+import seedu.finance.model.ModelManager;
+import seedu.finance.model.UserPrefs;
+import seedu.finance.storage.JsonFinanceTrackerStorage;
+import seedu.finance.storage.JsonUserPrefsStorage;
+import seedu.finance.storage.StorageManager;
+
+/**
+ * Entry point of the {@code throughputBenchmark} Gradle task. Drives {@code LogicManager#execute} without a UI with a
+ * script of commands, against a synthetic ledger that is saved to a temporary data file after every change as in the
+ * app, so that the cost of saving and of the undo history is measured along with the commands themselves.
+ *
+ * The script is generated by {@link CommandMix}, or read from the file in the system property
+ * {@value #SCRIPT_FILE_PROPERTY}, one command per line. A warmup with a generated script is run first. The harness
+ * reports the commands executed per second, the 50th and 99th percentile latency and the bytes written to the data
+ * file per run of each command word, and the heap high-water mark, and writes them as JSON to the file in the system
+ * property {@value BenchmarkRunner#RESULTS_FILE_PROPERTY}.
+ */
+public class ThroughputHarness {
+
+    public static final String LEDGER_SIZE_PROPERTY = "benchmark.throughput.ledgerSize";
+    public static final String COMMAND_COUNT_PROPERTY = "benchmark.throughput.commandCount";
+    public static final String SCRIPT_FILE_PROPERTY = "benchmark.throughput.scriptFile";
+
+    private static final int DEFAULT_LEDGER_SIZE = 10_000;
+    private static final int DEFAULT_COMMAND_COUNT = 2_000;
+    private static final int WARMUP_COMMAND_COUNT = 200;
+    private static final String DEFAULT_RESULTS_FILE = "build/benchmark/throughput.json";
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final StorageManager storage;
+    private final Logic logic;
+    // sorted by command word so that the report lists the command words in a stable order
+    private final Map<String, CommandWordStatistics> statistics = new TreeMap<>();
+
+    private ThroughputHarness(int ledgerSize, Path dataDirectory) {
+        storage = new StorageManager(new JsonFinanceTrackerStorage(dataDirectory.resolve("financetracker.json")),
+                new JsonUserPrefsStorage(dataDirectory.resolve("preferences.json")));
+        logic = new LogicManager(new ModelManager(
+                SyntheticLedger.toFinanceTracker(SyntheticLedger.generate(ledgerSize)), new UserPrefs()), storage);
+    }
+
+    public static void main(String[] args) throws IOException {
+        // each command is logged at INFO level, which would otherwise be measured along with it
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        int ledgerSize = Integer.getInteger(LEDGER_SIZE_PROPERTY, DEFAULT_LEDGER_SIZE);
+        String scriptFile = System.getProperty(SCRIPT_FILE_PROPERTY);
+        List<String> script = scriptFile == null
+                ? null
+                : Files.readAllLines(Paths.get(scriptFile)).stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .collect(Collectors.toList());
+        int commandCount = script == null ? Integer.getInteger(COMMAND_COUNT_PROPERTY, DEFAULT_COMMAND_COUNT)
+                : script.size();
+
+        Path dataDirectory = Files.createTempDirectory("throughput");
+        try {
+            ThroughputHarness harness = new ThroughputHarness(ledgerSize, dataDirectory);
+            CommandMix warmupMix = new CommandMix(WARMUP_COMMAND_COUNT, SyntheticLedger.DEFAULT_SEED + 1);
+            harness.execute(WARMUP_COMMAND_COUNT, (index, shownRecordCount) -> warmupMix.next(shownRecordCount),
+                    false);
+
+            CommandMix commandMix = new CommandMix(commandCount, SyntheticLedger.DEFAULT_SEED);
+            CommandScript commandScript = script == null
+                    ? (index, shownRecordCount) -> commandMix.next(shownRecordCount)
+                    : (index, shownRecordCount) -> script.get(index);
+            ThroughputResults results = harness.measure(ledgerSize, commandCount, commandScript);
+
+            Path resultsFile = Paths.get(System.getProperty(BenchmarkRunner.RESULTS_FILE_PROPERTY,
+                    DEFAULT_RESULTS_FILE));
+            FileUtil.createParentDirsOfFile(resultsFile);
+            JsonUtil.saveJsonFile(results, resultsFile);
+            System.out.println("Results written to " + resultsFile.toAbsolutePath());
+        } finally {
+            deleteDirectory(dataDirectory.toFile());
+        }
+    }
+
+    /**
+     * Executes {@code commandCount} commands of {@code commandScript} while measuring them, and prints the results.
+     */
+    private ThroughputResults measure(int ledgerSize, int commandCount, CommandScript commandScript) {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .collect(Collectors.toList());
+        System.gc();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        CommandMetrics.getInstance().reset();
+
+        long startNanos = System.nanoTime();
+        execute(commandCount, commandScript, true);
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        // the pools peak at different times, so this is an upper bound of the heap used at any one time
+        long heapHighWaterMarkBytes = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            heapHighWaterMarkBytes += pool.getPeakUsage().getUsed();
+        }
+
+        ThroughputResults results = new ThroughputResults(ledgerSize, commandCount,
+                commandCount / (elapsedNanos / NANOS_PER_SECOND), heapHighWaterMarkBytes);
+        System.out.println("== LogicManager throughput (" + ledgerSize + " records, " + commandCount
+                + " commands) ==");
+        System.out.println(String.format("%.1f commands per second, heap high-water mark %d MB",
+                results.commandsPerSecond, heapHighWaterMarkBytes / (1024 * 1024)));
+        System.out.println(String.format("%-10s %8s %8s %10s %10s %14s",
+                "command", "runs", "failed", "p50 ms", "p99 ms", "bytes written"));
+        statistics.forEach((commandWord, commandWordStatistics) -> {
+            CommandWordResult result = commandWordStatistics.toResult();
+            results.commands.put(commandWord, result);
+            System.out.println(String.format("%-10s %8d %8d %10.3f %10.3f %14d", commandWord, result.runCount,
+                    result.failedCount, result.p50Millis, result.p99Millis, result.bytesWrittenPerRun));
+        });
+        System.out.println(CommandMetrics.getInstance().getReport());
+        return results;
+    }
+
+    /**
+     * Executes {@code commandCount} commands of {@code commandScript}, recording the latency and bytes written of
+     * each command if {@code isMeasured}. Commands that fail are counted as failed runs of their command word.
+     */
+    private void execute(int commandCount, CommandScript commandScript, boolean isMeasured) {
+        for (int i = 0; i < commandCount; i++) {
+            String commandText = commandScript.getCommand(i, logic.getFilteredRecordList().size());
+            long saveCountBefore = storage.getSaveCount();
+            boolean isSuccessful = true;
+            long startNanos = System.nanoTime();
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            if (!isMeasured) {
+                continue;
+            }
+            CommandWordStatistics commandWordStatistics = statistics.computeIfAbsent(
+                    commandText.split("\\s+", 2)[0], unused -> new CommandWordStatistics());
+            commandWordStatistics.latenciesNanos.add(elapsedNanos);
+            if (!isSuccessful) {
+                commandWordStatistics.failedCount++;
+            }
+            if (storage.getSaveCount() != saveCountBefore) {
+                commandWordStatistics.bytesWritten += storage.getLastSaveFileBytes();
+            }
+        }
+    }
+
+    private static void deleteDirectory(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+
+    /**
+     * Gives the command to execute at each position of a script.
+     */
+    @FunctionalInterface
+    private interface CommandScript {
+        String getCommand(int index, int shownRecordCount);
+    }
+
+    /**
+     * The measurements of the commands of one command word. Every latency is kept, as the percentiles of a
+     * few thousand commands are cheap to compute exactly.
+     */
+    private static class CommandWordStatistics {
+        private final List<Long> latenciesNanos = new ArrayList<>();
+        private long failedCount;
+        private long bytesWritten;
+
+        private CommandWordResult toResult() {
+            List<Long> sortedLatencies = new ArrayList<>(latenciesNanos);
+            Collections.sort(sortedLatencies);
+            return new CommandWordResult(sortedLatencies.size(), failedCount,
+                    getPercentile(sortedLatencies, 50) / NANOS_PER_MILLI,
+                    getPercentile(sortedLatencies, 99) / NANOS_PER_MILLI,
+                    bytesWritten / sortedLatencies.size());
+        }
+
+        private static long getPercentile(List<Long> sortedValues, double percentile) {
+            int rank = (int) Math.ceil(sortedValues.size() * percentile / 100);
+            return sortedValues.get(Math.max(0, rank - 1));
+        }
+    }
+
+    /**
+     * The results of one command word, as written to the results file.
+     */
+    private static class CommandWordResult {
+        private final long runCount;
+        private final long failedCount;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final long bytesWrittenPerRun;
+
+        private CommandWordResult(long runCount, long failedCount, double p50Millis, double p99Millis,
+                long bytesWrittenPerRun) {
+            this.runCount = runCount;
+            this.failedCount = failedCount;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.bytesWrittenPerRun = bytesWrittenPerRun;
+        }
+    }
+
+    /**
+     * The results of one run of the harness, as written to the results file.
+     */
+    private static class ThroughputResults {
+        private final String finishedAt = Instant.now().toString();
+        private final String javaVersion = System.getProperty("java.version");
+        private final int ledgerSize;
+        private final int commandCount;
+        private final double commandsPerSecond;
+        private final long heapHighWaterMarkBytes;
+        private final Map<String, CommandWordResult> commands = new LinkedHashMap<>();
+
+        private ThroughputResults(int ledgerSize, int commandCount, double commandsPerSecond,
+                long heapHighWaterMarkBytes) {
+            this.ledgerSize = ledgerSize;
+            this.commandCount = commandCount;
+            this.commandsPerSecond = commandsPerSecond;
+            this.heapHighWaterMarkBytes = heapHighWaterMarkBytes;
+        }
+    }
+
+}
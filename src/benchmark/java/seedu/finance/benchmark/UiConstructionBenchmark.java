@@ -0,0 +1,162 @@
+package seedu.finance.benchmark;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.testfx.api.FxToolkit;
+
+import javafx.application.Platform;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import javafx.scene.layout.Region;
+import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
+import seedu.finance.model.FinanceTracker;
+import seedu.finance.model.budget.Budget;
+import seedu.finance.model.record.Record;
+import seedu.finance.testutil.TypicalRecords;
+import seedu.finance.ui.BudgetPanel;
+import seedu.finance.ui.CommandBox;
+import seedu.finance.ui.RecordCard;
+import seedu.finance.ui.RecordListPanel;
+import seedu.finance.ui.ResultDisplay;
+import seedu.finance.ui.StatusBarFooter;
+import seedu.finance.ui.SummaryPanel;
+import seedu.finance.ui.UiPart;
+
+/**
+ * Measures how long the UI components take to construct on the JavaFX application thread.
+ * A record card loaded from {@code RecordListCard.fxml}, which this source set keeps as a baseline, is compared
+ * against a card built in code and against pointing an existing card at another record.
+ * The first construction of each startup panel is reported separately, as it also pays for class loading and,
+ * for the panels that are still loaded from FXML files, for parsing the file for the first time.
+ *
+ * Run with {@code -Dtestfx.headless=true} to use the headless Monocle toolkit.
+ */
+public class UiConstructionBenchmark {
+
+    private static final int CARDS_PER_ITERATION = 200;
+    private static final int PANELS_PER_ITERATION = 20;
+
+    private final Microbenchmark microbenchmark = new Microbenchmark(3, 5);
+    private final List<Record> records = TypicalRecords.getTypicalRecords();
+
+    /**
+     * Runs all benchmarks in this class.
+     */
+    public void run() {
+        try {
+            FxToolkit.registerPrimaryStage();
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("The JavaFX toolkit did not start", e);
+        }
+
+        System.out.println("== UI construction ==");
+        runOnFxThread(() -> {
+            reportFirstConstruction();
+            runCardBenchmarks();
+            runPanelBenchmarks();
+            return null;
+        });
+    }
+
+    /**
+     * Reports the first construction of every component, before the JIT or any cache has warmed up.
+     */
+    private void reportFirstConstruction() {
+        reportFirstConstruction("first ResultDisplay", ResultDisplay::new);
+        reportFirstConstruction("first CommandBox", () -> new CommandBox(commandText -> null, new ArrayList<>()));
+        reportFirstConstruction("first StatusBarFooter", () ->
+                new StatusBarFooter(Paths.get("data", "finance.json"), new FinanceTracker()));
+        reportFirstConstruction("first BudgetPanel", () -> new BudgetPanel(new Budget()));
+        reportFirstConstruction("first RecordListPanel", this::createRecordListPanel);
+        reportFirstConstruction("first SummaryPanel", this::createSummaryPanel);
+        reportFirstConstruction("first RecordCard (FXML)", FxmlRecordCard::new);
+        reportFirstConstruction("first RecordCard (code)", () -> new RecordCard(records.get(0), 1));
+    }
+
+    /**
+     * Compares creating a record card from FXML and in code against reusing one card for another record.
+     */
+    private void runCardBenchmarks() {
+        microbenchmark.run("RecordCard (FXML)", CARDS_PER_ITERATION, () -> new FxmlRecordCard().hashCode());
+        microbenchmark.run("RecordCard (code)", CARDS_PER_ITERATION, () ->
+                new RecordCard(records.get(0), 1).getRoot().hashCode());
+
+        RecordCard card = new RecordCard();
+        int[] index = { 0 };
+        microbenchmark.run("RecordCard#setRecord", CARDS_PER_ITERATION, () -> {
+            int i = index[0]++ % records.size();
+            card.setRecord(records.get(i), i + 1);
+            return card.getRecord().hashCode();
+        });
+    }
+
+    /**
+     * Measures the warm construction of the panels that the main window creates at startup.
+     */
+    private void runPanelBenchmarks() {
+        microbenchmark.run("ResultDisplay", PANELS_PER_ITERATION, () -> new ResultDisplay().hashCode());
+        microbenchmark.run("CommandBox", PANELS_PER_ITERATION, () ->
+                new CommandBox(commandText -> null, new ArrayList<>()).hashCode());
+        microbenchmark.run("StatusBarFooter", PANELS_PER_ITERATION, () ->
+                new StatusBarFooter(Paths.get("data", "finance.json"), new FinanceTracker()).hashCode());
+        microbenchmark.run("BudgetPanel", PANELS_PER_ITERATION, () -> new BudgetPanel(new Budget()).hashCode());
+        microbenchmark.run("RecordListPanel", PANELS_PER_ITERATION, () -> createRecordListPanel().hashCode());
+        microbenchmark.run("SummaryPanel", PANELS_PER_ITERATION, () -> createSummaryPanel().hashCode());
+    }
+
+    private RecordListPanel createRecordListPanel() {
+        return new RecordListPanel(FXCollections.observableArrayList(records), new SimpleObjectProperty<>(),
+                record -> {});
+    }
+
+    private SummaryPanel createSummaryPanel() {
+        ObservableMap<String, Double> summaryData = FXCollections.observableMap(new LinkedHashMap<>());
+        summaryData.put("Food", 12.5);
+        summaryData.put("Transport", 30.0);
+        return new SummaryPanel(summaryData, SummaryPeriod.DAY, 7);
+    }
+
+    /**
+     * Prints the time taken by one call to {@code constructor} under {@code name}.
+     */
+    private static void reportFirstConstruction(String name, Supplier<?> constructor) {
+        long start = System.nanoTime();
+        constructor.get();
+        double millis = (System.nanoTime() - start) / 1e6;
+        System.out.println(String.format("%-50s %12.2f ms", name, millis));
+    }
+
+    /**
+     * Runs {@code task} on the JavaFX application thread and waits for its result.
+     */
+    static <T> T runOnFxThread(Callable<T> task) {
+        FutureTask<T> futureTask = new FutureTask<>(task);
+        Platform.runLater(futureTask);
+        try {
+            return futureTask.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("The benchmark failed on the JavaFX application thread", e);
+        }
+    }
+
+    /**
+     * A record card loaded from the FXML file that {@code RecordCard} used before it built its scene graph in code.
+     */
+    private static class FxmlRecordCard extends UiPart<Region> {
+
+        FxmlRecordCard() {
+            super("RecordListCard.fxml");
+        }
+
+    }
+
+}
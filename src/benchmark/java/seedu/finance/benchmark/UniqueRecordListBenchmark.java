@@ -0,0 +1,87 @@
+package seedu.finance.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.finance.model.record.Record;
+import seedu.finance.model.record.UniqueRecordList;
+
+/**
+ * Measures the cost of the {@code Record#equals(Object)} and {@code Record#hashCode()} heavy
+ * operations of {@code UniqueRecordList}: additions, lookups, replacements and removals.
+ */
+public class UniqueRecordListBenchmark {
+
+    // the operations that scan the list are run fewer times on larger ledgers, so that each iteration
+    // compares about this many records
+    private static final int RECORDS_SCANNED_PER_ITERATION = 2_000_000;
+
+    private final Microbenchmark microbenchmark = new Microbenchmark();
+    private final List<Record> records;
+    private final UniqueRecordList uniqueRecordList = new UniqueRecordList();
+    private final Set<Record> recordSet;
+
+    public UniqueRecordListBenchmark(List<Record> ledger) {
+        records = ledger;
+        for (Record record : records) {
+            uniqueRecordList.add(record);
+        }
+        recordSet = new HashSet<>(records);
+    }
+
+    /**
+     * Runs all benchmarks in this class.
+     */
+    public void run() {
+        int size = records.size();
+        String ledgerSize = " (" + size + " records)";
+        int scansPerIteration = Math.max(1, RECORDS_SCANNED_PER_ITERATION / size);
+        System.out.println("== UniqueRecordList" + ledgerSize + " ==");
+
+        // Copies are used so that the identity short circuit in equals is never taken.
+        List<Record> copies = new ArrayList<>();
+        for (Record record : records) {
+            copies.add(new Record(record.getName(), record.getAmount(), record.getDate(),
+                    record.getDescription(), record.getCategory()));
+        }
+
+        int[] cursor = new int[1];
+        // Hashes the raw field values as the fields' own hashCode did before it was cached: the amount is parsed
+        // from its text on every call.
+        microbenchmark.run("Record#hashCode (uncached Objects.hash)" + ledgerSize, size, () -> {
+            Record record = copies.get(cursor[0]++ % size);
+            return Objects.hash(record.getName().fullName, Double.valueOf(record.getAmount().toString()),
+                    record.getDate().getDate(), record.getDescription().value, record.getCategory().categoryName);
+        });
+        microbenchmark.run("Record#hashCode (cached)" + ledgerSize, size, () -> copies.get(cursor[0]++ % size)
+                .hashCode());
+        microbenchmark.run("HashSet#contains" + ledgerSize, size, () ->
+                recordSet.contains(copies.get(cursor[0]++ % size)) ? 1 : 0);
+        microbenchmark.run("UniqueRecordList#add (whole ledger)" + ledgerSize, 1, () -> {
+            UniqueRecordList list = new UniqueRecordList();
+            for (Record record : records) {
+                list.add(record);
+            }
+            return list.asUnmodifiableObservableList().size();
+        });
+        microbenchmark.run("UniqueRecordList#contains" + ledgerSize, scansPerIteration, () ->
+                uniqueRecordList.contains(copies.get(cursor[0]++ % size)) ? 1 : 0);
+        microbenchmark.run("UniqueRecordList#asList#indexOf" + ledgerSize, scansPerIteration, () ->
+                uniqueRecordList.asUnmodifiableObservableList().indexOf(copies.get(cursor[0]++ % size)));
+        microbenchmark.run("UniqueRecordList#setRecord" + ledgerSize, scansPerIteration, () -> {
+            Record record = copies.get(cursor[0]++ % size);
+            uniqueRecordList.setRecord(record, record);
+            return 1;
+        });
+        microbenchmark.run("UniqueRecordList#remove + add" + ledgerSize, scansPerIteration, () -> {
+            Record record = copies.get(cursor[0]++ % size);
+            uniqueRecordList.remove(record);
+            uniqueRecordList.add(record);
+            return 1;
+        });
+    }
+
+}
@@ -10,17 +10,21 @@ import javafx.stage.Stage;
 import seedu.finance.commons.core.Config;
 import seedu.finance.commons.core.EventsCenter;
 import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.commons.core.StartupTimer;
 import seedu.finance.commons.core.Version;
 import seedu.finance.commons.exceptions.DataConversionException;
 import seedu.finance.commons.util.ConfigUtil;
+import seedu.finance.commons.util.FileUtil;
+import seedu.finance.commons.util.JmxUtil;
+import seedu.finance.commons.util.JsonUtil;
 import seedu.finance.commons.util.StringUtil;
+import seedu.finance.logic.CommandMetrics;
 import seedu.finance.logic.Logic;
 import seedu.finance.logic.LogicManager;
 import seedu.finance.model.FinanceTracker;
 import seedu.finance.model.Model;
 import seedu.finance.model.ModelManager;
 import seedu.finance.model.ReadOnlyFinanceTracker;
-import seedu.finance.model.ReadOnlyUserPrefs;
 import seedu.finance.model.UserPrefs;
 import seedu.finance.model.util.SampleDataUtil;
 import seedu.finance.storage.FinanceTrackerStorage;
@@ -49,33 +53,51 @@ public class MainApp extends Application {
 
     @Override
     public void init() throws Exception {
+        StartupTimer startupTimer = StartupTimer.getInstance();
+        startupTimer.start();
         logger.info("=============================[ Initializing FinanceTracker ]===========================");
         super.init();
 
+        JsonUtil.initObjectMapper();
+        startupTimer.markPhaseEnd("JSON mapper created");
+
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
+        startupTimer.markPhaseEnd("config read");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         FinanceTrackerStorage financeTrackerStorage = new JsonFinanceTrackerStorage(
                 userPrefs.getFinanceTrackerFilePath());
-        storage = new StorageManager(financeTrackerStorage, userPrefsStorage);
+        StorageManager storageManager = new StorageManager(financeTrackerStorage, userPrefsStorage);
+        storage = storageManager;
+        startupTimer.markPhaseEnd("preferences read");
 
         initLogging(config);
+        startupTimer.markPhaseEnd("logging started");
+
+        ReadOnlyFinanceTracker initialData = readInitialData(storage);
+        startupTimer.markPhaseEnd("data file read");
 
-        model = initModelManager(storage, userPrefs);
+        ModelManager modelManager = new ModelManager(initialData, userPrefs);
+        model = modelManager;
+        startupTimer.markPhaseEnd("model built");
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, config.isCommandRunInBackground());
+        JmxUtil.registerMBean(CommandMetrics.getInstance(), "CommandMetrics");
+        modelManager.registerMBeans(logic.getModelLock());
+        storageManager.registerMBean();
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, config.isCommandRunInBackground());
+        startupTimer.markPhaseEnd("init finished");
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s finance tracker and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s finance tracker. <br>
      * The data from the sample finance tracker will be used instead if {@code storage}'s finance tracker is not found,
      * or an empty finance tracker will be used instead if errors occur when reading {@code storage}'s finance tracker.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyFinanceTracker readInitialData(Storage storage) {
         Optional<ReadOnlyFinanceTracker> financeTrackerOptional;
         ReadOnlyFinanceTracker initialData;
         try {
@@ -92,7 +114,7 @@ public class MainApp extends Application {
             initialData = new FinanceTracker();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -175,6 +197,7 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting FinanceTracker " + MainApp.VERSION);
         ui.start(primaryStage);
+        StartupTimer.getInstance().markPhaseEnd("UI started");
     }
 
     @Override
@@ -185,6 +208,21 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        config.getCommandMetricsFilePath().ifPresent(this::saveCommandMetrics);
+        LogsCenter.flush();
+    }
+
+    /**
+     * Writes the command metrics to {@code metricsFilePath} in the Prometheus text format, so that they can be compared
+     * across releases.
+     */
+    private void saveCommandMetrics(Path metricsFilePath) {
+        try {
+            FileUtil.createParentDirsOfFile(metricsFilePath);
+            FileUtil.writeToFile(metricsFilePath, CommandMetrics.getInstance().getPrometheusText());
+        } catch (IOException e) {
+            logger.warning("Failed to save command metrics " + StringUtil.getDetails(e));
+        }
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,167 @@
+package seedu.finance.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a background writer thread, so that logging does not
+ * wait for the console or the disk.
+ *
+ * Records wait for the writer in a bounded buffer. When the buffer is full, a record is either dropped or the logging
+ * thread waits for the writer to make space, as set by the {@link OverflowPolicy}. The number of dropped records is
+ * logged by the writer once the buffer has space again.
+ * The target handlers are flushed, but not closed, by this handler.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record published when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread writer;
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Object writtenCountLock = new Object();
+    private long writtenCount; // guarded by writtenCountLock
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that buffers up to {@code capacity} records for {@code targets}, and starts its writer.
+     */
+    public AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        this.targets = new ArrayList<>(requireNonNull(targets));
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+
+        writer = new Thread(this::writeRecords, "Log writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // the caller is only known on its own thread, so it is found before the record is handed to the writer
+        record.getSourceClassName();
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                buffer.put(record);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                droppedCount.incrementAndGet();
+                return;
+            }
+        } else if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        acceptedCount.incrementAndGet();
+    }
+
+    /**
+     * Waits until the records published before this call are written, or a few seconds have passed, then flushes
+     * the target handlers.
+     */
+    @Override
+    public void flush() {
+        long recordsToWrite = acceptedCount.get();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        synchronized (writtenCountLock) {
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            while (writtenCount < recordsToWrite && remainingNanos > 0 && writer.isAlive()) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(writtenCountLock, remainingNanos);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remainingNanos = deadlineNanos - System.nanoTime();
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records published so far and stops the writer. Records published afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        flush();
+        buffer.offer(END_OF_RECORDS);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Writes the records in the buffer to the target handlers until the handler is closed.
+     */
+    private void writeRecords() {
+        long reportedDroppedCount = 0;
+        while (true) {
+            LogRecord record;
+            try {
+                record = buffer.take();
+            } catch (InterruptedException ie) {
+                return;
+            }
+            if (record == END_OF_RECORDS) {
+                return;
+            }
+
+            long newDroppedCount = droppedCount.get() - reportedDroppedCount;
+            if (newDroppedCount > 0) {
+                reportedDroppedCount += newDroppedCount;
+                LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                        newDroppedCount + " log records were dropped because the log buffer was full");
+                droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+                droppedRecord.setSourceMethodName("publish");
+                write(droppedRecord);
+            }
+            write(record);
+
+            synchronized (writtenCountLock) {
+                writtenCount++;
+                writtenCountLock.notifyAll();
+            }
+        }
+    }
+
+    private void write(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.finance.commons.core;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.logging.Level;
 
 /**
@@ -15,6 +16,11 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isCommandRunInBackground = false;
+    private Path commandMetricsFilePath = null;
+    private boolean isLogAsync = true;
+    private int logBufferCapacity = 1024;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
 
     public Level getLogLevel() {
         return logLevel;
@@ -24,6 +30,39 @@ public class Config {
         this.logLevel = logLevel;
     }
 
+    /**
+     * Returns true if log messages are written by a background writer instead of the thread that logs them.
+     */
+    public boolean isLogAsync() {
+        return isLogAsync;
+    }
+
+    public void setLogAsync(boolean isLogAsync) {
+        this.isLogAsync = isLogAsync;
+    }
+
+    /**
+     * Returns the number of log messages that can wait for the background writer.
+     */
+    public int getLogBufferCapacity() {
+        return logBufferCapacity;
+    }
+
+    public void setLogBufferCapacity(int logBufferCapacity) {
+        this.logBufferCapacity = logBufferCapacity;
+    }
+
+    /**
+     * Returns what happens to a log message when the background writer has too many messages waiting.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     public Path getUserPrefsFilePath() {
         return userPrefsFilePath;
     }
@@ -32,6 +71,28 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if commands are executed on a worker thread instead of the JavaFX application thread.
+     */
+    public boolean isCommandRunInBackground() {
+        return isCommandRunInBackground;
+    }
+
+    public void setCommandRunInBackground(boolean isCommandRunInBackground) {
+        this.isCommandRunInBackground = isCommandRunInBackground;
+    }
+
+    /**
+     * Returns the file that the command metrics are written to when the app exits, if they are written at all.
+     */
+    public Optional<Path> getCommandMetricsFilePath() {
+        return Optional.ofNullable(commandMetricsFilePath);
+    }
+
+    public void setCommandMetricsFilePath(Path commandMetricsFilePath) {
+        this.commandMetricsFilePath = commandMetricsFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,19 +105,30 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && isLogAsync == o.isLogAsync
+                && logBufferCapacity == o.logBufferCapacity
+                && logOverflowPolicy == o.logOverflowPolicy
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isCommandRunInBackground == o.isCommandRunInBackground
+                && Objects.equals(commandMetricsFilePath, o.commandMetricsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, isLogAsync, logBufferCapacity, logOverflowPolicy, userPrefsFilePath,
+                isCommandRunInBackground, commandMetricsFilePath);
     }
 
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
+        sb.append("\nLog written in background : " + isLogAsync);
+        sb.append("\nLog buffer capacity : " + logBufferCapacity);
+        sb.append("\nLog overflow policy : " + logOverflowPolicy);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nCommands run in background : " + isCommandRunInBackground);
+        sb.append("\nCommand metrics file : " + (commandMetricsFilePath == null ? "none" : commandMetricsFilePath));
         return sb.toString();
     }
 
@@ -1,5 +1,8 @@
 package seedu.finance.commons.core;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
@@ -8,13 +11,15 @@ import seedu.finance.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ * The number of events of each type posted so far is kept in {@link #getPostedCount(Class)}.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
     private final EventBus eventBus;
+    private final Map<Class<? extends BaseEvent>, LongAdder> postedCounts = new ConcurrentHashMap<>();
 
-    private EventsCenter() {
+    EventsCenter() {
         eventBus = new EventBus();
     }
 
@@ -37,9 +42,18 @@ public class EventsCenter {
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        postedCounts.computeIfAbsent(event.getClass(), unused -> new LongAdder()).increment();
         eventBus.post(event);
         return this;
     }
 
+    /**
+     * Returns the number of events of {@code eventType} posted so far.
+     */
+    public long getPostedCount(Class<? extends BaseEvent> eventType) {
+        LongAdder postedCount = postedCounts.get(eventType);
+        return postedCount == null ? 0 : postedCount.sum();
+    }
+
 }
@@ -0,0 +1,114 @@
+package seedu.finance.commons.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how many measured durations fall within each of a fixed set of buckets, from 100 microseconds to 5 seconds.
+ * Safe to record into from one thread while it is read from another.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_NANOS = {
+        TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MICROSECONDS.toNanos(250), TimeUnit.MICROSECONDS.toNanos(500),
+        TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MICROSECONDS.toNanos(2500), TimeUnit.MILLISECONDS.toNanos(5),
+        TimeUnit.MILLISECONDS.toNanos(10), TimeUnit.MILLISECONDS.toNanos(25), TimeUnit.MILLISECONDS.toNanos(50),
+        TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(250), TimeUnit.MILLISECONDS.toNanos(500),
+        TimeUnit.SECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(2500), TimeUnit.SECONDS.toNanos(5)
+    };
+
+    // the last bucket holds the durations longer than every upper bound
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_NANOS.length + 1);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Returns the upper bound of each bucket, in increasing order. Durations longer than the last bound are counted
+     * in a bucket without an upper bound.
+     */
+    public static long[] getBucketUpperBoundsNanos() {
+        return BUCKET_UPPER_BOUNDS_NANOS.clone();
+    }
+
+    /**
+     * Counts a duration of {@code nanos}, or of 0 if it is negative.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        bucketCounts.incrementAndGet(bucketOf(duration));
+        count.increment();
+        totalNanos.add(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the average duration, or 0 if none was recorded.
+     */
+    public long getMeanNanos() {
+        long recordedCount = getCount();
+        return recordedCount == 0 ? 0 : getTotalNanos() / recordedCount;
+    }
+
+    /**
+     * Returns an upper estimate of the duration that {@code percentile} percent of the durations do not exceed,
+     * which is the upper bound of its bucket, or the longest duration if that is shorter. Returns 0 if no duration
+     * was recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] counts = getBucketCounts();
+        long recordedCount = 0;
+        for (long bucketCount : counts) {
+            recordedCount += bucketCount;
+        }
+        if (recordedCount == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(recordedCount * percentile / 100);
+        long countSoFar = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_NANOS.length; i++) {
+            countSoFar += counts[i];
+            if (countSoFar >= rank) {
+                return Math.min(BUCKET_UPPER_BOUNDS_NANOS[i], getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Returns the number of durations in each bucket, in the order of {@link #getBucketUpperBoundsNanos()}, followed
+     * by the number of durations longer than every upper bound.
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[bucketCounts.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts.get(i);
+        }
+        return counts;
+    }
+
+    private static int bucketOf(long nanos) {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS_NANOS.length; i++) {
+            if (nanos <= BUCKET_UPPER_BOUNDS_NANOS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS_NANOS.length;
+    }
+
+}
@@ -1,9 +1,14 @@
 package seedu.finance.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,15 +21,20 @@ import seedu.finance.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * If asynchronous logging is enabled in the {@code Config}, the messages are written to the console and the file by
+ *   a background writer instead of by the thread that logs them.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "financetracker.log";
     private static Level currentLogLevel = Level.INFO;
+    // declared before the logger below, which is added to it as the class is initialized
+    private static final Set<String> loggerNames = ConcurrentHashMap.newKeySet();
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static volatile AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -35,6 +45,19 @@ public class LogsCenter {
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
         logger.info("currentLogLevel: " + currentLogLevel);
+        if (config.isLogAsync()) {
+            startAsyncLogging(config.getLogBufferCapacity(), config.getLogOverflowPolicy());
+        }
+    }
+
+    /**
+     * Waits for the messages logged so far to be written, if they are written by a background writer.
+     */
+    public static void flush() {
+        AsyncLogHandler currentAsyncHandler = asyncHandler;
+        if (currentAsyncHandler != null) {
+            currentAsyncHandler.flush();
+        }
     }
 
     /**
@@ -45,8 +68,8 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addHandlers(logger);
+        loggerNames.add(name);
 
         return Logger.getLogger(name);
     }
@@ -61,6 +84,45 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Makes every logger created so far, and every logger created afterwards, hand its messages to a background
+     * writer that holds up to {@code bufferCapacity} messages.
+     */
+    private static synchronized void startAsyncLogging(int bufferCapacity, AsyncLogHandler.OverflowPolicy policy) {
+        List<Handler> targets = new ArrayList<>();
+        targets.add(consoleHandler);
+        if (fileHandler != null) {
+            targets.add(fileHandler);
+        }
+        AsyncLogHandler oldAsyncHandler = asyncHandler;
+        asyncHandler = new AsyncLogHandler(targets, Math.max(1, bufferCapacity), policy);
+        asyncHandler.setLevel(currentLogLevel);
+
+        for (String name : loggerNames) {
+            Logger existingLogger = Logger.getLogger(name);
+            removeHandlers(existingLogger);
+            addHandlers(existingLogger);
+        }
+        if (oldAsyncHandler != null) {
+            oldAsyncHandler.close();
+        }
+        logger.info("Logging asynchronously with a buffer of " + bufferCapacity + " messages");
+    }
+
+    /**
+     * Adds the {@code asyncHandler} to the {@code logger} if logging is asynchronous, or else the
+     * {@code consoleHandler} and the {@code fileHandler}.
+     */
+    private static void addHandlers(Logger logger) {
+        AsyncLogHandler currentAsyncHandler = asyncHandler;
+        if (currentAsyncHandler != null) {
+            logger.addHandler(currentAsyncHandler);
+            return;
+        }
+        addConsoleHandler(logger);
+        addFileHandler(logger);
+    }
+
     /**
      * Adds the {@code consoleHandler} to the {@code logger}. <br>
      * Creates the {@code consoleHandler} if it is null.
@@ -0,0 +1,88 @@
+package seedu.finance.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * Measures how long each phase of the startup of the app takes, from the start of {@code MainApp#init()} to the first
+ * frame in which the user can type a command.
+ * Phases marked before the timer is started, such as by tests that create UI parts without starting the app, are
+ * ignored.
+ */
+public class StartupTimer {
+    public static final String FIRST_INTERACTIVE_FRAME = "first interactive frame";
+    public static final String DEFERRED_PANELS_BUILT = "deferred panels built";
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTimer.class);
+    private static StartupTimer instance;
+
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> phaseEndMillis = new LinkedHashMap<>();
+    private long startNanos;
+    private boolean isStarted;
+
+    StartupTimer(LongSupplier nanoClock) {
+        this.nanoClock = requireNonNull(nanoClock);
+    }
+
+    public static synchronized StartupTimer getInstance() {
+        if (instance == null) {
+            instance = new StartupTimer(System::nanoTime);
+        }
+        return instance;
+    }
+
+    /**
+     * Starts timing the startup, forgetting any phases marked before.
+     */
+    public synchronized void start() {
+        phaseEndMillis.clear();
+        startNanos = nanoClock.getAsLong();
+        isStarted = true;
+    }
+
+    /**
+     * Records that {@code phase} of the startup has just ended, and logs how long after the start it ended.
+     */
+    public synchronized void markPhaseEnd(String phase) {
+        requireNonNull(phase);
+        if (!isStarted) {
+            return;
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - startNanos);
+        phaseEndMillis.put(phase, elapsedMillis);
+        logger.info("Startup: " + phase + " after " + elapsedMillis + " ms");
+        if (phase.equals(FIRST_INTERACTIVE_FRAME)) {
+            logger.info("Startup phases (ms): " + getPhaseMillis());
+        }
+    }
+
+    /**
+     * Returns the number of milliseconds after the start at which each phase ended, in the order they ended.
+     */
+    public synchronized Map<String, Long> getPhaseEndMillis() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phaseEndMillis));
+    }
+
+    /**
+     * Returns the number of milliseconds each phase took, from the end of the phase before it or from the start, in
+     * the order they ended.
+     */
+    public synchronized Map<String, Long> getPhaseMillis() {
+        Map<String, Long> phaseMillis = new LinkedHashMap<>();
+        long previousEndMillis = 0;
+        for (Map.Entry<String, Long> phaseEnd : phaseEndMillis.entrySet()) {
+            phaseMillis.put(phaseEnd.getKey(), phaseEnd.getValue() - previousEndMillis);
+            previousEndMillis = phaseEnd.getValue();
+        }
+        return Collections.unmodifiableMap(phaseMillis);
+    }
+
+}
@@ -0,0 +1,72 @@
+package seedu.finance.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finance.commons.util.AppUtil.checkArgument;
+
+/**
+ * Utility methods for reducing the number of points of a series before it is plotted.
+ */
+public class DownsampleUtil {
+
+    /**
+     * Returns the indices, in ascending order, of at most {@code threshold} points of the series {@code xs, ys}
+     * chosen by the Largest-Triangle-Three-Buckets algorithm.
+     * The first and last points are always kept. The points in between are split into {@code threshold - 2}
+     * buckets, and from each bucket the point that forms the largest triangle with the point kept from the
+     * previous bucket and the average of the next bucket is kept, so that peaks and dips survive the downsampling.
+     * Every point is kept if there are at most {@code threshold} points or {@code threshold} is less than 3.
+     *
+     * @param xs the x values of the series, in ascending order
+     * @param ys the y values of the series
+     * @param threshold the maximum number of points to keep
+     */
+    public static int[] largestTriangleThreeBuckets(double[] xs, double[] ys, int threshold) {
+        requireNonNull(xs);
+        requireNonNull(ys);
+        checkArgument(xs.length == ys.length, "The series must have as many x values as y values");
+
+        int size = xs.length;
+        if (threshold >= size || threshold < 3) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        int[] selected = new int[threshold];
+        double bucketSize = (double) (size - 2) / (threshold - 2);
+        int previous = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            int nextStart = (int) ((bucket + 1) * bucketSize) + 1;
+            int nextEnd = Math.min((int) ((bucket + 2) * bucketSize) + 1, size);
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += xs[i];
+                averageY += ys[i];
+            }
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            int start = (int) (bucket * bucketSize) + 1;
+            int end = nextStart;
+            double largestArea = -1;
+            int largest = start;
+            for (int i = start; i < end; i++) {
+                // twice the area of the triangle, which is enough to compare triangles
+                double area = Math.abs((xs[previous] - averageX) * (ys[i] - ys[previous])
+                        - (xs[previous] - xs[i]) * (averageY - ys[previous]));
+                if (area > largestArea) {
+                    largestArea = area;
+                    largest = i;
+                }
+            }
+            selected[bucket + 1] = largest;
+            previous = largest;
+        }
+        selected[threshold - 1] = size - 1;
+        return selected;
+    }
+
+}
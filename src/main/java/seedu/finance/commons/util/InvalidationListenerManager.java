@@ -2,16 +2,21 @@ package seedu.finance.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 
 /**
  * Manages a list of {@link InvalidationListener}.
+ * The listeners are kept in an array that is copied only when a listener is added or removed, so that calling the
+ * listeners, which happens far more often, does not allocate.
  */
 public class InvalidationListenerManager {
-    private final ArrayList<InvalidationListener> listeners = new ArrayList<>();
+    private static final InvalidationListener[] NO_LISTENERS = new InvalidationListener[0];
+
+    // never modified once assigned, so that it can be called while listeners are added or removed
+    private volatile InvalidationListener[] listeners = NO_LISTENERS;
 
     /**
      * Calls {@link InvalidationListener#invalidated(Observable)} on all added listeners.
@@ -21,11 +26,7 @@ public class InvalidationListenerManager {
      * @param observable The {@code Observable} that became invalid.
      */
     public void callListeners(Observable observable) {
-        // Make a copy of listeners such that any modifications to the listeners list during
-        // the invocation of this method will only take effect on the next invocation of this method.
-        ArrayList<InvalidationListener> listenersCopy = new ArrayList<>(listeners);
-
-        for (InvalidationListener listener : listenersCopy) {
+        for (InvalidationListener listener : listeners) {
             listener.invalidated(observable);
         }
     }
@@ -34,9 +35,11 @@ public class InvalidationListenerManager {
      * Adds {@code listener} to the list of listeners.
      * If the same listener is added more that once, then it will be notified more than once.
      */
-    public void addListener(InvalidationListener listener) {
+    public synchronized void addListener(InvalidationListener listener) {
         requireNonNull(listener);
-        listeners.add(listener);
+        InvalidationListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
     }
 
     /**
@@ -44,9 +47,17 @@ public class InvalidationListenerManager {
      * If the given listener was not previously added, then this method call is a no-op.
      * If the given listener was added more than once, then only the first occurrence in the list will be removed.
      */
-    public void removeListener(InvalidationListener listener) {
+    public synchronized void removeListener(InvalidationListener listener) {
         requireNonNull(listener);
-        listeners.remove(listener);
+        int index = Arrays.asList(listeners).indexOf(listener);
+        if (index < 0) {
+            return;
+        }
+
+        InvalidationListener[] newListeners = new InvalidationListener[listeners.length - 1];
+        System.arraycopy(listeners, 0, newListeners, 0, index);
+        System.arraycopy(listeners, index + 1, newListeners, index, newListeners.length - index);
+        listeners = newListeners;
     }
 
 }
@@ -0,0 +1,66 @@
+package seedu.finance.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import seedu.finance.commons.core.LogsCenter;
+
+/**
+ * Helper functions for exposing the app's measurements to JMX clients such as JConsole.
+ */
+public class JmxUtil {
+    public static final String DOMAIN = "seedu.finance";
+
+    private static final Logger logger = LogsCenter.getLogger(JmxUtil.class);
+
+    /**
+     * Registers {@code mbean} with the platform MBean server under {@code seedu.finance:type=TYPE}, replacing any
+     * MBean registered under that name before. A failure to register is logged, as the app works without JMX.
+     */
+    public static void registerMBean(Object mbean, String type) {
+        requireNonNull(mbean);
+        requireNonNull(type);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(DOMAIN, "type", type);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(mbean, name);
+        } catch (JMException | SecurityException e) {
+            logger.warning("Failed to register MBean " + type + " : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Registers {@code mbean} as an MXBean with the attributes and operations of {@code mxBeanInterface}, each of
+     * which is run while holding {@code lock}.
+     *
+     * @see #registerMBean(Object, String)
+     */
+    public static <T> void registerMBean(T mbean, Class<T> mxBeanInterface, String type, Object lock) {
+        requireNonNull(mbean);
+        requireNonNull(lock);
+        T lockedMBean = mxBeanInterface.cast(Proxy.newProxyInstance(mxBeanInterface.getClassLoader(),
+                new Class<?>[] {mxBeanInterface}, (proxy, method, args) -> {
+                    synchronized (lock) {
+                        try {
+                            return method.invoke(mbean, args);
+                        } catch (InvocationTargetException ite) {
+                            throw ite.getCause();
+                        }
+                    }
+                }));
+        registerMBean(new StandardMBean(lockedMBean, mxBeanInterface, true), type);
+    }
+
+}
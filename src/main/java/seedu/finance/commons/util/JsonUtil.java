@@ -39,6 +39,18 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Sets up the object mapper used to read and write JSON by serializing a log level with it, so that the time taken
+     * to set up Jackson at startup can be told apart from the time taken to read the first file.
+     */
+    public static void initObjectMapper() {
+        try {
+            objectMapper.writeValueAsString(Level.INFO);
+        } catch (JsonProcessingException e) {
+            throw new AssertionError("A log level should always be serializable", e);
+        }
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
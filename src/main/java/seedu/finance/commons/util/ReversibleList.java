@@ -0,0 +1,141 @@
+package seedu.finance.commons.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An {@code ObservableList} view that presents the elements of its source list either in the source order
+ * or in reverse order. Switching between the two orders is O(1) as no elements are copied or moved;
+ * listeners are notified of the switch with a single permutation change.
+ */
+public class ReversibleList<E> extends TransformationList<E, E> {
+
+    private boolean isReversed;
+
+    public ReversibleList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    public boolean isReversed() {
+        return isReversed;
+    }
+
+    /**
+     * Flips the order in which the elements of the source list are presented.
+     */
+    public void reverse() {
+        setReversed(!isReversed);
+    }
+
+    /**
+     * Sets whether the elements of the source list are presented in reverse order.
+     */
+    public void setReversed(boolean isReversed) {
+        if (this.isReversed == isReversed) {
+            return;
+        }
+
+        this.isReversed = isReversed;
+        int size = size();
+        if (size < 2) {
+            return;
+        }
+
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = size - 1 - i;
+        }
+        beginChange();
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        return toViewIndex(index, size());
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return toViewIndex(index, size());
+    }
+
+    /**
+     * Translates every sub-change of {@code change} into this view's indices.
+     * Sub-changes are applied one after another, so the source size is tracked as each one is processed.
+     */
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        int currentSize = getSizeBeforeChange(change);
+
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+
+            if (change.wasPermutated()) {
+                int viewFrom = isReversed ? currentSize - to : from;
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[toViewIndex(i, currentSize) - viewFrom] =
+                            toViewIndex(change.getPermutation(i), currentSize);
+                }
+                nextPermutation(viewFrom, viewFrom + permutation.length, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(toViewIndex(i, currentSize));
+                }
+            } else {
+                List<E> removed = new ArrayList<>(change.getRemoved());
+                int addedSize = change.getAddedSize();
+                if (isReversed) {
+                    Collections.reverse(removed);
+                }
+                // a replaced range starts at the same view index before and after the change
+                int viewFrom = isReversed ? currentSize - from - removed.size() : from;
+                currentSize += addedSize - removed.size();
+
+                if (change.wasReplaced()) {
+                    nextReplace(viewFrom, viewFrom + addedSize, removed);
+                } else if (change.wasRemoved()) {
+                    nextRemove(viewFrom, removed);
+                } else {
+                    nextAdd(viewFrom, viewFrom + addedSize);
+                }
+            }
+        }
+        endChange();
+    }
+
+    private int toViewIndex(int index, int size) {
+        return isReversed ? size - 1 - index : index;
+    }
+
+    /**
+     * Returns the size of the source list before {@code change} was applied.
+     */
+    private static int getSizeBeforeChange(ListChangeListener.Change<?> change) {
+        int size = change.getList().size();
+        while (change.next()) {
+            size += change.getRemovedSize() - change.getAddedSize();
+        }
+        change.reset();
+        return size;
+    }
+
+}
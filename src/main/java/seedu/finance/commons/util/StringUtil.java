@@ -5,6 +5,8 @@ import static seedu.finance.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.Arrays;
 
 /**
@@ -12,6 +14,9 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    /** Values below this are small enough for every amount of cents to be exact in a double. */
+    private static final double MAX_EXACT_TWO_DECIMAL_PLACES = 1e13;
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +70,31 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code value} rounded half up to two decimal places, e.g. "12.50" for 12.5, the same way as
+     * {@code String.format("%.2f", value)} in an English locale but without parsing a format string.
+     * As in {@code String.format}, the decimal digits of {@link Double#toString(double)} are rounded rather than the
+     * binary value, so 1.005 is formatted as "1.01".
+     * Unlike {@code String.format}, a negative value that rounds to zero is formatted without a minus sign.
+     * Values too large to count in cents, infinities and NaN are formatted by {@code String.format} instead.
+     */
+    public static String toTwoDecimalPlaces(double value) {
+        if (!(Math.abs(value) < MAX_EXACT_TWO_DECIMAL_PLACES)) {
+            return String.format("%.2f", value);
+        }
+
+        long cents = BigDecimal.valueOf(Math.abs(value)).setScale(2, RoundingMode.HALF_UP).unscaledValue()
+                .longValue();
+        long fraction = cents % 100;
+        StringBuilder builder = new StringBuilder(24);
+        if (value < 0 && cents != 0) {
+            builder.append('-');
+        }
+        builder.append(cents / 100).append('.');
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction).toString();
+    }
 }
@@ -0,0 +1,310 @@
+package seedu.finance.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+import com.sun.management.ThreadMXBean;
+
+import seedu.finance.commons.core.LatencyHistogram;
+import seedu.finance.logic.commands.Command;
+
+/**
+ * Measures how long each phase of each command takes, and how much memory each command allocates.
+ * Commands are told apart by their class name, and input that cannot be parsed is counted as
+ * {@link #UNPARSED_COMMAND}. Allocation is only measured if the JVM can count the bytes allocated by a thread.
+ */
+public class CommandMetrics implements CommandMetricsMXBean {
+    public static final String UNPARSED_COMMAND = "(unparsed)";
+
+    private static final long ALLOCATION_UNAVAILABLE = -1;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static CommandMetrics instance;
+
+    private final LongSupplier nanoClock;
+    private final LongSupplier allocatedBytesOfCurrentThread;
+    // sorted by command name so that the reports list the commands in a stable order
+    private final Map<String, CommandStatistics> statistics = new ConcurrentSkipListMap<>();
+    private volatile String lastCommandName;
+
+    /**
+     * The phases of a command, in the order they happen.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE, UI;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    public CommandMetrics() {
+        this(System::nanoTime, CommandMetrics::measureAllocatedBytesOfCurrentThread);
+    }
+
+    CommandMetrics(LongSupplier nanoClock, LongSupplier allocatedBytesOfCurrentThread) {
+        this.nanoClock = requireNonNull(nanoClock);
+        this.allocatedBytesOfCurrentThread = requireNonNull(allocatedBytesOfCurrentThread);
+    }
+
+    public static synchronized CommandMetrics getInstance() {
+        if (instance == null) {
+            instance = new CommandMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * Starts measuring a command that is executed on this thread, from its parse phase.
+     */
+    public Measurement startMeasurement() {
+        return new Measurement();
+    }
+
+    /**
+     * Records that the UI took {@code nanos} to show the result of the command that last finished executing.
+     */
+    public void recordUiOfLastCommand(long nanos) {
+        String commandName = lastCommandName;
+        if (commandName != null) {
+            getStatistics(commandName).histograms.get(Phase.UI).record(nanos);
+        }
+    }
+
+    @Override
+    public long getExecutedCommandCount() {
+        long count = 0;
+        for (CommandStatistics commandStatistics : statistics.values()) {
+            count += commandStatistics.runCount.sum();
+        }
+        return count;
+    }
+
+    @Override
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        statistics.forEach((commandName, commandStatistics) ->
+                counts.put(commandName, commandStatistics.runCount.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getMeanMillis() {
+        return getMillisOfEachPhase(LatencyHistogram::getMeanNanos);
+    }
+
+    @Override
+    public Map<String, Double> getP95Millis() {
+        return getMillisOfEachPhase(histogram -> histogram.getPercentileNanos(95));
+    }
+
+    @Override
+    public Map<String, Double> getMaxMillis() {
+        return getMillisOfEachPhase(LatencyHistogram::getMaxNanos);
+    }
+
+    @Override
+    public Map<String, Long> getMeanAllocatedBytes() {
+        Map<String, Long> meanAllocatedBytes = new LinkedHashMap<>();
+        statistics.forEach((commandName, commandStatistics) -> {
+            long measuredCount = commandStatistics.allocationMeasuredCount.sum();
+            if (measuredCount > 0) {
+                meanAllocatedBytes.put(commandName, commandStatistics.allocatedBytes.sum() / measuredCount);
+            }
+        });
+        return meanAllocatedBytes;
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder(
+                "Commands executed since the app started (milliseconds, as mean / 95th percentile / max):");
+        Map<String, Long> meanAllocatedBytes = getMeanAllocatedBytes();
+        statistics.forEach((commandName, commandStatistics) -> {
+            long runCount = commandStatistics.runCount.sum();
+            report.append('\n').append(commandName).append(", ").append(runCount)
+                    .append(runCount == 1 ? " run" : " runs");
+            String separator = ": ";
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = commandStatistics.histograms.get(phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                report.append(separator).append(phase).append(' ')
+                        .append(formatMillis(histogram.getMeanNanos())).append(" / ")
+                        .append(formatMillis(histogram.getPercentileNanos(95))).append(" / ")
+                        .append(formatMillis(histogram.getMaxNanos()));
+                separator = ", ";
+            }
+            if (meanAllocatedBytes.containsKey(commandName)) {
+                report.append("; ").append(meanAllocatedBytes.get(commandName) / 1024).append(" KB allocated per run");
+            }
+        });
+        return report.toString();
+    }
+
+    @Override
+    public String getPrometheusText() {
+        StringBuilder text = new StringBuilder();
+        text.append("# HELP financetracker_command_phase_seconds Time taken by each phase of a command.\n")
+                .append("# TYPE financetracker_command_phase_seconds histogram\n");
+        long[] upperBoundsNanos = LatencyHistogram.getBucketUpperBoundsNanos();
+        statistics.forEach((commandName, commandStatistics) -> {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = commandStatistics.histograms.get(phase);
+                String labels = "command=\"" + commandName + "\",phase=\"" + phase + "\"";
+                long[] bucketCounts = histogram.getBucketCounts();
+                long cumulativeCount = 0;
+                for (int i = 0; i < bucketCounts.length; i++) {
+                    cumulativeCount += bucketCounts[i];
+                    String upperBound = i < upperBoundsNanos.length
+                            ? Double.toString(upperBoundsNanos[i] / NANOS_PER_SECOND)
+                            : "+Inf";
+                    text.append("financetracker_command_phase_seconds_bucket{").append(labels)
+                            .append(",le=\"").append(upperBound).append("\"} ").append(cumulativeCount).append('\n');
+                }
+                text.append("financetracker_command_phase_seconds_sum{").append(labels).append("} ")
+                        .append(histogram.getTotalNanos() / NANOS_PER_SECOND).append('\n');
+                text.append("financetracker_command_phase_seconds_count{").append(labels).append("} ")
+                        .append(cumulativeCount).append('\n');
+            }
+        });
+
+        text.append("# HELP financetracker_command_allocated_bytes Bytes allocated while executing a command.\n")
+                .append("# TYPE financetracker_command_allocated_bytes summary\n");
+        statistics.forEach((commandName, commandStatistics) -> {
+            String labels = "{command=\"" + commandName + "\"} ";
+            text.append("financetracker_command_allocated_bytes_sum").append(labels)
+                    .append(commandStatistics.allocatedBytes.sum()).append('\n');
+            text.append("financetracker_command_allocated_bytes_count").append(labels)
+                    .append(commandStatistics.allocationMeasuredCount.sum()).append('\n');
+        });
+        return text.toString();
+    }
+
+    @Override
+    public void reset() {
+        statistics.clear();
+        lastCommandName = null;
+    }
+
+    private CommandStatistics getStatistics(String commandName) {
+        return statistics.computeIfAbsent(commandName, unused -> new CommandStatistics());
+    }
+
+    /**
+     * Returns the time given by {@code nanosOfHistogram} for each phase of each command that has been measured,
+     * in milliseconds.
+     */
+    private Map<String, Double> getMillisOfEachPhase(ToLongFunction<LatencyHistogram> nanosOfHistogram) {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        statistics.forEach((commandName, commandStatistics) -> {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = commandStatistics.histograms.get(phase);
+                if (histogram.getCount() > 0) {
+                    millis.put(commandName + " " + phase, nanosOfHistogram.applyAsLong(histogram) / NANOS_PER_MILLI);
+                }
+            }
+        });
+        return millis;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.2f", nanos / NANOS_PER_MILLI);
+    }
+
+    /**
+     * Returns the number of bytes allocated by this thread so far, or {@code ALLOCATION_UNAVAILABLE} if the JVM does
+     * not count them.
+     */
+    private static long measureAllocatedBytesOfCurrentThread() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof ThreadMXBean)) {
+            return ALLOCATION_UNAVAILABLE;
+        }
+        ThreadMXBean allocationCountingBean = (ThreadMXBean) threadBean;
+        if (!allocationCountingBean.isThreadAllocatedMemorySupported()
+                || !allocationCountingBean.isThreadAllocatedMemoryEnabled()) {
+            return ALLOCATION_UNAVAILABLE;
+        }
+        return allocationCountingBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The measurements of one command.
+     */
+    private static class CommandStatistics {
+        private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+        private final LongAdder runCount = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+        private final LongAdder allocationMeasuredCount = new LongAdder();
+
+        private CommandStatistics() {
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+
+    /**
+     * Measures one execution of a command on the thread that started it.
+     * Each phase lasts from the end of the previous phase, and the phases after a failed parse are not recorded.
+     */
+    public class Measurement {
+        private final long startAllocatedBytes = allocatedBytesOfCurrentThread.getAsLong();
+        private long phaseStartNanos = nanoClock.getAsLong();
+        private String commandName = UNPARSED_COMMAND;
+        private boolean isParsed;
+
+        /**
+         * Records that the input has been parsed into {@code command}.
+         */
+        public void endParse(Command command) {
+            commandName = command.getClass().getSimpleName();
+            isParsed = true;
+            endPhase(Phase.PARSE);
+        }
+
+        /**
+         * Records that {@code phase} of the command, which follows its parse phase, has just ended.
+         */
+        public void endPhase(Phase phase) {
+            if (!isParsed) {
+                return;
+            }
+            long nowNanos = nanoClock.getAsLong();
+            getStatistics(commandName).histograms.get(phase).record(nowNanos - phaseStartNanos);
+            phaseStartNanos = nowNanos;
+        }
+
+        /**
+         * Records that the command has finished executing, along with the bytes it allocated.
+         */
+        public void finish() {
+            if (!isParsed) {
+                isParsed = true;
+                endPhase(Phase.PARSE);
+            }
+
+            CommandStatistics commandStatistics = getStatistics(commandName);
+            commandStatistics.runCount.increment();
+            long endAllocatedBytes = allocatedBytesOfCurrentThread.getAsLong();
+            if (startAllocatedBytes != ALLOCATION_UNAVAILABLE && endAllocatedBytes != ALLOCATION_UNAVAILABLE) {
+                commandStatistics.allocatedBytes.add(endAllocatedBytes - startAllocatedBytes);
+                commandStatistics.allocationMeasuredCount.increment();
+            }
+            lastCommandName = commandName;
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package seedu.finance.logic;
+
+import java.util.Map;
+
+/**
+ * The view of {@link CommandMetrics} given to JMX clients.
+ * Keys of the maps of times are the command name followed by the phase, such as {@code "SpendCommand execute"}.
+ */
+public interface CommandMetricsMXBean {
+
+    long getExecutedCommandCount();
+
+    /**
+     * Returns the number of times each command was executed.
+     */
+    Map<String, Long> getCommandCounts();
+
+    /**
+     * Returns the average time of each phase of each command, in milliseconds.
+     */
+    Map<String, Double> getMeanMillis();
+
+    /**
+     * Returns the time that 95% of the runs of each phase of each command did not exceed, in milliseconds.
+     */
+    Map<String, Double> getP95Millis();
+
+    /**
+     * Returns the longest time of each phase of each command, in milliseconds.
+     */
+    Map<String, Double> getMaxMillis();
+
+    /**
+     * Returns the average number of bytes allocated by each command, for the commands whose allocation was measured.
+     */
+    Map<String, Long> getMeanAllocatedBytes();
+
+    /**
+     * Returns the measurements as shown by the {@code stats} command.
+     */
+    String getReport();
+
+    /**
+     * Returns the measurements in the Prometheus text format.
+     */
+    String getPrometheusText();
+
+    /**
+     * Forgets every measurement made so far.
+     */
+    void reset();
+
+}
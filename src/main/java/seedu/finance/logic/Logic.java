@@ -1,10 +1,12 @@
 package seedu.finance.logic;
 
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.finance.commons.core.GuiSettings;
 import seedu.finance.logic.commands.CommandResult;
 import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
@@ -27,6 +29,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the lock that {@link #execute(String)} holds while the command reads and modifies the model.
+     * Hold it to read the model from a thread other than the one that executes commands.
+     */
+    Object getModelLock();
+
     /**
      * Returns the amount value of {@code budget} with an ObjectProperty wrapper.
      *
@@ -44,6 +52,21 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of Records */
     ObservableList<Record> getFilteredRecordList();
 
+    /**
+     * Shows {@code matches}, the records that {@code predicate} accepts, in the filtered list of Records
+     * until the next command is executed or {@link #endFilteredRecordListPreview()} is called.
+     *
+     * @see seedu.finance.model.Model#previewFilteredRecordList(Predicate, Collection)
+     */
+    void previewFilteredRecordList(Predicate<Record> predicate, Collection<Record> matches);
+
+    /**
+     * Restores the filter that the filtered list of Records had before it was previewed.
+     *
+     * @see seedu.finance.model.Model#endFilteredRecordListPreview()
+     */
+    void endFilteredRecordListPreview();
+
     /**
      * Returns an unmodifiable view of the list of commands entered by the user.
      * The list is ordered from the least recent command to the most recent command.
@@ -81,9 +104,10 @@ public interface Logic {
     void setSelectedRecord(Record record);
 
     /**
-     * Returns a map of records with key and value pair representing data for the summary chart
+     * Returns an unmodifiable view of the total amount spent in each category by the records in the summary period,
+     * representing data for the summary chart.
      */
-    LinkedHashMap<String, Double> getRecordSummary();
+    ObservableMap<String, Double> getRecordSummary();
 
     /**
      * @return a {@code SummaryPeriod} representing the current period of summary data
@@ -2,19 +2,24 @@ package seedu.finance.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.finance.commons.core.GuiSettings;
 import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.logic.CommandMetrics.Measurement;
+import seedu.finance.logic.CommandMetrics.Phase;
 import seedu.finance.logic.commands.Command;
 import seedu.finance.logic.commands.CommandResult;
 import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
 import seedu.finance.logic.commands.exceptions.CommandException;
 import seedu.finance.logic.parser.FinanceTrackerParser;
 import seedu.finance.logic.parser.exceptions.ParseException;
+import seedu.finance.model.FinanceTracker;
 import seedu.finance.model.Model;
 import seedu.finance.model.ReadOnlyFinanceTracker;
 import seedu.finance.model.budget.TotalBudget;
@@ -32,11 +37,24 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final CommandHistory history;
     private final FinanceTrackerParser financeTrackerParser;
+    private final CommandMetrics commandMetrics = CommandMetrics.getInstance();
+    private final Object modelLock = new Object();
+    private final boolean isCommandRunInBackground;
     private boolean financeTrackerModified;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, false);
+    }
+
+    /**
+     * Creates a logic manager whose commands are executed on a thread other than the JavaFX application thread if
+     * {@code isCommandRunInBackground}. The finance tracker is then saved from a copy, so that the application thread
+     * can read the model while the file is written.
+     */
+    public LogicManager(Model model, Storage storage, boolean isCommandRunInBackground) {
         this.model = model;
         this.storage = storage;
+        this.isCommandRunInBackground = isCommandRunInBackground;
         history = new CommandHistory();
         financeTrackerParser = new FinanceTrackerParser();
 
@@ -47,65 +65,68 @@ public class LogicManager implements Logic {
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
-        financeTrackerModified = false;
 
-        CommandResult commandResult;
+        Measurement measurement = commandMetrics.startMeasurement();
         try {
-            Command command = financeTrackerParser.parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            return execute(commandText, measurement);
         } finally {
-            history.add(commandText);
+            measurement.finish();
+        }
+    }
+
+    /**
+     * Executes {@code commandText}, recording the end of each phase of the command in {@code measurement}.
+     */
+    private CommandResult execute(String commandText, Measurement measurement)
+            throws CommandException, ParseException {
+        CommandResult commandResult;
+        ReadOnlyFinanceTracker financeTrackerToSave = null;
+        synchronized (modelLock) {
+            financeTrackerModified = false;
+            // a preview of a search never outlives the next command, so the command sees the filter it expects
+            model.endFilteredRecordListPreview();
+            // all modifications made by the command reach the finance tracker's change listeners as a single change
+            model.beginChangeBatch();
+            try {
+                Command command = financeTrackerParser.parseCommand(commandText);
+                measurement.endParse(command);
+                commandResult = command.execute(model, history);
+            } finally {
+                history.add(commandText);
+                model.endChangeBatch();
+                measurement.endPhase(Phase.EXECUTE);
+            }
+
+            if (financeTrackerModified) {
+                // only the application thread changes the model when commands are run on it, so no copy is needed
+                financeTrackerToSave = isCommandRunInBackground
+                        ? new FinanceTracker(model.getFinanceTracker())
+                        : model.getFinanceTracker();
+            }
         }
 
-        if (financeTrackerModified) {
+        if (financeTrackerToSave != null) {
             logger.info("Finance tracker modified, saving to file.");
             try {
-                storage.saveFinanceTracker(model.getFinanceTracker());
+                storage.saveFinanceTracker(financeTrackerToSave);
             } catch (IOException ioe) {
                 throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            } finally {
+                measurement.endPhase(Phase.SAVE);
             }
         }
 
         return commandResult;
     }
 
-    /**
-     * Returns a map of expenses with key and value pair representing data for the statistics chart.
-     * The method will get the record stats from {@code Model}
-     *
-     * @return LinkedHashMap of String key and Double value
-     */
-    public LinkedHashMap<String, Double> getRecordSummary() {
-        ObservableList<Record> expenseList = model.getRecordSummary();
-        SummaryPeriod summaryPeriod = model.getSummaryPeriod();
-
-        return getSummaryData(expenseList);
+    @Override
+    public Object getModelLock() {
+        return modelLock;
     }
 
-    /**
-     * Returns a map of expenses with key and value pair representing data for the statistics chart.
-     * The key represents the different categories.
-     * The value represents the cumulative cost for that day or month.
-     *
-     * @param expenseList a list of expenses
-     * @return the map of data used for the statistics
-     */
-    private LinkedHashMap<String, Double> getSummaryData(ObservableList<Record> expenseList) {
-        LinkedHashMap<String, Double> summaryData = new LinkedHashMap<>();
-        for (Record e : expenseList) {
-            String category;
-            category = e.getCategory().categoryName;
-
-            if (summaryData.containsKey(category)) {
-                summaryData.put(
-                        category,
-                        summaryData.get(category) + e.getAmount().getValue()
-                );
-            } else {
-                summaryData.put(category, e.getAmount().getValue());
-            }
-        }
-        return summaryData;
+    @Override
+    public ObservableMap<String, Double> getRecordSummary() {
+        return model.getRecordSummary();
     }
 
     public SummaryPeriod getSummaryPeriod() {
@@ -131,6 +152,20 @@ public class LogicManager implements Logic {
         return model.getFilteredRecordList();
     }
 
+    @Override
+    public void previewFilteredRecordList(Predicate<Record> predicate, Collection<Record> matches) {
+        synchronized (modelLock) {
+            model.previewFilteredRecordList(predicate, matches);
+        }
+    }
+
+    @Override
+    public void endFilteredRecordListPreview() {
+        synchronized (modelLock) {
+            model.endFilteredRecordListPreview();
+        }
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
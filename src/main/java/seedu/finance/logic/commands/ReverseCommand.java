@@ -30,8 +30,8 @@ public class ReverseCommand extends Command {
 
         model.reverseFilteredRecordList();
 
+        // Reversing only changes the displayed order, so there is nothing to commit or save.
         model.updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORD);
-        model.commitFinanceTracker();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
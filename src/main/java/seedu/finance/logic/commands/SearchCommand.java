@@ -1,9 +1,11 @@
 package seedu.finance.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_AND;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_CATEGORY;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_DATE;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_NAME;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_OR;
 
 import java.util.Iterator;
 import java.util.function.Predicate;
@@ -12,14 +14,11 @@ import javafx.collections.ObservableList;
 import seedu.finance.commons.core.Messages;
 import seedu.finance.logic.CommandHistory;
 import seedu.finance.model.Model;
-import seedu.finance.model.record.CategoryContainsKeywordsPredicate;
-import seedu.finance.model.record.DateContainsKeywordsPredicate;
-import seedu.finance.model.record.NameContainsKeywordsPredicate;
 import seedu.finance.model.record.Record;
 
 /**
- * Finds and lists all records in finance tracker whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all records in finance tracker whose name, category or date contains any of the argument keywords,
+ * as combined by the search flags. Keyword matching is case insensitive.
  */
 public class SearchCommand extends Command {
 
@@ -29,12 +28,16 @@ public class SearchCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all records which contain any of "
             + "the specified keywords (case-insensitive) based on the selected flag "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: FLAG KEYWORD [MORE_KEYWORDS] ...\n"
+            + "Parameters: FLAG KEYWORD [MORE_KEYWORDS] ... [[" + COMMAND_FLAG_AND + "|" + COMMAND_FLAG_OR + "] "
+            + "FLAG KEYWORD [MORE_KEYWORDS] ...] ...\n"
             + "Flags: \n"
             + COMMAND_FLAG_NAME + ": Search based on names\n"
             + COMMAND_FLAG_DATE + ": Search based on dates\n"
             + COMMAND_FLAG_CATEGORY + ": Search based on categories\n"
-            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG_NAME + " fries chicken bus fare";
+            + "Records must match every flag, unless the flags are separated by " + COMMAND_FLAG_OR + ".\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG_NAME + " fries chicken bus fare\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG_CATEGORY + " food " + COMMAND_FLAG_DATE + " 10/3/2019 "
+            + COMMAND_FLAG_OR + " " + COMMAND_FLAG_NAME + " coffee";
 
     public static final String INVALID_FLAG = "Flag not recognised. Valid flags:\n"
             + COMMAND_FLAG_NAME + ": Find all records that contain specified keywords in name\n"
@@ -42,7 +45,10 @@ public class SearchCommand extends Command {
             + COMMAND_FLAG_CATEGORY + ": Find all records with specified keywords in category.\n"
             + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG_NAME + " fries chicken bus fare";
 
-    public static final String ONE_FLAG_ONLY = "Only one flag should be used.";
+    public static final String MISPLACED_OPERATOR = COMMAND_FLAG_AND + " and " + COMMAND_FLAG_OR
+            + " should be placed between two flags with their keywords.\n"
+            + "Example: " + COMMAND_WORD + " " + COMMAND_FLAG_NAME + " fries " + COMMAND_FLAG_OR + " "
+            + COMMAND_FLAG_CATEGORY + " food";
 
     public static final String NO_FLAG = "Please input at least one flag. Valid flags:\n"
             + COMMAND_FLAG_NAME + ": Find all records that contain specified keywords in name\n"
@@ -52,15 +58,7 @@ public class SearchCommand extends Command {
 
     private final Predicate<Record> predicate;
 
-    public SearchCommand(NameContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
-
-    public SearchCommand(CategoryContainsKeywordsPredicate predicate) {
-        this.predicate = predicate;
-    }
-
-    public SearchCommand(DateContainsKeywordsPredicate predicate) {
+    public SearchCommand(Predicate<Record> predicate) {
         this.predicate = predicate;
     }
 
@@ -25,8 +25,9 @@ public class SortCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Sorts the records in the list "
             + "either by name, amount, date or category based on the selected flag.\n"
-            + "Parameters: FLAG [ORDER]\n"
+            + "Parameters: FLAG [ORDER] [FLAG [ORDER]]...\n"
             + "[ORDER] is optional. If not supplied, default ordering is implied.\n"
+            + "Records with the same value for a flag are sorted by the next flag.\n"
             + "Flags: \n"
             + COMMAND_FLAG_NAME + ": Sort records by name (default: lexicographical order)\n"
             + COMMAND_FLAG_AMOUNT + ": Sort records by amount (default: descending order)\n"
@@ -38,6 +39,7 @@ public class SortCommand extends Command {
             + "Example: \n"
             + COMMAND_WORD + " " + COMMAND_FLAG_NAME + "\n"
             + COMMAND_WORD + " " + COMMAND_FLAG_NAME + " " + COMMAND_FLAG_DESCENDING + "\n"
+            + COMMAND_WORD + " " + COMMAND_FLAG_CATEGORY + " " + COMMAND_FLAG_DATE + " " + COMMAND_FLAG_ASCENDING + "\n"
             + "Tip: Use the reverse command to reverse the list!\n";
 
     public static final String MESSAGE_SUCCESS = "List is sorted.";
@@ -63,8 +65,8 @@ public class SortCommand extends Command {
 
         model.sortFilteredRecordList(comparator);
 
+        // Sorting only changes the displayed order, so there is nothing to commit or save.
         model.updateFilteredRecordList(Model.PREDICATE_SHOW_ALL_RECORD);
-        model.commitFinanceTracker();
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
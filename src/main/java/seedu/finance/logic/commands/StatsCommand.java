@@ -0,0 +1,35 @@
+package seedu.finance.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.finance.logic.CommandHistory;
+import seedu.finance.logic.CommandMetrics;
+import seedu.finance.model.Model;
+
+/**
+ * Shows how long each phase of the commands executed so far took, and how much memory they allocated.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_NO_STATS = "No commands have been measured yet.";
+
+    private final CommandMetrics commandMetrics;
+
+    public StatsCommand() {
+        this(CommandMetrics.getInstance());
+    }
+
+    public StatsCommand(CommandMetrics commandMetrics) {
+        this.commandMetrics = requireNonNull(commandMetrics);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        if (commandMetrics.getExecutedCommandCount() == 0) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+        return new CommandResult(commandMetrics.getReport());
+    }
+
+}
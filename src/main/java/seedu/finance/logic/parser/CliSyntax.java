@@ -26,4 +26,7 @@ public class CliSyntax {
     public static final CommandFlag COMMAND_FLAG_ASCENDING = new CommandFlag("-asc");
     public static final CommandFlag COMMAND_FLAG_DESCENDING = new CommandFlag("-desc");
 
+    public static final CommandFlag COMMAND_FLAG_AND = new CommandFlag("-and");
+    public static final CommandFlag COMMAND_FLAG_OR = new CommandFlag("-or");
+
 }
@@ -24,6 +24,7 @@ import seedu.finance.logic.commands.SetFileCommand;
 import seedu.finance.logic.commands.ShowCategoryBudgetCommand;
 import seedu.finance.logic.commands.SortCommand;
 import seedu.finance.logic.commands.SpendCommand;
+import seedu.finance.logic.commands.StatsCommand;
 import seedu.finance.logic.commands.SummaryCommand;
 import seedu.finance.logic.commands.ThemeCommand;
 import seedu.finance.logic.commands.UndoCommand;
@@ -138,6 +139,9 @@ public class FinanceTrackerParser {
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
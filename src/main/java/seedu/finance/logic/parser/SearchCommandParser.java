@@ -1,15 +1,25 @@
 package seedu.finance.logic.parser;
 
 import static seedu.finance.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_AND;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_OR;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import seedu.finance.logic.commands.SearchCommand;
 import seedu.finance.logic.parser.exceptions.ParseException;
+import seedu.finance.model.record.AndPredicate;
 import seedu.finance.model.record.CategoryContainsKeywordsPredicate;
 import seedu.finance.model.record.Date;
 import seedu.finance.model.record.DateContainsKeywordsPredicate;
 import seedu.finance.model.record.NameContainsKeywordsPredicate;
+import seedu.finance.model.record.OrPredicate;
+import seedu.finance.model.record.Record;
 
 /**
  * Parses input arguments and creates a new SearchCommand object
@@ -19,9 +29,38 @@ public class SearchCommandParser implements Parser<SearchCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns an SearchCommand object for execution.
+     * The arguments are one or more {@code FLAG KEYWORD [MORE_KEYWORDS]} terms. Terms next to each other or joined by
+     * {@code -and} must all match, and {@code -or} separates alternatives, so {@code -and} binds more tightly.
      * @throws ParseException if the user input does not conform the expected format
      */
     public SearchCommand parse(String args) throws ParseException {
+        return new SearchCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the arguments of a search command that is still being typed, such as {@code -name fries -or -cat},
+     * into the predicate that the command would search by without the flags and operators at its end that have no
+     * keywords yet.
+     * Returns an empty {@code Optional} if the rest of the arguments are empty or invalid.
+     */
+    public Optional<Predicate<Record>> parsePartialPredicate(String args) {
+        List<String> words = new ArrayList<>(Arrays.asList(args.trim().split("\\s+")));
+        while (!words.isEmpty() && (words.get(words.size() - 1).isEmpty() || isFlag(words.get(words.size() - 1)))) {
+            words.remove(words.size() - 1);
+        }
+
+        try {
+            return words.isEmpty() ? Optional.empty() : Optional.of(parsePredicate(String.join(" ", words)));
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parses the arguments of a search command into the predicate that it searches by.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    private Predicate<Record> parsePredicate(String args) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty()) {
             throw new ParseException(
@@ -33,7 +72,7 @@ public class SearchCommandParser implements Parser<SearchCommand> {
         int noFlags = 0;
 
         for (int i = 0; i < argsWithFlag.length; i++) {
-            if (argsWithFlag[i].charAt(0) == '-') {
+            if (isFlag(argsWithFlag[i])) {
                 noFlags++;
             }
         }
@@ -41,29 +80,74 @@ public class SearchCommandParser implements Parser<SearchCommand> {
         if (noFlags < 1) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.NO_FLAG));
-        } else if (noFlags > 1) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.ONE_FLAG_ONLY));
         }
 
-        String[] keywords = Arrays.copyOfRange(argsWithFlag, 1, argsWithFlag.length);
+        List<Predicate<Record>> alternatives = new ArrayList<>();
+        List<Predicate<Record>> terms = new ArrayList<>();
+        int i = 0;
+        while (i < argsWithFlag.length) {
+            String flag = argsWithFlag[i++];
+            if (flag.equals(COMMAND_FLAG_AND.getFlag()) || flag.equals(COMMAND_FLAG_OR.getFlag())) {
+                if (terms.isEmpty() || i == argsWithFlag.length) {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MISPLACED_OPERATOR));
+                }
+                if (flag.equals(COMMAND_FLAG_OR.getFlag())) {
+                    alternatives.add(combine(terms, AndPredicate::new));
+                    terms = new ArrayList<>();
+                }
+                flag = argsWithFlag[i++];
+            }
+
+            int keywordsStart = i;
+            while (i < argsWithFlag.length && !isFlag(argsWithFlag[i])) {
+                i++;
+            }
+            terms.add(parseTerm(flag, Arrays.copyOfRange(argsWithFlag, keywordsStart, i)));
+        }
+        alternatives.add(combine(terms, AndPredicate::new));
+
+        return combine(alternatives, OrPredicate::new);
+    }
 
-        switch (argsWithFlag[0]) {
+    /**
+     * Returns the predicate that searches by {@code flag} for any of the {@code keywords}.
+     * @throws ParseException if the flag is not recognised or the keywords are not valid for the flag
+     */
+    private static Predicate<Record> parseTerm(String flag, String[] keywords) throws ParseException {
+        switch (flag) {
         case "-name":
-            return new SearchCommand(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+            return new NameContainsKeywordsPredicate(Arrays.asList(keywords));
         case "-cat":
-            return new SearchCommand(new CategoryContainsKeywordsPredicate(Arrays.asList(keywords)));
+            return new CategoryContainsKeywordsPredicate(Arrays.asList(keywords));
         case "-date":
             if (!checkKeywordsValidDate(keywords)) {
                 throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, Date.MESSAGE_CONSTRAINTS));
             }
-            return new SearchCommand(new DateContainsKeywordsPredicate(Arrays.asList(keywords)));
+            return new DateContainsKeywordsPredicate(Arrays.asList(keywords));
+        case "-and":
+        case "-or":
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MISPLACED_OPERATOR));
         default:
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.INVALID_FLAG));
         }
     }
 
+    /**
+     * Returns the only predicate in {@code predicates}, or the predicates joined by {@code combiner} if there are
+     * several of them.
+     */
+    private static Predicate<Record> combine(List<Predicate<Record>> predicates,
+            Function<List<Predicate<Record>>, Predicate<Record>> combiner) {
+        return predicates.size() == 1 ? predicates.get(0) : combiner.apply(predicates);
+    }
+
+    private static boolean isFlag(String word) {
+        return word.charAt(0) == '-';
+    }
+
     /**
      * Checks if given {@code String[]} of keywords contain only valid dates
      * @param keywords arguments behind the command flag
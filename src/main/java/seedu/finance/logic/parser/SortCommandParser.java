@@ -9,12 +9,17 @@ import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_DATE;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_DESCENDING;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_NAME;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import seedu.finance.logic.commands.SortCommand;
 import seedu.finance.logic.parser.comparator.RecordAmountComparator;
 import seedu.finance.logic.parser.comparator.RecordCategoryComparator;
 import seedu.finance.logic.parser.comparator.RecordDateComparator;
+import seedu.finance.logic.parser.comparator.RecordMultiKeyComparator;
 import seedu.finance.logic.parser.comparator.RecordNameComparator;
 import seedu.finance.logic.parser.exceptions.ParseException;
 import seedu.finance.model.record.Record;
@@ -27,84 +32,87 @@ public class SortCommandParser implements Parser<SortCommand> {
     /**
      * Parses the given {@code String} of arguments in the context of the SortCommand
      * and returns a SortCommand object for execution.
+     * The arguments are one or more {@code FLAG [ORDER]} pairs, the first pair being the most significant key.
      * @throws ParseException if the user input does not conform to the expected format.
      */
     public SortCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        Comparator<Record> comparator = null;
 
         String[] words = args.trim().split("\\s+");
+        List<Comparator<Record>> keyComparators = new ArrayList<>();
+        Set<String> usedFlags = new HashSet<>();
+
+        int i = 0;
+        while (i < words.length) {
+            String flag = words[i++];
+            if (!isValidCommandFlag(flag) || !usedFlags.add(flag)) {
+                // invalid command flag, or the same key is supplied twice
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+            }
 
-        if (words.length == 0 || words.length > 2 || !isValidCommandFlag(words[0])) {
-            // no arguments supplied or too many arguments supplied or invalid command flag
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-        }
+            // if ORDER is supplied for this flag, check whether valid
+            String order = null;
+            if (i < words.length && !isValidCommandFlag(words[i])) {
+                order = words[i++];
+                if (!isValidOrder(order)) {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+                }
+            }
 
-        boolean orderArgPresent = false;
+            keyComparators.add(getComparator(flag, order));
+        }
 
-        // if ORDER is supplied, check whether valid
-        if (words.length != 1) {
-            orderArgPresent = true;
-            if (!isValidOrder(words[1])) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-            }
+        if (keyComparators.size() == 1) {
+            return new SortCommand(keyComparators.get(0));
         }
+        return new SortCommand(new RecordMultiKeyComparator(keyComparators));
+    }
 
-        // Check which comparison function to use, flag and order supplied will be valid
-        switch (words[0]) {
+    /**
+     * Returns the comparison function for {@code flag} in the given {@code order},
+     * or in the default ordering of the flag if {@code order} is null.
+     * Flag and order supplied will be valid.
+     */
+    private static Comparator<Record> getComparator(String flag, String order) {
+        Comparator<Record> comparator;
+        boolean isDefaultAscending;
+
+        switch (flag) {
         case "-name":
-            // no order supplied, or order supplied is -asc
-            if (!orderArgPresent || words[1].equals(COMMAND_FLAG_ASCENDING.getFlag())) {
-                comparator = new RecordNameComparator();
-            } else {
-                // order supplied is -desc
-                comparator = new RecordNameComparator().reversed();
-            }
+            comparator = new RecordNameComparator();
+            isDefaultAscending = true;
             break;
 
         case "-amount":
-            // no order supplied, or order supplied is -desc
-            if (!orderArgPresent || words[1].equals(COMMAND_FLAG_DESCENDING.getFlag())) {
-                comparator = new RecordAmountComparator();
-            } else {
-                // order supplied is -asc
-                comparator = new RecordAmountComparator().reversed();
-            }
+            comparator = new RecordAmountComparator();
+            isDefaultAscending = false;
             break;
 
         case "-date":
-            // no order supplied, or order supplied is -desc
-            if (!orderArgPresent || words[1].equals(COMMAND_FLAG_DESCENDING.getFlag())) {
-                comparator = new RecordDateComparator();
-            } else {
-                // order supplied is -asc
-                comparator = new RecordDateComparator().reversed();
-            }
+            comparator = new RecordDateComparator();
+            isDefaultAscending = false;
             break;
 
         case "-cat":
-            // no order supplied, or order supplied is -asc
-            if (!orderArgPresent || words[1].equals(COMMAND_FLAG_ASCENDING.getFlag())) {
-                comparator = new RecordCategoryComparator();
-            } else {
-                // order supplied is -desc
-                comparator = new RecordCategoryComparator().reversed();
-            }
+            comparator = new RecordCategoryComparator();
+            isDefaultAscending = true;
             break;
 
         default:
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
-
+            throw new AssertionError("Flag should have been validated: " + flag);
         }
 
-        return new SortCommand(comparator);
-
-
+        if (order == null) {
+            return comparator;
+        }
+        boolean isAscending = order.equals(COMMAND_FLAG_ASCENDING.getFlag());
+        return isAscending == isDefaultAscending ? comparator : comparator.reversed();
     }
 
     /**
      * Checks if {@code String} flag is a valid one (-name, -amount, -date, -cat)
-     * @param flag first argument after sort command word
+     * @param flag argument after sort command word or after the previous flag and order
      * @return true if flag is valid.
      */
     private static boolean isValidCommandFlag(String flag) {
@@ -114,7 +122,7 @@ public class SortCommandParser implements Parser<SortCommand> {
 
     /**
      * Checks if {@code String} order is a valid one (-asc, -desc)
-     * @param order second argument after sort command word
+     * @param order argument following a command flag
      * @return true if order is valid
      */
     private static boolean isValidOrder(String order) {
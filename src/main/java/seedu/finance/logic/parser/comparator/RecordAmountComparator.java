@@ -10,17 +10,17 @@ import seedu.finance.model.record.Record;
 public class RecordAmountComparator implements Comparator<Record> {
     @Override
     public int compare(Record r1, Record r2) {
-        float diff = Float.parseFloat(r2.getAmount().toString()) - Float.parseFloat(r1.getAmount().toString());
-        if (diff < 0) {
-            return -1;
-        } else if (diff > 0) {
-            return 1;
-        }
-        return 0;
+        // uses the value parsed when the Amount was constructed instead of re-parsing on every comparison
+        return Double.compare(r2.getAmount().getNumericValue(), r1.getAmount().getNumericValue());
     }
 
     @Override
-    public boolean equals(Object obj) {
-        return true;
+    public boolean equals(Object other) {
+        return other instanceof RecordAmountComparator; // instanceof handles nulls
+    }
+
+    @Override
+    public int hashCode() {
+        return RecordAmountComparator.class.hashCode();
     }
 }
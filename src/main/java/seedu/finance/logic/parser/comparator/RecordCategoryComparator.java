@@ -10,11 +10,16 @@ import seedu.finance.model.record.Record;
 public class RecordCategoryComparator implements Comparator<Record> {
     @Override
     public int compare(Record r1, Record r2) {
-        return r1.getCategory().toString().compareToIgnoreCase(r2.getCategory().toString());
+        return r1.getCategory().getSortKey().compareTo(r2.getCategory().getSortKey());
     }
 
     @Override
-    public boolean equals(Object obj) {
-        return true;
+    public boolean equals(Object other) {
+        return other instanceof RecordCategoryComparator; // instanceof handles nulls
+    }
+
+    @Override
+    public int hashCode() {
+        return RecordCategoryComparator.class.hashCode();
     }
 }
@@ -10,11 +10,16 @@ import seedu.finance.model.record.Record;
 public class RecordDateComparator implements Comparator<Record> {
     @Override
     public int compare(Record r1, Record r2) {
-        return r2.getDate().getDate().compareTo(r1.getDate().getDate());
+        return Long.compare(r2.getDate().getEpochDay(), r1.getDate().getEpochDay());
     }
 
     @Override
-    public boolean equals(Object obj) {
-        return true;
+    public boolean equals(Object other) {
+        return other instanceof RecordDateComparator; // instanceof handles nulls
+    }
+
+    @Override
+    public int hashCode() {
+        return RecordDateComparator.class.hashCode();
     }
 }
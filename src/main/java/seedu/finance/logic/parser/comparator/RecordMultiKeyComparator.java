@@ -0,0 +1,54 @@
+package seedu.finance.logic.parser.comparator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.finance.model.record.Record;
+
+/**
+ * A comparison function that sorts the records by several keys in turn.
+ * Records that compare equal on a key are ordered by the next key.
+ */
+public class RecordMultiKeyComparator implements Comparator<Record> {
+
+    private final List<Comparator<Record>> keyComparators;
+
+    /**
+     * Creates a comparator that orders records by {@code keyComparators}, the first being the most significant.
+     */
+    public RecordMultiKeyComparator(List<Comparator<Record>> keyComparators) {
+        requireNonNull(keyComparators);
+        this.keyComparators = Collections.unmodifiableList(new ArrayList<>(keyComparators));
+    }
+
+    @Override
+    public int compare(Record r1, Record r2) {
+        for (int i = 0; i < keyComparators.size(); i++) {
+            int result = keyComparators.get(i).compare(r1, r2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    public List<Comparator<Record>> getKeyComparators() {
+        return keyComparators;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RecordMultiKeyComparator // instanceof handles nulls
+                && keyComparators.equals(((RecordMultiKeyComparator) other).keyComparators));
+    }
+
+    @Override
+    public int hashCode() {
+        return keyComparators.hashCode();
+    }
+}
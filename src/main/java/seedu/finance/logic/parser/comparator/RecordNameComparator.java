@@ -10,11 +10,16 @@ import seedu.finance.model.record.Record;
 public class RecordNameComparator implements Comparator<Record> {
     @Override
     public int compare(Record r1, Record r2) {
-        return r1.getName().toString().compareToIgnoreCase(r2.getName().toString());
+        return r1.getName().getSortKey().compareTo(r2.getName().getSortKey());
     }
 
     @Override
-    public boolean equals(Object obj) {
-        return true;
+    public boolean equals(Object other) {
+        return other instanceof RecordNameComparator; // instanceof handles nulls
+    }
+
+    @Override
+    public int hashCode() {
+        return RecordNameComparator.class.hashCode();
     }
 }
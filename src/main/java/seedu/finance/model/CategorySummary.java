@@ -0,0 +1,141 @@
+package seedu.finance.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finance.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import seedu.finance.model.FinanceTrackerChange.RecordReplacement;
+import seedu.finance.model.record.Record;
+
+/**
+ * The total amount spent in each category by the records that match the summary predicate.
+ *
+ * The totals follow the batches of modifications made to the finance tracker, so that only the categories of the
+ * added, removed and edited records are updated instead of summing up the whole record list again.
+ * The whole record list is only summed up again when the finance tracker is reset or the predicate changes.
+ * Totals are kept in cents so that adding and then removing an amount leaves the total exactly as it was.
+ */
+public class CategorySummary implements FinanceTrackerChangeListener {
+
+    private final List<Record> records;
+    private final Map<String, Long> totalsInCents = new HashMap<>();
+    private final Map<String, Integer> recordCounts = new HashMap<>();
+    private final ObservableMap<String, Double> totals = FXCollections.observableMap(new LinkedHashMap<>());
+    private final ObservableMap<String, Double> unmodifiableTotals =
+            FXCollections.unmodifiableObservableMap(totals);
+    private Predicate<? super Record> predicate;
+
+    /**
+     * Creates a summary of the records in {@code records} that match {@code predicate}.
+     * {@code records} is read again whenever the whole summary has to be recomputed.
+     */
+    public CategorySummary(List<Record> records, Predicate<? super Record> predicate) {
+        requireAllNonNull(records, predicate);
+        this.records = records;
+        this.predicate = predicate;
+        recompute();
+    }
+
+    /**
+     * Returns an unmodifiable view of the total amount spent in each category with at least one matching record.
+     * Categories are in the order their first matching record was added to the record list, except that a category
+     * keeps its place while the totals are updated, and a category that starts to have matching records is put last.
+     */
+    public ObservableMap<String, Double> getTotals() {
+        return unmodifiableTotals;
+    }
+
+    /**
+     * Summarises the records that match {@code predicate} instead.
+     */
+    public void setPredicate(Predicate<? super Record> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        recompute();
+    }
+
+    @Override
+    public void onChanged(FinanceTrackerChange change) {
+        if (change.isReset()) {
+            recompute();
+            return;
+        }
+
+        change.getRemovedRecords().forEach(record -> update(record, -1));
+        for (RecordReplacement replacement : change.getReplacedRecords()) {
+            update(replacement.getTarget(), -1);
+            update(replacement.getEditedRecord(), 1);
+        }
+        change.getAddedRecords().forEach(record -> update(record, 1));
+    }
+
+    /**
+     * Sums up the matching records again, then only updates the totals that differ from the current ones
+     * so that listeners of {@link #getTotals()} are not told about the categories that did not change.
+     */
+    private void recompute() {
+        totalsInCents.clear();
+        recordCounts.clear();
+        for (Record record : records) {
+            if (predicate.test(record)) {
+                totalsInCents.merge(getCategoryName(record), toCents(record), Long::sum);
+                recordCounts.merge(getCategoryName(record), 1, Integer::sum);
+            }
+        }
+
+        for (String category : new ArrayList<>(totals.keySet())) {
+            if (!totalsInCents.containsKey(category)) {
+                totals.remove(category);
+            }
+        }
+        totalsInCents.keySet().forEach(this::publishTotal);
+    }
+
+    /**
+     * Adds the amount of {@code record} to its category if {@code sign} is positive, or subtracts it otherwise,
+     * if the record matches the predicate.
+     */
+    private void update(Record record, int sign) {
+        if (!predicate.test(record)) {
+            return;
+        }
+
+        String category = getCategoryName(record);
+        totalsInCents.merge(category, sign * toCents(record), Long::sum);
+        recordCounts.merge(category, sign, Integer::sum);
+        if (recordCounts.get(category) == 0) {
+            totalsInCents.remove(category);
+            recordCounts.remove(category);
+            totals.remove(category);
+            return;
+        }
+        publishTotal(category);
+    }
+
+    /**
+     * Puts the total of {@code category} in {@link #getTotals()} if it changed.
+     */
+    private void publishTotal(String category) {
+        Double total = totalsInCents.get(category) / 100.0;
+        if (!total.equals(totals.get(category))) {
+            totals.put(category, total);
+        }
+    }
+
+    private static String getCategoryName(Record record) {
+        return record.getCategory().categoryName;
+    }
+
+    private static long toCents(Record record) {
+        return Math.round(record.getAmount().getValue() * 100);
+    }
+
+}
@@ -2,10 +2,11 @@ package seedu.finance.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
@@ -27,6 +28,11 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
     private final TotalBudget budget;
     private boolean isSetFile;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
+    private final List<FinanceTrackerChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+    private final FinanceTrackerChange.Builder pendingChange = new FinanceTrackerChange.Builder();
+    private long version;
+    private int changeBatchDepth;
+    private boolean isInvalidationPending;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -59,7 +65,8 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      */
     public void setRecords(List<Record> records) {
         this.records.setRecords(records);
-        indicateModified();
+        pendingChange.reset();
+        indicateDataModified();
     }
 
     /**
@@ -68,9 +75,15 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
     public void resetData(ReadOnlyFinanceTracker newData) {
         requireNonNull(newData);
 
-        setRecords(newData.getRecordList());
-        this.budget.set(newData.getBudget());
-        setIsSetFile(newData.isSetFile());
+        beginChangeBatch();
+        try {
+            setRecords(newData.getRecordList());
+            this.budget.set(newData.getBudget());
+            pendingChange.budgetChanged();
+            setIsSetFile(newData.isSetFile());
+        } finally {
+            endChangeBatch();
+        }
     }
 
     //// record-level operations
@@ -89,7 +102,8 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
     public boolean addRecord(Record r) {
         records.add(r);
         boolean budgetNotExceeded = budget.addRecord(r);
-        indicateModified();
+        pendingChange.recordAdded(r);
+        indicateDataModified();
         return budgetNotExceeded;
     }
 
@@ -101,7 +115,8 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
         requireNonNull(editedRecord);
         records.setRecord(target, editedRecord);
         budget.editRecord(target, editedRecord);
-        indicateModified();
+        pendingChange.recordReplaced(target, editedRecord);
+        indicateDataModified();
     }
 
     /**
@@ -111,7 +126,8 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
     public void removeRecord(Record key) {
         records.remove(key);
         budget.removeRecord(key);
-        indicateModified();
+        pendingChange.recordRemoved(key);
+        indicateDataModified();
     }
 
     /// budget-level operations
@@ -122,7 +138,8 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
      */
     public void addBudget(Budget budget) throws CategoryBudgetExceedTotalBudgetException {
         this.budget.updateBudget(budget, this.records.asUnmodifiableObservableList());
-        indicateModified();
+        pendingChange.budgetChanged();
+        indicateDataModified();
     }
 
     // =============================== Set File Operations =========================================================
@@ -156,7 +173,8 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
     public void addCategoryBudget(CategoryBudget catBudget) throws CategoryBudgetExceedTotalBudgetException,
             SpendingInCategoryBudgetExceededException {
         this.budget.setNewCategoryBudget(catBudget, records);
-        indicateModified();
+        pendingChange.budgetChanged();
+        indicateDataModified();
     }
 
     @Override
@@ -170,32 +188,92 @@ public class FinanceTracker implements ReadOnlyFinanceTracker {
     }
 
     /**
-     * Notifies listeners that the finance tracker has been modified.
+     * Notifies listeners that the finance tracker has been modified, or once the outermost batch of modifications
+     * ends if a batch is open.
      */
     protected void indicateModified() {
+        if (changeBatchDepth > 0) {
+            isInvalidationPending = true;
+            return;
+        }
+
         invalidationListenerManager.callListeners(this);
+        publishPendingChange();
     }
 
-    //// comparator methods
+    /**
+     * Stamps the finance tracker with a new version and notifies listeners that its data has been modified.
+     */
+    private void indicateDataModified() {
+        version++;
+        indicateModified();
+    }
+
+    // =============================== Change Feed =================================================================
 
     @Override
-    public String toString() {
-        return records.asUnmodifiableObservableList().size() + " records"
-                + "budget: " + budget;
+    public long getVersion() {
+        return version;
     }
 
     @Override
-    public ObservableList<Record> getRecordList() {
-        return records.asUnmodifiableObservableList();
+    public void addChangeListener(FinanceTrackerChangeListener listener) {
+        requireNonNull(listener);
+        changeListeners.add(listener);
+    }
+
+    @Override
+    public void removeChangeListener(FinanceTrackerChangeListener listener) {
+        requireNonNull(listener);
+        changeListeners.remove(listener);
+    }
+
+    /**
+     * Starts a batch of modifications. Invalidation listeners and change listeners are each notified once of the
+     * whole batch when the outermost batch ends, instead of once for every modification.
+     */
+    public void beginChangeBatch() {
+        changeBatchDepth++;
     }
 
+    /**
+     * Ends a batch of modifications started by {@link #beginChangeBatch()}.
+     */
+    public void endChangeBatch() {
+        if (changeBatchDepth == 0) {
+            throw new IllegalStateException("No change batch to end.");
+        }
+        changeBatchDepth--;
+        if (changeBatchDepth == 0 && isInvalidationPending) {
+            isInvalidationPending = false;
+            invalidationListenerManager.callListeners(this);
+        }
+        publishPendingChange();
+    }
 
-    public void reverseRecordList() {
-        records.reverseList();
+    /**
+     * Notifies change listeners of the pending modifications, unless a batch is still open.
+     */
+    private void publishPendingChange() {
+        if (changeBatchDepth > 0 || pendingChange.isEmpty()) {
+            return;
+        }
+
+        FinanceTrackerChange change = pendingChange.build(version);
+        for (FinanceTrackerChangeListener listener : changeListeners) {
+            listener.onChanged(change);
+        }
     }
 
-    public void sortRecordList(Comparator<Record> comparator) {
-        records.sortList(comparator);
+    @Override
+    public String toString() {
+        return records.asUnmodifiableObservableList().size() + " records"
+                + "budget: " + budget;
+    }
+
+    @Override
+    public ObservableList<Record> getRecordList() {
+        return records.asUnmodifiableObservableList();
     }
 
     @Override
@@ -0,0 +1,240 @@
+package seedu.finance.model;
+
+import static seedu.finance.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.finance.model.record.Record;
+
+/**
+ * Describes the net effect of one batch of modifications to a {@code FinanceTracker}.
+ *
+ * Removed records and the targets of replaced records were in the finance tracker before the batch, while added
+ * records and edited records are in it after the batch, so the deltas can be applied in any order.
+ * If the finance tracker was reset, no record deltas are given and its whole record list should be read again.
+ */
+public class FinanceTrackerChange {
+
+    private final long version;
+    private final boolean isReset;
+    private final boolean isBudgetChanged;
+    private final List<Record> addedRecords;
+    private final List<Record> removedRecords;
+    private final List<RecordReplacement> replacedRecords;
+
+    private FinanceTrackerChange(long version, Builder builder) {
+        this.version = version;
+        this.isReset = builder.isReset;
+        this.isBudgetChanged = builder.isBudgetChanged;
+        this.addedRecords = Collections.unmodifiableList(new ArrayList<>(builder.addedRecords));
+        this.removedRecords = Collections.unmodifiableList(new ArrayList<>(builder.removedRecords));
+        this.replacedRecords = Collections.unmodifiableList(new ArrayList<>(builder.replacedRecords));
+    }
+
+    /**
+     * Returns the version of the finance tracker after the change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if the whole record list was replaced, such as by a clear, an undo or a redo.
+     */
+    public boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns true if the total budget or a category budget was set.
+     */
+    public boolean isBudgetChanged() {
+        return isBudgetChanged;
+    }
+
+    public List<Record> getAddedRecords() {
+        return addedRecords;
+    }
+
+    public List<Record> getRemovedRecords() {
+        return removedRecords;
+    }
+
+    public List<RecordReplacement> getReplacedRecords() {
+        return replacedRecords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FinanceTrackerChange)) {
+            return false;
+        }
+
+        FinanceTrackerChange otherChange = (FinanceTrackerChange) other;
+        return version == otherChange.version
+                && isReset == otherChange.isReset
+                && isBudgetChanged == otherChange.isBudgetChanged
+                && addedRecords.equals(otherChange.addedRecords)
+                && removedRecords.equals(otherChange.removedRecords)
+                && replacedRecords.equals(otherChange.replacedRecords);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, isReset, isBudgetChanged, addedRecords, removedRecords, replacedRecords);
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + (isReset ? " reset" : "") + (isBudgetChanged ? " budget changed" : "")
+                + " added " + addedRecords + " removed " + removedRecords + " replaced " + replacedRecords;
+    }
+
+    /**
+     * A record that was replaced by an edited record.
+     */
+    public static class RecordReplacement {
+        private final Record target;
+        private final Record editedRecord;
+
+        public RecordReplacement(Record target, Record editedRecord) {
+            requireAllNonNull(target, editedRecord);
+            this.target = target;
+            this.editedRecord = editedRecord;
+        }
+
+        public Record getTarget() {
+            return target;
+        }
+
+        public Record getEditedRecord() {
+            return editedRecord;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof RecordReplacement // instanceof handles nulls
+                    && target.equals(((RecordReplacement) other).target)
+                    && editedRecord.equals(((RecordReplacement) other).editedRecord));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(target, editedRecord);
+        }
+
+        @Override
+        public String toString() {
+            return target + " -> " + editedRecord;
+        }
+    }
+
+    /**
+     * Collects the modifications of a batch, cancelling out those that undo each other,
+     * such as a record that is added and then removed.
+     */
+    static class Builder {
+        private boolean isReset;
+        private boolean isBudgetChanged;
+        private final List<Record> addedRecords = new ArrayList<>();
+        private final List<Record> removedRecords = new ArrayList<>();
+        private final List<RecordReplacement> replacedRecords = new ArrayList<>();
+
+        void recordAdded(Record record) {
+            if (!isReset) {
+                addedRecords.add(record);
+            }
+        }
+
+        /**
+         * Records the removal of {@code record}, which cancels out an earlier addition of it in this batch.
+         * If the record was edited earlier in this batch, the record before the edit is removed instead.
+         */
+        void recordRemoved(Record record) {
+            if (isReset || addedRecords.remove(record)) {
+                return;
+            }
+
+            int index = indexOfEditedRecord(record);
+            if (index == -1) {
+                removedRecords.add(record);
+                return;
+            }
+            removedRecords.add(replacedRecords.remove(index).getTarget());
+        }
+
+        /**
+         * Records the replacement of {@code target} with {@code editedRecord}, merging it with an earlier
+         * addition or edit of {@code target} in this batch.
+         */
+        void recordReplaced(Record target, Record editedRecord) {
+            if (isReset) {
+                return;
+            }
+
+            int addedIndex = addedRecords.indexOf(target);
+            if (addedIndex != -1) {
+                addedRecords.set(addedIndex, editedRecord);
+                return;
+            }
+
+            int replacedIndex = indexOfEditedRecord(target);
+            if (replacedIndex != -1) {
+                Record originalTarget = replacedRecords.get(replacedIndex).getTarget();
+                replacedRecords.set(replacedIndex, new RecordReplacement(originalTarget, editedRecord));
+                return;
+            }
+            replacedRecords.add(new RecordReplacement(target, editedRecord));
+        }
+
+        void budgetChanged() {
+            isBudgetChanged = true;
+        }
+
+        /**
+         * Records that the whole record list was replaced, which supersedes the earlier record deltas.
+         */
+        void reset() {
+            isReset = true;
+            addedRecords.clear();
+            removedRecords.clear();
+            replacedRecords.clear();
+        }
+
+        boolean isEmpty() {
+            return !isReset && !isBudgetChanged
+                    && addedRecords.isEmpty() && removedRecords.isEmpty() && replacedRecords.isEmpty();
+        }
+
+        /**
+         * Returns the change collected so far, stamped with {@code version}, and starts a new batch.
+         */
+        FinanceTrackerChange build(long version) {
+            FinanceTrackerChange change = new FinanceTrackerChange(version, this);
+            isReset = false;
+            isBudgetChanged = false;
+            addedRecords.clear();
+            removedRecords.clear();
+            replacedRecords.clear();
+            return change;
+        }
+
+        private int indexOfEditedRecord(Record record) {
+            for (int i = 0; i < replacedRecords.size(); i++) {
+                if (replacedRecords.get(i).getEditedRecord().equals(record)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+}
@@ -0,0 +1,14 @@
+package seedu.finance.model;
+
+/**
+ * Listens for the batches of modifications made to a {@code ReadOnlyFinanceTracker}.
+ */
+@FunctionalInterface
+public interface FinanceTrackerChangeListener {
+
+    /**
+     * Called after a batch of modifications has been made to the finance tracker.
+     */
+    void onChanged(FinanceTrackerChange change);
+
+}
@@ -1,12 +1,14 @@
 package seedu.finance.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.finance.commons.core.GuiSettings;
 import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
 import seedu.finance.model.budget.Budget;
@@ -65,6 +67,17 @@ public interface Model {
      */
     ReadOnlyFinanceTracker getFinanceTracker();
 
+    /**
+     * Starts a batch of modifications to the finance tracker, whose change listeners are notified once
+     * when the outermost batch ends.
+     */
+    void beginChangeBatch();
+
+    /**
+     * Ends a batch of modifications started by {@link #beginChangeBatch()}.
+     */
+    void endChangeBatch();
+
     /**
      * Returns true if a record with the same identity as {@code record} exists in the finance tracker.
      */
@@ -103,12 +116,15 @@ public interface Model {
      */
     HashSet<CategoryBudget> getCatBudget();
     /**
-     * Returns an unmodifiable view of the filtered record list in reverse order.
+     * Reverses the order in which the filtered record list is displayed.
+     * The records in the finance tracker are not modified.
      */
     void reverseFilteredRecordList();
 
     /**
      * Sorts the filtered record list according to comparison function in {@code comparator}.
+     * Only the displayed order changes; the records in the finance tracker are not modified.
+     * Records that are added or edited afterwards are also placed in this order.
      */
     void sortFilteredRecordList(Comparator<Record> comparator);
 
@@ -129,6 +145,20 @@ public interface Model {
      */
     void updateFilteredRecordList(Predicate<Record> predicate);
 
+    /**
+     * Filters the filtered record list by {@code predicate} until {@link #endFilteredRecordListPreview()} is called
+     * or the filter is updated, using {@code matches} found by a search done outside of a command.
+     * {@code matches} must be exactly the records in the finance tracker that {@code predicate} accepts.
+     *
+     * @throws NullPointerException if {@code predicate} or {@code matches} is null.
+     */
+    void previewFilteredRecordList(Predicate<Record> predicate, Collection<Record> matches);
+
+    /**
+     * Restores the filter that the filtered record list had before it was previewed, if it is being previewed.
+     */
+    void endFilteredRecordListPreview();
+
     /**
      * Adds the path to the data file before it is switched out by {@code SetFileCommand}.
      */
@@ -236,11 +266,10 @@ public interface Model {
     int getPeriodAmount();
 
     /**
-     * Returns an unmodifiable view of expenses which fulfill the statistics filter
-     *
-     * @return {@code ObservableList<Record>} of expenses which fulfill summary filter
+     * Returns an unmodifiable view of the total amount spent in each category by the expenses which fulfill
+     * the summary filter. The view is updated as records are added, deleted and edited.
      */
-    ObservableList<Record> getRecordSummary();
+    ObservableMap<String, Double> getRecordSummary();
 
     /**
      * Updates the predicate used for record summary
@@ -5,6 +5,7 @@ import static seedu.finance.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
@@ -15,21 +16,23 @@ import java.util.logging.Logger;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.finance.commons.core.GuiSettings;
 import seedu.finance.commons.core.LogsCenter;
 import seedu.finance.commons.exceptions.DataConversionException;
+import seedu.finance.commons.util.JmxUtil;
+import seedu.finance.commons.util.ReversibleList;
 import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
 import seedu.finance.model.budget.Budget;
 import seedu.finance.model.budget.CategoryBudget;
 import seedu.finance.model.budget.TotalBudget;
 import seedu.finance.model.exceptions.CategoryBudgetExceedTotalBudgetException;
 import seedu.finance.model.exceptions.SpendingInCategoryBudgetExceededException;
-import seedu.finance.model.record.Date;
+import seedu.finance.model.record.NarrowablePredicate;
 import seedu.finance.model.record.Record;
 import seedu.finance.model.record.exceptions.RecordNotFoundException;
 import seedu.finance.storage.JsonFinanceTrackerStorage;
@@ -38,16 +41,24 @@ import seedu.finance.storage.StorageManager;
 /**
  * Represents the in-memory model of the finance tracker data.
  */
-public class ModelManager implements Model {
+public class ModelManager implements Model, ModelManagerMXBean {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedFinanceTracker versionedFinanceTracker;
     private final UserPrefs userPrefs;
     private final FilteredList<Record> filteredRecords;
+    private final SortedList<Record> sortedRecords;
+    private final ReversibleList<Record> displayedRecords;
+    private final SearchResultCache searchResultCache = new SearchResultCache();
+    private Predicate<Record> filterPredicate = PREDICATE_SHOW_ALL_RECORD;
+    private Predicate<Record> predicateBeforePreview; // null when the filtered record list is not being previewed
     private final SimpleObjectProperty<Record> selectedRecord = new SimpleObjectProperty<>();
+    // the record being replaced by setRecord and the record replacing it, while the displayed list reports the change
+    private Record recordBeingReplaced;
+    private Record replacingRecord;
 
     private SummaryPeriod summaryPeriod;
-    private Predicate<Record> recordSummaryPredicate;
+    private final CategorySummary recordSummary;
     private int periodAmount;
 
     private Stack<Path> prevDataFiles = new Stack<>();
@@ -64,11 +75,16 @@ public class ModelManager implements Model {
 
         versionedFinanceTracker = new VersionedFinanceTracker(financeTracker);
         this.userPrefs = new UserPrefs(userPrefs);
+        // the cache must see a change before filteredRecords re-tests the changed records against a cached result
+        versionedFinanceTracker.getRecordList().addListener(searchResultCache);
         filteredRecords = new FilteredList<>(versionedFinanceTracker.getRecordList());
-        filteredRecords.addListener(this::ensureSelectedRecordIsValid);
+        sortedRecords = new SortedList<>(filteredRecords);
+        displayedRecords = new ReversibleList<>(sortedRecords);
+        displayedRecords.addListener(this::ensureSelectedRecordIsValid);
 
         this.summaryPeriod = defaultSummaryPeriod();
-        this.recordSummaryPredicate = defaultRecordPredicate();
+        recordSummary = new CategorySummary(versionedFinanceTracker.getRecordList(), defaultRecordPredicate());
+        versionedFinanceTracker.addChangeListener(recordSummary);
         this.periodAmount = defaultPeriodAmount();
     }
 
@@ -123,6 +139,16 @@ public class ModelManager implements Model {
         return versionedFinanceTracker;
     }
 
+    @Override
+    public void beginChangeBatch() {
+        versionedFinanceTracker.beginChangeBatch();
+    }
+
+    @Override
+    public void endChangeBatch() {
+        versionedFinanceTracker.endChangeBatch();
+    }
+
     @Override
     public boolean hasRecord(Record record) {
         requireNonNull(record);
@@ -145,7 +171,14 @@ public class ModelManager implements Model {
     public void setRecord(Record target, Record editedRecord) {
         requireAllNonNull(target, editedRecord);
 
-        versionedFinanceTracker.setRecord(target, editedRecord);
+        recordBeingReplaced = target;
+        replacingRecord = editedRecord;
+        try {
+            versionedFinanceTracker.setRecord(target, editedRecord);
+        } finally {
+            recordBeingReplaced = null;
+            replacingRecord = null;
+        }
     }
 
     @Override
@@ -210,39 +243,29 @@ public class ModelManager implements Model {
         return this.versionedFinanceTracker.getCategoryBudget();
     }
 
+    //=========== Sorted Record List View ====================================================================
+
     @Override
     public void reverseFilteredRecordList() {
-        versionedFinanceTracker.reverseRecordList();
+        displayedRecords.reverse();
     }
 
     @Override
     public void sortFilteredRecordList(Comparator<Record> comparator) {
         requireNonNull(comparator);
-        versionedFinanceTracker.sortRecordList(comparator);
-
+        sortedRecords.setComparator(comparator);
+        displayedRecords.setReversed(false);
     }
 
     //=========== Summary =================================================================================
-    /**
-     * Returns an unmodifiable view of expenses, filtered by {@code recordSummaryPredicate} and sorted by date.
-     *
-     * @return {@code ObservableList<Record>} of expenses which fulfill summary filter
-     */
     @Override
-    public ObservableList<Record> getRecordSummary() {
-        FilteredList<Record> filteredList = new FilteredList<>(versionedFinanceTracker.getRecordList());
-        filteredList.setPredicate(recordSummaryPredicate);
-
-        SortedList<Record> sortedList = new SortedList<>(filteredList);
-        Comparator<Record> byDate = (Record a, Record b) -> (-1 * Date.compare(a.getDate(), b.getDate()));
-        sortedList.setComparator(byDate);
-
-        return FXCollections.unmodifiableObservableList(sortedList);
+    public ObservableMap<String, Double> getRecordSummary() {
+        return recordSummary.getTotals();
     }
 
     @Override
     public void updateRecordSummaryPredicate (Predicate<Record> predicate) {
-        recordSummaryPredicate = predicate;
+        recordSummary.setPredicate(predicate);
     }
 
     @Override
@@ -291,17 +314,105 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of {@code Record} backed by the internal list of
-     * {@code versionedFinanceTracker}
+     * {@code versionedFinanceTracker}, in the order set by the latest sort and reverse.
      */
     @Override
     public ObservableList<Record> getFilteredRecordList() {
-        return filteredRecords;
+        return displayedRecords;
     }
 
+    /**
+     * Updates the filter of the filtered record list to filter by the given {@code predicate}.
+     * The records are left as they are if they are already filtered by the cached result of {@code predicate}.
+     * If {@code predicate} accepts no more records than the current filter, it is only tested against the records
+     * that are currently shown, as no other record can match it.
+     */
     @Override
     public void updateFilteredRecordList(Predicate<Record> predicate) {
         requireNonNull(predicate);
-        filteredRecords.setPredicate(predicate);
+        predicateBeforePreview = null;
+        Predicate<Record> currentPredicate = filterPredicate;
+        filterPredicate = predicate;
+        if (predicate == PREDICATE_SHOW_ALL_RECORD) {
+            filteredRecords.setPredicate(predicate);
+            return;
+        }
+
+        boolean isNarrowed = currentPredicate != PREDICATE_SHOW_ALL_RECORD
+                && NarrowablePredicate.isNarrower(predicate, currentPredicate);
+        Predicate<? super Record> candidates = isNarrowed ? filteredRecords.getPredicate() : PREDICATE_SHOW_ALL_RECORD;
+        showSearchResult(searchResultCache.lookup(predicate, candidates));
+    }
+
+    @Override
+    public void previewFilteredRecordList(Predicate<Record> predicate, Collection<Record> matches) {
+        requireAllNonNull(predicate, matches);
+        if (predicateBeforePreview == null) {
+            predicateBeforePreview = filterPredicate;
+        }
+        filterPredicate = predicate;
+        searchResultCache.put(predicate, matches);
+        showSearchResult(searchResultCache.lookup(predicate, PREDICATE_SHOW_ALL_RECORD));
+    }
+
+    /**
+     * Filters the records by {@code searchResult}, unless they are already filtered by it.
+     * Filtering tests every record, so it is skipped when searching again for the records shown.
+     */
+    private void showSearchResult(Predicate<Record> searchResult) {
+        if (filteredRecords.getPredicate() != searchResult) {
+            filteredRecords.setPredicate(searchResult);
+        }
+    }
+
+    @Override
+    public void endFilteredRecordListPreview() {
+        if (predicateBeforePreview != null) {
+            updateFilteredRecordList(predicateBeforePreview);
+        }
+    }
+
+    public long getSearchCacheHitCount() {
+        return searchResultCache.getHitCount();
+    }
+
+    public long getSearchCacheMissCount() {
+        return searchResultCache.getMissCount();
+    }
+
+    @Override
+    public int getRecordCount() {
+        return versionedFinanceTracker.getRecordList().size();
+    }
+
+    @Override
+    public int getFilteredRecordCount() {
+        return displayedRecords.size();
+    }
+
+    @Override
+    public int getSearchCacheSize() {
+        return searchResultCache.size();
+    }
+
+    @Override
+    public double getSearchCacheHitRatio() {
+        long searchCount = searchResultCache.getHitCount() + searchResultCache.getMissCount();
+        return searchCount == 0 ? 0 : (double) searchResultCache.getHitCount() / searchCount;
+    }
+
+    @Override
+    public void clearSearchCache() {
+        searchResultCache.clear();
+    }
+
+    /**
+     * Exposes this model and its undo history to JMX clients, which read and change them while holding
+     * {@code modelLock}.
+     */
+    public void registerMBeans(Object modelLock) {
+        JmxUtil.registerMBean(this, ModelManagerMXBean.class, "Model", modelLock);
+        JmxUtil.registerMBean(versionedFinanceTracker, VersionedFinanceTrackerMXBean.class, "UndoHistory", modelLock);
     }
 
     //=========== Undo/Redo =================================================================================
@@ -366,6 +477,12 @@ public class ModelManager implements Model {
      * @param change
      */
     private void ensureSelectedRecordIsValid(ListChangeListener.Change<? extends Record> change) {
+        Record editedSelectedRecord = getEditedSelectedRecord(change);
+        if (editedSelectedRecord != null) {
+            selectedRecord.setValue(editedSelectedRecord);
+            return;
+        }
+
         while (change.next()) {
             if (selectedRecord.getValue() == null) {
                 // null is always a valid selected record, so we do not need to check that it is valid anymore.
@@ -391,6 +508,25 @@ public class ModelManager implements Model {
         }
     }
 
+    /**
+     * Returns the edited record if {@code change} comes from {@link #setRecord(Record, Record)} replacing the
+     * selected record, and the edited record is still displayed, or null otherwise.
+     * When the list is sorted, an edited record may be removed at one position and added at another, so the
+     * removal and the addition arrive as separate sub-changes rather than as a single replacement.
+     */
+    private Record getEditedSelectedRecord(ListChangeListener.Change<? extends Record> change) {
+        if (recordBeingReplaced == null || !recordBeingReplaced.equals(selectedRecord.getValue())) {
+            return null;
+        }
+
+        boolean wasReplacingRecordAdded = false;
+        while (change.next() && !wasReplacingRecordAdded) {
+            wasReplacingRecordAdded = change.wasAdded() && change.getAddedSubList().contains(replacingRecord);
+        }
+        change.reset();
+        return wasReplacingRecordAdded ? replacingRecord : null;
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -407,7 +543,7 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return versionedFinanceTracker.equals(other.versionedFinanceTracker)
                 && userPrefs.equals(other.userPrefs)
-                && filteredRecords.equals(other.filteredRecords)
+                && displayedRecords.equals(other.displayedRecords)
                 && Objects.equals(selectedRecord.get(), other.selectedRecord.get());
     }
 
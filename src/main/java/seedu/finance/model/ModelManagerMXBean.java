@@ -0,0 +1,30 @@
+package seedu.finance.model;
+
+/**
+ * The view of {@link ModelManager} given to JMX clients.
+ */
+public interface ModelManagerMXBean {
+
+    int getRecordCount();
+
+    /**
+     * Returns the number of records in the filtered record list.
+     */
+    int getFilteredRecordCount();
+
+    /**
+     * Returns the number of search results cached.
+     */
+    int getSearchCacheSize();
+
+    /**
+     * Returns the fraction of searches answered from the cache, or 0 if there has been no search.
+     */
+    double getSearchCacheHitRatio();
+
+    /**
+     * Forgets every cached search result.
+     */
+    void clearSearchCache();
+
+}
@@ -25,4 +25,20 @@ public interface ReadOnlyFinanceTracker extends Observable {
 
     boolean isSetFile();
 
+    /**
+     * Returns the version of the finance tracker, which increases every time its data is modified.
+     */
+    long getVersion();
+
+    /**
+     * Adds a listener that is notified once for every batch of modifications, with the records and budgets
+     * that the batch changed.
+     */
+    void addChangeListener(FinanceTrackerChangeListener listener);
+
+    /**
+     * Removes {@code listener}. If the listener was not previously added, this method call is a no-op.
+     */
+    void removeChangeListener(FinanceTrackerChangeListener listener);
+
 }
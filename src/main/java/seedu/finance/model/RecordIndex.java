@@ -0,0 +1,164 @@
+package seedu.finance.model;
+
+import static seedu.finance.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import seedu.finance.model.record.AndPredicate;
+import seedu.finance.model.record.CategoryContainsKeywordsPredicate;
+import seedu.finance.model.record.Date;
+import seedu.finance.model.record.DateContainsKeywordsPredicate;
+import seedu.finance.model.record.NameContainsKeywordsPredicate;
+import seedu.finance.model.record.OrPredicate;
+import seedu.finance.model.record.Record;
+
+/**
+ * An index of the words in the names and categories, and of the dates, of a fixed list of records, so that
+ * a search only tests the records that can match it instead of every record.
+ *
+ * Searches by name, category and date, and {@code AndPredicate}s and {@code OrPredicate}s of them, are looked up in
+ * the index. Any other predicate is tested against every record. The records found are still tested against the
+ * predicate, so the index only has to be sure not to leave out a record that the predicate accepts.
+ * The index does not follow changes to the list, and can be read from any thread once it is built.
+ */
+public class RecordIndex {
+
+    /** The number of records tested between checks of whether the search has been cancelled. */
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    private final List<Record> records;
+    private final Map<String, List<Integer>> recordsByNameWord = new HashMap<>();
+    private final Map<String, List<Integer>> recordsByCategoryWord = new HashMap<>();
+    private final Map<Date, List<Integer>> recordsByDate = new HashMap<>();
+
+    /**
+     * Indexes {@code records}, which must not be changed afterwards.
+     */
+    public RecordIndex(List<Record> records) {
+        this.records = records;
+        for (int i = 0; i < records.size(); i++) {
+            Record record = records.get(i);
+            addWords(recordsByNameWord, record.getName().fullName, i);
+            addWords(recordsByCategoryWord, record.getCategory().toString(), i);
+            recordsByDate.computeIfAbsent(record.getDate(), date -> new ArrayList<>()).add(i);
+        }
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Returns the records that {@code predicate} accepts, in the order of the indexed list, or an empty
+     * {@code Optional} if {@code isCancelled} returned true before the search finished.
+     */
+    public Optional<List<Record>> search(Predicate<? super Record> predicate, BooleanSupplier isCancelled) {
+        requireAllNonNull(predicate, isCancelled);
+        BitSet candidates = getCandidates(predicate);
+        if (candidates == null) {
+            candidates = new BitSet(records.size());
+            candidates.set(0, records.size());
+        }
+
+        List<Record> matches = new ArrayList<>();
+        int tested = 0;
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (++tested % CANCEL_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                return Optional.empty();
+            }
+            Record record = records.get(i);
+            if (predicate.test(record)) {
+                matches.add(record);
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns the positions of the records that {@code predicate} may accept,
+     * or null if it may accept any of them.
+     */
+    private BitSet getCandidates(Predicate<? super Record> predicate) {
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            return lookUpWords(recordsByNameWord, ((NameContainsKeywordsPredicate) predicate).getKeywords());
+        }
+
+        if (predicate instanceof CategoryContainsKeywordsPredicate) {
+            return lookUpWords(recordsByCategoryWord, ((CategoryContainsKeywordsPredicate) predicate).getKeywords());
+        }
+
+        if (predicate instanceof DateContainsKeywordsPredicate) {
+            BitSet candidates = new BitSet(records.size());
+            for (String date : ((DateContainsKeywordsPredicate) predicate).getDates()) {
+                if (Date.isValidDate(date)) {
+                    recordsByDate.getOrDefault(new Date(date), new ArrayList<>()).forEach(candidates::set);
+                }
+            }
+            return candidates;
+        }
+
+        if (predicate instanceof AndPredicate) {
+            BitSet candidates = null;
+            for (Predicate<Record> term : ((AndPredicate) predicate).getPredicates()) {
+                BitSet termCandidates = getCandidates(term);
+                if (candidates == null) {
+                    candidates = termCandidates;
+                } else if (termCandidates != null) {
+                    candidates.and(termCandidates);
+                }
+            }
+            return candidates;
+        }
+
+        if (predicate instanceof OrPredicate) {
+            BitSet candidates = new BitSet(records.size());
+            for (Predicate<Record> alternative : ((OrPredicate) predicate).getPredicates()) {
+                BitSet alternativeCandidates = getCandidates(alternative);
+                if (alternativeCandidates == null) {
+                    return null;
+                }
+                candidates.or(alternativeCandidates);
+            }
+            return candidates;
+        }
+
+        return null;
+    }
+
+    private BitSet lookUpWords(Map<String, List<Integer>> recordsByWord, List<String> keywords) {
+        BitSet candidates = new BitSet(records.size());
+        for (String keyword : keywords) {
+            recordsByWord.getOrDefault(toKey(keyword.trim()), new ArrayList<>()).forEach(candidates::set);
+        }
+        return candidates;
+    }
+
+    private static void addWords(Map<String, List<Integer>> recordsByWord, String sentence, int position) {
+        for (String word : sentence.split("\\s+")) {
+            List<Integer> positions = recordsByWord.computeIfAbsent(toKey(word), key -> new ArrayList<>());
+            // a record whose name repeats a word is only listed once for it
+            if (positions.isEmpty() || positions.get(positions.size() - 1) != position) {
+                positions.add(position);
+            }
+        }
+    }
+
+    /**
+     * Returns the key of {@code word} in the index. Words that are equal ignoring case have the same key,
+     * as {@link String#equalsIgnoreCase(String)} compares the lower case of the upper case of each character.
+     */
+    private static String toKey(String word) {
+        StringBuilder key = new StringBuilder(word.length());
+        word.codePoints().forEach(codePoint ->
+                key.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return key.toString();
+    }
+
+}
@@ -0,0 +1,207 @@
+package seedu.finance.model;
+
+import static seedu.finance.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.finance.model.record.Record;
+
+/**
+ * A least recently used cache of search results, keyed by the search predicate and the version of the record list
+ * that the results were computed for.
+ *
+ * A result is filled in as the filter it is returned to tests the records, so that a search that misses the cache
+ * still scans the records only once.
+ *
+ * The cache listens to the record list. Changes that touch at most {@link #MAX_PATCH_SIZE} records are patched into
+ * every up-to-date result, which then stays valid for the new version. Larger changes, such as an undo, only advance
+ * the version so that the next lookup of each result is a miss.
+ */
+public class SearchResultCache implements ListChangeListener<Record> {
+
+    public static final int DEFAULT_CAPACITY = 8;
+    public static final int MAX_PATCH_SIZE = 16;
+
+    private final Map<Predicate<? super Record>, SearchResult> results;
+    private SearchResult resultBeingFilled;
+    private long version;
+    private long hitCount;
+    private long missCount;
+
+    public SearchResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SearchResultCache(int capacity) {
+        results = new LinkedHashMap<Predicate<? super Record>, SearchResult>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Predicate<? super Record>, SearchResult> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the records of the current version of the record list that
+     * {@code predicate} accepts, by looking them up in the cached result.
+     *
+     * On a miss, the returned predicate tests records with {@code predicate} and fills in the result with those it
+     * accepts, as {@code FilteredList#setPredicate} does once for every record. The caller must thus test every
+     * record of the list with it exactly once before the list changes or the cache is used again.
+     * {@code candidates} must accept every record that {@code predicate} accepts; the records it rejects are not
+     * tested with {@code predicate}.
+     */
+    public Predicate<Record> lookup(Predicate<? super Record> predicate, Predicate<? super Record> candidates) {
+        requireAllNonNull(predicate, candidates);
+        finishFilling();
+        SearchResult result = results.get(predicate);
+        if (result != null && result.version == version) {
+            hitCount++;
+            return result;
+        }
+
+        missCount++;
+        result = new SearchResult(predicate, version);
+        result.candidates = candidates;
+        resultBeingFilled = result;
+        results.put(predicate, result);
+        return result;
+    }
+
+    /**
+     * Caches {@code matches} as the result of {@code predicate} for the current version of the record list,
+     * for a search that was done outside of the cache.
+     * {@code matches} must be exactly the records of the current version that {@code predicate} accepts.
+     */
+    public void put(Predicate<? super Record> predicate, Collection<Record> matches) {
+        requireAllNonNull(predicate, matches);
+        finishFilling();
+        SearchResult result = new SearchResult(predicate, version);
+        matches.forEach(result::addMatch);
+        results.put(predicate, result);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Forgets every cached result. A result that is still in use keeps working, as it falls back to testing records
+     * with its predicate once the records change.
+     */
+    public void clear() {
+        finishFilling();
+        results.clear();
+    }
+
+    @Override
+    public void onChanged(Change<? extends Record> change) {
+        finishFilling();
+        long previousVersion = version;
+        version++;
+
+        if (getChangeSize(change) > MAX_PATCH_SIZE) {
+            return;
+        }
+
+        for (SearchResult result : results.values()) {
+            if (result.version != previousVersion) {
+                continue;
+            }
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(result::remove);
+                change.getAddedSubList().forEach(result::add);
+            }
+            change.reset();
+            result.version = version;
+        }
+    }
+
+    /**
+     * Ends the filling in of the result returned by the latest miss, which has tested every record by now.
+     */
+    private void finishFilling() {
+        if (resultBeingFilled != null) {
+            resultBeingFilled.candidates = null;
+            resultBeingFilled = null;
+        }
+    }
+
+    /**
+     * Returns the number of records removed or added by {@code change}.
+     */
+    private static int getChangeSize(Change<? extends Record> change) {
+        int size = 0;
+        while (change.next()) {
+            size += change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+        return size;
+    }
+
+    /**
+     * The records accepted by a search predicate, counted by value as the record list may hold equal records.
+     * Once the result is out of date, it falls back to testing records with the predicate itself.
+     */
+    private class SearchResult implements Predicate<Record> {
+        private final Predicate<? super Record> predicate;
+        private final Map<Record, Integer> matches = new HashMap<>();
+        private Predicate<? super Record> candidates; // null once the result is filled in
+        private long version;
+
+        SearchResult(Predicate<? super Record> predicate, long version) {
+            this.predicate = predicate;
+            this.version = version;
+        }
+
+        void add(Record record) {
+            if (predicate.test(record)) {
+                addMatch(record);
+            }
+        }
+
+        void addMatch(Record record) {
+            matches.merge(record, 1, Integer::sum);
+        }
+
+        void remove(Record record) {
+            matches.computeIfPresent(record, (key, count) -> count == 1 ? null : count - 1);
+        }
+
+        @Override
+        public boolean test(Record record) {
+            if (candidates != null) {
+                boolean isMatch = candidates.test(record) && predicate.test(record);
+                if (isMatch) {
+                    addMatch(record);
+                }
+                return isMatch;
+            }
+            if (version != SearchResultCache.this.version) {
+                return predicate.test(record);
+            }
+            return matches.containsKey(record);
+        }
+    }
+
+}
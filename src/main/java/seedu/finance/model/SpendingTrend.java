@@ -0,0 +1,203 @@
+package seedu.finance.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.finance.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Collection;
+
+import seedu.finance.commons.util.DownsampleUtil;
+import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
+import seedu.finance.model.record.Record;
+
+/**
+ * The total amount spent in each day, week or month of a range of dates, in date order.
+ * Buckets without any spending are kept with a total of zero so that the trend is continuous.
+ */
+public class SpendingTrend {
+
+    /** The most months a summary can cover before its trend is bucketed by month instead of by week. */
+    public static final int MAX_MONTHS_BUCKETED_BY_WEEK = 12;
+
+    /**
+     * The length of time that the spending is totalled over.
+     */
+    public enum Bucket {
+        DAY, WEEK, MONTH;
+
+        /**
+         * Returns the first day of the bucket that {@code date} falls in.
+         */
+        LocalDate startOf(LocalDate date) {
+            switch (this) {
+            case WEEK:
+                return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH:
+                return date.withDayOfMonth(1);
+            default:
+                return date;
+            }
+        }
+
+        /**
+         * Returns the first day of the bucket after the bucket starting on {@code bucketStart}.
+         */
+        LocalDate next(LocalDate bucketStart) {
+            switch (this) {
+            case WEEK:
+                return bucketStart.plusWeeks(1);
+            case MONTH:
+                return bucketStart.plusMonths(1);
+            default:
+                return bucketStart.plusDays(1);
+            }
+        }
+
+        /**
+         * Returns the number of whole buckets between the buckets starting on {@code start} and {@code end}.
+         */
+        int between(LocalDate start, LocalDate end) {
+            switch (this) {
+            case WEEK:
+                return (int) ChronoUnit.WEEKS.between(start, end);
+            case MONTH:
+                return (int) ChronoUnit.MONTHS.between(start, end);
+            default:
+                return (int) ChronoUnit.DAYS.between(start, end);
+            }
+        }
+    }
+
+    private final Bucket bucket;
+    private final double[] bucketStartEpochDays;
+    private final double[] totals;
+
+    private SpendingTrend(Bucket bucket, double[] bucketStartEpochDays, double[] totals) {
+        this.bucket = bucket;
+        this.bucketStartEpochDays = bucketStartEpochDays;
+        this.totals = totals;
+    }
+
+    /**
+     * Returns the bucket to total a summary of the past {@code periodAmount} days or months by.
+     * A summary in days is totalled by day, and a summary in months by week, or by month if it covers more than
+     * {@link #MAX_MONTHS_BUCKETED_BY_WEEK} months.
+     */
+    public static Bucket getBucketFor(SummaryPeriod summaryPeriod, int periodAmount) {
+        requireNonNull(summaryPeriod);
+        if (summaryPeriod == SummaryPeriod.DAY) {
+            return Bucket.DAY;
+        }
+        return periodAmount <= MAX_MONTHS_BUCKETED_BY_WEEK ? Bucket.WEEK : Bucket.MONTH;
+    }
+
+    /**
+     * Returns the first date of a summary of the past {@code periodAmount} days or months up to {@code today},
+     * which is the day after the date that the summary command filters records after.
+     */
+    public static LocalDate getStartDate(SummaryPeriod summaryPeriod, int periodAmount, LocalDate today) {
+        requireAllNonNull(summaryPeriod, today);
+        LocalDate excludedDate = summaryPeriod == SummaryPeriod.DAY
+                ? today.minusDays(periodAmount)
+                : today.minusMonths(periodAmount);
+        return excludedDate.plusDays(1);
+    }
+
+    /**
+     * Totals the amounts of the {@code records} dated from {@code start} to {@code end}, both inclusive,
+     * by {@code bucket}. Records outside of the range are ignored.
+     */
+    public static SpendingTrend of(Collection<Record> records, LocalDate start, LocalDate end, Bucket bucket) {
+        requireAllNonNull(records, start, end, bucket);
+        LocalDate firstBucketStart = bucket.startOf(start);
+        int bucketCount = end.isBefore(start) ? 0 : bucket.between(firstBucketStart, bucket.startOf(end)) + 1;
+
+        double[] bucketStartEpochDays = new double[bucketCount];
+        LocalDate bucketStart = firstBucketStart;
+        for (int i = 0; i < bucketCount; i++) {
+            bucketStartEpochDays[i] = bucketStart.toEpochDay();
+            bucketStart = bucket.next(bucketStart);
+        }
+
+        long[] totalsInCents = new long[bucketCount];
+        for (Record record : records) {
+            LocalDate date = record.getDate().getDate();
+            if (date.isBefore(start) || date.isAfter(end)) {
+                continue;
+            }
+            totalsInCents[bucket.between(firstBucketStart, bucket.startOf(date))] +=
+                    Math.round(record.getAmount().getValue() * 100);
+        }
+
+        double[] totals = new double[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            totals[i] = totalsInCents[i] / 100.0;
+        }
+        return new SpendingTrend(bucket, bucketStartEpochDays, totals);
+    }
+
+    /**
+     * Returns a trend of at most {@code maxPoints} of the buckets of this trend, chosen so that the peaks and dips
+     * of the spending are kept, or this trend if it has at most {@code maxPoints} buckets.
+     *
+     * @see DownsampleUtil#largestTriangleThreeBuckets(double[], double[], int)
+     */
+    public SpendingTrend downsample(int maxPoints) {
+        if (size() <= maxPoints) {
+            return this;
+        }
+
+        int[] kept = DownsampleUtil.largestTriangleThreeBuckets(bucketStartEpochDays, totals, maxPoints);
+        double[] keptEpochDays = new double[kept.length];
+        double[] keptTotals = new double[kept.length];
+        for (int i = 0; i < kept.length; i++) {
+            keptEpochDays[i] = bucketStartEpochDays[kept[i]];
+            keptTotals[i] = totals[kept[i]];
+        }
+        return new SpendingTrend(bucket, keptEpochDays, keptTotals);
+    }
+
+    public Bucket getBucket() {
+        return bucket;
+    }
+
+    /**
+     * Returns the number of buckets in the trend.
+     */
+    public int size() {
+        return totals.length;
+    }
+
+    /**
+     * Returns the first day of the bucket at {@code index} as a day count from the epoch.
+     */
+    public long getBucketStartEpochDay(int index) {
+        return (long) bucketStartEpochDays[index];
+    }
+
+    /**
+     * Returns the total amount spent in the bucket at {@code index}.
+     */
+    public double getTotal(int index) {
+        return totals[index];
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SpendingTrend // instanceof handles nulls
+                && bucket == ((SpendingTrend) other).bucket
+                && Arrays.equals(bucketStartEpochDays, ((SpendingTrend) other).bucketStartEpochDays)
+                && Arrays.equals(totals, ((SpendingTrend) other).totals));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * bucket.hashCode() + Arrays.hashCode(bucketStartEpochDays)) + Arrays.hashCode(totals);
+    }
+
+}
@@ -1,21 +1,35 @@
 package seedu.finance.model;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+
+import seedu.finance.model.record.Record;
 
 /**
  * {@code FinanceTracker} that keeps track of its own history.
  */
-public class VersionedFinanceTracker extends FinanceTracker {
+public class VersionedFinanceTracker extends FinanceTracker implements VersionedFinanceTrackerMXBean {
+
+    // rough sizes of a saved state without its records, a reference to a record, and a record
+    private static final int ESTIMATED_STATE_BYTES = 256;
+    private static final int ESTIMATED_REFERENCE_BYTES = 8;
+    private static final int ESTIMATED_RECORD_BYTES = 512;
 
-    private final List<ReadOnlyFinanceTracker> financeTrackerStateList;
+    private final ArrayList<ReadOnlyFinanceTracker> financeTrackerStateList;
     private int currentStatePointer;
 
+    // Records are immutable and shared by the states that hold them, so the number of states holding each record is
+    // counted as states are saved and removed, to estimate the memory taken by the states without walking them.
+    private final Map<Record, Integer> savedStateCounts = new IdentityHashMap<>();
+    private long savedRecordReferences;
+
     public VersionedFinanceTracker(ReadOnlyFinanceTracker initialState) {
         super(initialState);
 
         financeTrackerStateList = new ArrayList<>();
-        financeTrackerStateList.add(new FinanceTracker(initialState));
+        addState(new FinanceTracker(initialState));
         currentStatePointer = 0;
     }
 
@@ -26,13 +40,38 @@ public class VersionedFinanceTracker extends FinanceTracker {
     public void commit(boolean isSetFile) {
         removeStatesAfterCurrentPointer();
         setIsSetFile(isSetFile);
-        financeTrackerStateList.add(new FinanceTracker(this));
+        addState(new FinanceTracker(this));
         currentStatePointer++;
         indicateModified();
     }
 
     private void removeStatesAfterCurrentPointer() {
-        financeTrackerStateList.subList(currentStatePointer + 1, financeTrackerStateList.size()).clear();
+        removeStates(currentStatePointer + 1, financeTrackerStateList.size());
+    }
+
+    /**
+     * Saves {@code state} at the end of the state list.
+     */
+    private void addState(ReadOnlyFinanceTracker state) {
+        financeTrackerStateList.add(state);
+        for (Record record : state.getRecordList()) {
+            savedStateCounts.merge(record, 1, Integer::sum);
+        }
+        savedRecordReferences += state.getRecordList().size();
+    }
+
+    /**
+     * Removes the states from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, from the state list.
+     */
+    private void removeStates(int fromIndex, int toIndex) {
+        List<ReadOnlyFinanceTracker> states = financeTrackerStateList.subList(fromIndex, toIndex);
+        for (ReadOnlyFinanceTracker state : states) {
+            for (Record record : state.getRecordList()) {
+                savedStateCounts.computeIfPresent(record, (unused, count) -> count == 1 ? null : count - 1);
+            }
+            savedRecordReferences -= state.getRecordList().size();
+        }
+        states.clear();
     }
 
     /**
@@ -73,6 +112,38 @@ public class VersionedFinanceTracker extends FinanceTracker {
         return currentStatePointer < financeTrackerStateList.size() - 1;
     }
 
+    @Override
+    public int getUndoableStateCount() {
+        return currentStatePointer;
+    }
+
+    @Override
+    public int getRedoableStateCount() {
+        return financeTrackerStateList.size() - 1 - currentStatePointer;
+    }
+
+    /**
+     * Returns a rough estimate of the memory taken by the saved states, in which a record held by several states is
+     * only counted once. The estimate is kept up to date as states are saved and removed, so it is cheap to read.
+     */
+    @Override
+    public long getEstimatedHistoryBytes() {
+        return (long) ESTIMATED_STATE_BYTES * financeTrackerStateList.size()
+                + ESTIMATED_REFERENCE_BYTES * savedRecordReferences
+                + (long) ESTIMATED_RECORD_BYTES * savedStateCounts.size();
+    }
+
+    @Override
+    public void dropUndoHistory() {
+        removeStates(0, currentStatePointer);
+        currentStatePointer = 0;
+    }
+
+    @Override
+    public void compactHistory() {
+        financeTrackerStateList.trimToSize();
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
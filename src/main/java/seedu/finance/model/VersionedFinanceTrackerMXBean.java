@@ -0,0 +1,33 @@
+package seedu.finance.model;
+
+/**
+ * The view of {@link VersionedFinanceTracker} given to JMX clients.
+ */
+public interface VersionedFinanceTrackerMXBean {
+
+    /**
+     * Returns the number of states that can be undone.
+     */
+    int getUndoableStateCount();
+
+    /**
+     * Returns the number of states that can be redone.
+     */
+    int getRedoableStateCount();
+
+    /**
+     * Returns a rough estimate of the memory taken by the saved states.
+     */
+    long getEstimatedHistoryBytes();
+
+    /**
+     * Forgets the states that can be undone, keeping the current state and the states that can be redone.
+     */
+    void dropUndoHistory();
+
+    /**
+     * Frees the space kept for states that were removed.
+     */
+    void compactHistory();
+
+}
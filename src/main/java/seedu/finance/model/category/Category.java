@@ -3,6 +3,8 @@ package seedu.finance.model.category;
 import static java.util.Objects.requireNonNull;
 import static seedu.finance.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a category in the finance tracker.
  * Guarantees: immutable; name is valid as declared in {@link #isValidCategoryName(String)}
@@ -15,6 +17,8 @@ public class Category {
 
     public final String categoryName;
 
+    private final String sortKey;
+
     /**
      * Constructs a {@code Category}.
      *
@@ -24,6 +28,7 @@ public class Category {
         requireNonNull(categoryName);
         checkArgument(isValidCategoryName(categoryName), MESSAGE_CONSTRAINTS);
         this.categoryName = formatCategory(categoryName);
+        this.sortKey = this.categoryName.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -43,6 +48,13 @@ public class Category {
         return test.matches(VALIDATION_REGEX) && test.length() <= 40;
     }
 
+    /**
+     * Returns the category name folded to lower case, computed once at construction, for case insensitive sorting.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
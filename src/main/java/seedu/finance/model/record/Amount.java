@@ -19,7 +19,9 @@ public class Amount {
 
     public static final double MAX_AMOUNT = 100000000;
 
-    private String value;
+    private final String value;
+    private final double numericValue;
+    private final int hash;
 
     /**
      * Constructs an {@code Amount}.
@@ -30,6 +32,8 @@ public class Amount {
         requireNonNull(amount);
         checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
         value = amount;
+        numericValue = Double.parseDouble(amount);
+        hash = Double.hashCode(numericValue);
     }
 
     /**
@@ -43,7 +47,14 @@ public class Amount {
     }
 
     public Double getValue() {
-        return Double.parseDouble(value);
+        return numericValue;
+    }
+
+    /**
+     * Returns the amount as a primitive, parsed once at construction.
+     */
+    public double getNumericValue() {
+        return numericValue;
     }
 
     @Override
@@ -60,7 +71,7 @@ public class Amount {
 
     @Override
     public int hashCode() {
-        return Double.valueOf(value).hashCode();
+        return hash;
     }
 
 }
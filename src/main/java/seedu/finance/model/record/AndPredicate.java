@@ -0,0 +1,56 @@
+package seedu.finance.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Record} is accepted by all of the given predicates.
+ */
+public class AndPredicate implements NarrowablePredicate {
+    private final List<Predicate<Record>> predicates;
+
+    public AndPredicate(List<Predicate<Record>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = Collections.unmodifiableList(new ArrayList<>(predicates));
+    }
+
+    public List<Predicate<Record>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Record record) {
+        for (Predicate<Record> predicate : predicates) {
+            if (!predicate.test(record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if any of the predicates is narrower than {@code other}, as this predicate accepts
+     * no more records than each of them.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<? super Record> other) {
+        return predicates.stream().anyMatch(predicate -> NarrowablePredicate.isNarrower(predicate, other));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndPredicate // instanceof handles nulls
+                && predicates.equals(((AndPredicate) other).predicates)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+}
@@ -10,13 +10,17 @@ import seedu.finance.model.category.Category;
 /**
  * Tests that a {@code Record}'s {@code Category} matches any of the keywords given.
  */
-public class CategoryContainsKeywordsPredicate implements Predicate<Record> {
+public class CategoryContainsKeywordsPredicate implements NarrowablePredicate {
     private final List<String> keywords;
 
     public CategoryContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Record record) {
         Category category = record.getCategory();
@@ -24,6 +28,15 @@ public class CategoryContainsKeywordsPredicate implements Predicate<Record> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(category.toString(), keyword));
     }
 
+    /**
+     * Returns true if {@code other} also tests for all of the keywords of this predicate.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<? super Record> other) {
+        return other instanceof CategoryContainsKeywordsPredicate && keywords.stream().allMatch(keyword ->
+                ((CategoryContainsKeywordsPredicate) other).keywords.stream().anyMatch(keyword::equalsIgnoreCase));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -31,4 +44,9 @@ public class CategoryContainsKeywordsPredicate implements Predicate<Record> {
                 && keywords.equals(((CategoryContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
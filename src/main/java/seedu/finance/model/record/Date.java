@@ -18,6 +18,7 @@ public class Date {
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
 
     private LocalDate date;
+    private final long epochDay;
 
     /**
      * Constructs a {@code Date}.
@@ -34,6 +35,7 @@ public class Date {
         int month = Integer.parseInt(parsedDate[1]);
         int day = Integer.parseInt(parsedDate[0]);
         this.setDate(year, month, day);
+        this.epochDay = this.date.toEpochDay();
     }
 
     /**
@@ -43,6 +45,7 @@ public class Date {
      */
     public Date(LocalDate date) {
         this.date = date;
+        this.epochDay = date.toEpochDay();
     }
 
     /**
@@ -69,7 +72,15 @@ public class Date {
         return date;
     }
 
-    public void setDate(int year, int month, int day) {
+    /**
+     * Returns the date as a day count from the epoch, computed once at construction,
+     * so that dates can be compared as primitives.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    private void setDate(int year, int month, int day) {
         date = LocalDate.of(year, month, day);
     }
 
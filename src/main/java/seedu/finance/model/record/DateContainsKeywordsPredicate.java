@@ -6,19 +6,32 @@ import java.util.function.Predicate;
 /**
  * Tests that a {@code Record}'s {@code Category} matches any of the keywords given.
  */
-public class DateContainsKeywordsPredicate implements Predicate<Record> {
+public class DateContainsKeywordsPredicate implements NarrowablePredicate {
     private final List<String> listOfDates;
 
     public DateContainsKeywordsPredicate(List<String> listOfDates) {
         this.listOfDates = listOfDates;
     }
 
+    public List<String> getDates() {
+        return listOfDates;
+    }
+
     @Override
     public boolean test(Record record) {
         return listOfDates.stream()
                 .anyMatch(date -> record.getDate().equals(new Date(date)));
     }
 
+    /**
+     * Returns true if {@code other} also tests for all of the dates of this predicate.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<? super Record> other) {
+        return other instanceof DateContainsKeywordsPredicate
+                && ((DateContainsKeywordsPredicate) other).listOfDates.containsAll(listOfDates);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -26,4 +39,9 @@ public class DateContainsKeywordsPredicate implements Predicate<Record> {
                 && listOfDates.equals(((DateContainsKeywordsPredicate) other).listOfDates)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return listOfDates.hashCode();
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.finance.model.record;
 import static java.util.Objects.requireNonNull;
 import static seedu.finance.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a record's name in the finance tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -21,6 +23,8 @@ public class Name {
 
     public final String fullName;
 
+    private final String sortKey;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -30,6 +34,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        sortKey = name.toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -39,6 +44,12 @@ public class Name {
         return test.matches(VALIDATION_REGEX) && test.length() <= 40;
     }
 
+    /**
+     * Returns the name folded to lower case, computed once at construction, for case insensitive sorting.
+     */
+    public String getSortKey() {
+        return sortKey;
+    }
 
     @Override
     public String toString() {
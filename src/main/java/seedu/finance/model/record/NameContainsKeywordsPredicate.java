@@ -8,19 +8,32 @@ import seedu.finance.commons.util.StringUtil;
 /**
  * Tests that a {@code Record}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Record> {
+public class NameContainsKeywordsPredicate implements NarrowablePredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Record record) {
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(record.getName().fullName, keyword));
     }
 
+    /**
+     * Returns true if {@code other} also tests for all of the keywords of this predicate.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<? super Record> other) {
+        return other instanceof NameContainsKeywordsPredicate && keywords.stream().allMatch(keyword ->
+                ((NameContainsKeywordsPredicate) other).keywords.stream().anyMatch(keyword::equalsIgnoreCase));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -28,4 +41,9 @@ public class NameContainsKeywordsPredicate implements Predicate<Record> {
                 && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
 }
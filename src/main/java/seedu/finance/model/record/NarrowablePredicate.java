@@ -0,0 +1,40 @@
+package seedu.finance.model.record;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} on records that can tell when it accepts no more records than another predicate,
+ * so that a search can be run over the results of the search before it instead of over every record.
+ */
+public interface NarrowablePredicate extends Predicate<Record> {
+
+    /**
+     * Returns true if every record accepted by this predicate is known to be accepted by {@code other}.
+     * May return false when this cannot be told from the predicates alone.
+     */
+    boolean isNarrowerThan(Predicate<? super Record> other);
+
+    /**
+     * Returns true if every record accepted by {@code predicate} is known to be accepted by {@code other}.
+     * Unlike {@link #isNarrowerThan(Predicate)}, this also takes apart an {@code AndPredicate} or
+     * {@code OrPredicate} given as {@code other}.
+     */
+    static boolean isNarrower(Predicate<? super Record> predicate, Predicate<? super Record> other) {
+        if (predicate.equals(other)) {
+            return true;
+        }
+
+        if (other instanceof AndPredicate) {
+            return ((AndPredicate) other).getPredicates().stream()
+                    .allMatch(otherPredicate -> isNarrower(predicate, otherPredicate));
+        }
+
+        if (other instanceof OrPredicate && ((OrPredicate) other).getPredicates().stream()
+                .anyMatch(otherPredicate -> isNarrower(predicate, otherPredicate))) {
+            return true;
+        }
+
+        return predicate instanceof NarrowablePredicate && ((NarrowablePredicate) predicate).isNarrowerThan(other);
+    }
+
+}
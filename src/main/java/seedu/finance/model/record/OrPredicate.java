@@ -0,0 +1,55 @@
+package seedu.finance.model.record;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Record} is accepted by any of the given predicates.
+ */
+public class OrPredicate implements NarrowablePredicate {
+    private final List<Predicate<Record>> predicates;
+
+    public OrPredicate(List<Predicate<Record>> predicates) {
+        requireNonNull(predicates);
+        this.predicates = Collections.unmodifiableList(new ArrayList<>(predicates));
+    }
+
+    public List<Predicate<Record>> getPredicates() {
+        return predicates;
+    }
+
+    @Override
+    public boolean test(Record record) {
+        for (Predicate<Record> predicate : predicates) {
+            if (predicate.test(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if all of the predicates are narrower than {@code other}.
+     */
+    @Override
+    public boolean isNarrowerThan(Predicate<? super Record> other) {
+        return predicates.stream().allMatch(predicate -> NarrowablePredicate.isNarrower(predicate, other));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrPredicate // instanceof handles nulls
+                && predicates.equals(((OrPredicate) other).predicates)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return predicates.hashCode();
+    }
+
+}
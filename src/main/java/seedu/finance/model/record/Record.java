@@ -21,6 +21,9 @@ public class Record {
     private final Description description;
     private final Category category;
 
+    // Cached as all fields are immutable; saves re-hashing on every list lookup
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -32,6 +35,7 @@ public class Record {
         this.date = date;
         this.description = description;
         this.category = category;
+        this.hash = computeHash();
     }
 
     public Name getName() {
@@ -83,17 +87,31 @@ public class Record {
         }
 
         Record otherRecord = (Record) other;
-        return otherRecord.getName().equals(getName())
-                && otherRecord.getAmount().equals(getAmount())
+        // cheapest checks first: differing hash codes can never be equal
+        return otherRecord.hash == hash
                 && otherRecord.getDate().equals(getDate())
-                && otherRecord.getDescription().equals(getDescription())
-                && otherRecord.getCategory().equals(getCategory());
+                && otherRecord.getAmount().equals(getAmount())
+                && otherRecord.getCategory().equals(getCategory())
+                && otherRecord.getName().equals(getName())
+                && Objects.equals(otherRecord.getDescription(), getDescription());
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, amount, date, description, category);
+        return hash;
+    }
+
+    /**
+     * Combines the hash codes of all fields without allocating a varargs array.
+     */
+    private int computeHash() {
+        int result = 1;
+        result = 31 * result + name.hashCode();
+        result = 31 * result + amount.hashCode();
+        result = 31 * result + date.hashCode();
+        result = 31 * result + Objects.hashCode(description);
+        result = 31 * result + category.hashCode();
+        return result;
     }
 
     @Override
@@ -3,7 +3,6 @@ package seedu.finance.model.record;
 import static java.util.Objects.requireNonNull;
 import static seedu.finance.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
@@ -92,21 +91,6 @@ public class UniqueRecordList implements Iterable<Record> {
         return internalUnmodifiableList;
     }
 
-    /**
-     * Reverses the list.
-     */
-    public void reverseList() {
-        FXCollections.reverse(internalList);
-
-    }
-
-    /**
-     * Sorts the list according to comparator supplied
-     */
-    public void sortList(Comparator<Record> comparator) {
-        FXCollections.sort(internalList, comparator);
-    }
-
     @Override
     public Iterator<Record> iterator() {
         return internalList.iterator();
@@ -34,8 +34,13 @@ public class SampleDataUtil {
 
     public static ReadOnlyFinanceTracker getSampleFinanceTracker() {
         FinanceTracker sampleFinanceTracker = new FinanceTracker();
-        for (Record sampleRecord : getSampleRecords()) {
-            sampleFinanceTracker.addRecord(sampleRecord);
+        sampleFinanceTracker.beginChangeBatch();
+        try {
+            for (Record sampleRecord : getSampleRecords()) {
+                sampleFinanceTracker.addRecord(sampleRecord);
+            }
+        } finally {
+            sampleFinanceTracker.endChangeBatch();
         }
         return sampleFinanceTracker;
     }
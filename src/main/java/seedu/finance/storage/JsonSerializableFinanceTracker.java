@@ -54,9 +54,14 @@ class JsonSerializableFinanceTracker {
      */
     public FinanceTracker toModelType() throws IllegalValueException {
         FinanceTracker financeTracker = new FinanceTracker();
-        for (JsonAdaptedRecord jsonAdaptedRecord : records) {
-            Record record = jsonAdaptedRecord.toModelType();
-            financeTracker.addRecord(record);
+        financeTracker.beginChangeBatch();
+        try {
+            for (JsonAdaptedRecord jsonAdaptedRecord : records) {
+                Record record = jsonAdaptedRecord.toModelType();
+                financeTracker.addRecord(record);
+            }
+        } finally {
+            financeTracker.endChangeBatch();
         }
         financeTracker.getBudget().set(budget.toModelType());
 
@@ -1,12 +1,17 @@
 package seedu.finance.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import seedu.finance.commons.core.LogsCenter;
 import seedu.finance.commons.exceptions.DataConversionException;
+import seedu.finance.commons.util.JmxUtil;
 import seedu.finance.model.ReadOnlyFinanceTracker;
 import seedu.finance.model.ReadOnlyUserPrefs;
 import seedu.finance.model.UserPrefs;
@@ -14,12 +19,17 @@ import seedu.finance.model.UserPrefs;
 /**
  * Manages storage of FinanceTracker data in local storage.
  */
-public class StorageManager implements Storage {
+public class StorageManager implements Storage, StorageManagerMXBean {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private static FinanceTrackerStorage financeTrackerStorage;
     private static UserPrefsStorage userPrefsStorage;
 
+    private final AtomicLong saveCount = new AtomicLong();
+    private final AtomicLong lastSaveNanos = new AtomicLong();
+    private final AtomicLong lastSaveFileBytes = new AtomicLong();
+    private final AtomicInteger savesInProgress = new AtomicInteger();
+
 
     public StorageManager(FinanceTrackerStorage financeTrackerStorage, UserPrefsStorage userPrefsStorage) {
         super();
@@ -72,7 +82,47 @@ public class StorageManager implements Storage {
     @Override
     public void saveFinanceTracker(ReadOnlyFinanceTracker financeTracker, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        financeTrackerStorage.saveFinanceTracker(financeTracker, filePath);
+        savesInProgress.incrementAndGet();
+        long startNanos = System.nanoTime();
+        try {
+            financeTrackerStorage.saveFinanceTracker(financeTracker, filePath);
+            lastSaveNanos.set(System.nanoTime() - startNanos);
+            saveCount.incrementAndGet();
+            if (Files.exists(filePath)) {
+                lastSaveFileBytes.set(Files.size(filePath));
+            }
+        } finally {
+            savesInProgress.decrementAndGet();
+        }
+    }
+
+    // ================ Measurements ==============================
+
+    /**
+     * Exposes the measurements of the saves to JMX clients.
+     */
+    public void registerMBean() {
+        JmxUtil.registerMBean(this, "Storage");
+    }
+
+    @Override
+    public long getSaveCount() {
+        return saveCount.get();
+    }
+
+    @Override
+    public double getLastSaveMillis() {
+        return lastSaveNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getLastSaveFileBytes() {
+        return lastSaveFileBytes.get();
+    }
+
+    @Override
+    public int getSavesInProgress() {
+        return savesInProgress.get();
     }
 
     public static void setFinanceTrackerStorage(FinanceTrackerStorage newStorage) {
@@ -0,0 +1,28 @@
+package seedu.finance.storage;
+
+/**
+ * The view of {@link StorageManager} given to JMX clients.
+ */
+public interface StorageManagerMXBean {
+
+    /**
+     * Returns the number of times the finance tracker was saved.
+     */
+    long getSaveCount();
+
+    /**
+     * Returns how long the last save of the finance tracker took, in milliseconds.
+     */
+    double getLastSaveMillis();
+
+    /**
+     * Returns the size of the file written by the last save of the finance tracker.
+     */
+    long getLastSaveFileBytes();
+
+    /**
+     * Returns the number of saves of the finance tracker that are writing or waiting to write.
+     */
+    int getSavesInProgress();
+
+}
@@ -2,9 +2,8 @@ package seedu.finance.ui;
 
 import java.util.logging.Logger;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.KeyValue;
-import javafx.animation.Timeline;
+import javafx.animation.Interpolator;
+import javafx.animation.Transition;
 import javafx.fxml.FXML;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.layout.Region;
@@ -13,6 +12,7 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextFlow;
 import javafx.util.Duration;
 import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.commons.util.StringUtil;
 import seedu.finance.model.budget.Budget;
 
 //@@author Jackimaru96
@@ -25,9 +25,11 @@ public class BudgetPanel extends UiPart<Region> {
 
     public static final String FXML = "BudgetPanel.fxml";
     private static final double ANIMATION_DURATION = 0.2;
+    private static final long ANIMATION_DURATION_NANOS = (long) (ANIMATION_DURATION * 1_000_000_000);
     private static final double SIZE_OF_FONT = 35.0;
     private final Logger logger = LogsCenter.getLogger(BudgetPanel.class);
-    private Timeline timeline;
+    private final ProgressAnimation progressAnimation;
+    private long lastUpdateNanos;
     @FXML
     private ProgressBar budgetBar;
     @FXML
@@ -49,7 +51,11 @@ public class BudgetPanel extends UiPart<Region> {
         budgetDisplay.setFont(Font.font("Abel", SIZE_OF_FONT));
         spendingDisplay.setFont(Font.font("Abel", SIZE_OF_FONT));
         percentageDisplay.getChildren().addAll(spendingDisplay, budgetDisplay);
+        percentageDisplay.heightProperty().addListener((observable, oldHeight, newHeight) -> alterTextSize());
 
+        progressAnimation = new ProgressAnimation(budgetBar);
+        progressAnimation.setOnFinished(event -> showAmounts());
+        lastUpdateNanos = System.nanoTime() - ANIMATION_DURATION_NANOS;
         update(budget);
     }
 
@@ -112,7 +118,7 @@ public class BudgetPanel extends UiPart<Region> {
      * @param totalBudget to display on totalBudget
      */
     public void updateTotalBudgetTextDisplay(double totalBudget) {
-        this.budgetDisplay.setText(" / $" + String.format("%.2f", totalBudget));
+        setTextIfChanged(budgetDisplay, " / $" + StringUtil.toTwoDecimalPlaces(totalBudget));
     }
 
     /**
@@ -120,7 +126,7 @@ public class BudgetPanel extends UiPart<Region> {
      * @param spending to display on currentSpending
      */
     public void updateCurrentSpendingTextDisplay(double spending) {
-        this.spendingDisplay.setText("$" + String.format("%.2f", spending));
+        setTextIfChanged(spendingDisplay, "$" + StringUtil.toTwoDecimalPlaces(spending));
     }
 
     /**
@@ -150,41 +156,79 @@ public class BudgetPanel extends UiPart<Region> {
     }
 
     /**
-     * method to update the budget panel to show updated budget
+     * method to update the budget panel to show updated budget.
+     * The progress bar is animated from where it is now to the new percentage, and the amounts are shown
+     * when it gets there. If the previous update was less than an animation ago, such as during an undo chain
+     * or a bulk import, the bar and the amounts are set straight away instead.
      * @param currentSpending the total current spending now
      * @param totalBudget the total budget for finance tracker
      * @param percentage the percentage (currentSpending/totalBudget0
      */
     public void updateBudgetPanel(double currentSpending, double totalBudget, double percentage) {
-        timeline = new Timeline(
-                new KeyFrame(
-                        Duration.ZERO,
-                        new KeyValue(budgetBar.progressProperty(), budgetBar.getProgress())
-                ),
-                new KeyFrame(
-                        Duration.seconds(ANIMATION_DURATION),
-                        new KeyValue(budgetBar.progressProperty(), percentage)
-                )
-        );
-
-        timeline.setOnFinished(stage -> {
-            this.currentSpending = currentSpending;
-            this.currentTotalBudget = totalBudget;
-            updateCurrentSpendingTextDisplay(currentSpending);
-            updateTotalBudgetTextDisplay(totalBudget);
-            alterTextSize();
-            timeline.stop();
-        });
-
-        timeline.playFromStart();
+        this.currentSpending = currentSpending;
+        this.currentTotalBudget = totalBudget;
 
+        long now = System.nanoTime();
+        boolean isInBurst = now - lastUpdateNanos < ANIMATION_DURATION_NANOS;
+        lastUpdateNanos = now;
+
+        progressAnimation.stop();
+        if (isInBurst) {
+            budgetBar.setProgress(percentage);
+            showAmounts();
+            return;
+        }
+        progressAnimation.retarget(budgetBar.getProgress(), percentage);
+        progressAnimation.playFromStart();
     }
 
     /**
      * Alter the size of texts
      */
     public void alterTextSize() {
-        percentageDisplay.setScaleY(percentageDisplay.getMaxHeight() / percentageDisplay.getHeight());
-        percentageDisplay.setScaleX(percentageDisplay.getMaxHeight() / percentageDisplay.getHeight());
+        double height = percentageDisplay.getHeight();
+        if (height == 0) {
+            return;
+        }
+        percentageDisplay.setScaleY(percentageDisplay.getMaxHeight() / height);
+        percentageDisplay.setScaleX(percentageDisplay.getMaxHeight() / height);
+    }
+
+    private void showAmounts() {
+        updateCurrentSpendingTextDisplay(currentSpending);
+        updateTotalBudgetTextDisplay(currentTotalBudget);
+    }
+
+    private static void setTextIfChanged(Text text, String newText) {
+        if (!newText.equals(text.getText())) {
+            text.setText(newText);
+        }
+    }
+
+    /**
+     * Moves a progress bar from one progress to another at a constant rate.
+     * The same animation is reused for every update by giving it the progress to move between before playing it.
+     */
+    private static class ProgressAnimation extends Transition {
+
+        private final ProgressBar progressBar;
+        private double fromProgress;
+        private double toProgress;
+
+        ProgressAnimation(ProgressBar progressBar) {
+            this.progressBar = progressBar;
+            setCycleDuration(Duration.seconds(ANIMATION_DURATION));
+            setInterpolator(Interpolator.LINEAR);
+        }
+
+        void retarget(double fromProgress, double toProgress) {
+            this.fromProgress = fromProgress;
+            this.toProgress = toProgress;
+        }
+
+        @Override
+        protected void interpolate(double fraction) {
+            progressBar.setProgress(fromProgress + (toProgress - fromProgress) * fraction);
+        }
     }
 }
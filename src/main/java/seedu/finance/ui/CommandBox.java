@@ -2,6 +2,7 @@ package seedu.finance.ui;
 
 import java.util.List;
 
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
@@ -19,7 +20,7 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
-    private final CommandExecutor commandExecutor;
+    private final CommandSubmitter commandSubmitter;
     private final List<String> history;
     private ListElementPointer historySnapshot;
 
@@ -27,14 +28,36 @@ public class CommandBox extends UiPart<Region> {
     private TextField commandTextField;
 
     public CommandBox(CommandExecutor commandExecutor, List<String> history) {
+        this((commandText, onSuccess, onFailure) -> {
+            try {
+                commandExecutor.execute(commandText);
+                onSuccess.run();
+            } catch (CommandException | ParseException e) {
+                onFailure.run();
+            }
+        }, history);
+    }
+
+    /**
+     * Creates a command box that hands the commands entered to {@code commandSubmitter}, which may finish
+     * executing them after it returns.
+     */
+    public CommandBox(CommandSubmitter commandSubmitter, List<String> history) {
         super(FXML);
-        this.commandExecutor = commandExecutor;
+        this.commandSubmitter = commandSubmitter;
         this.history = history;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         historySnapshot = new ListElementPointer(history);
     }
 
+    /**
+     * Returns the text in the command box as the user types it.
+     */
+    public ObservableValue<String> textProperty() {
+        return commandTextField.textProperty();
+    }
+
     /**
      * Handles the key press event, {@code keyEvent}.
      */
@@ -94,18 +117,23 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The text field is only cleared or marked as failed if it still holds the command when the command finishes.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
+        String commandText = commandTextField.getText();
+        commandSubmitter.submit(commandText, () -> {
             initHistory();
             historySnapshot.next();
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+            if (commandText.equals(commandTextField.getText())) {
+                commandTextField.setText("");
+            }
+        }, () -> {
             initHistory();
-            setStyleToIndicateCommandFailure();
-        }
+            if (commandText.equals(commandTextField.getText())) {
+                setStyleToIndicateCommandFailure();
+            }
+        });
     }
 
     /**
@@ -151,4 +179,15 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that starts executing commands, and reports on the application thread when they finish.
+     */
+    @FunctionalInterface
+    public interface CommandSubmitter {
+        /**
+         * Executes the command, then runs {@code onSuccess} or {@code onFailure} on the application thread.
+         */
+        void submit(String commandText, Runnable onSuccess, Runnable onFailure);
+    }
+
 }
@@ -0,0 +1,236 @@
+package seedu.finance.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.logic.commands.CommandResult;
+import seedu.finance.logic.commands.exceptions.CommandException;
+import seedu.finance.logic.parser.exceptions.ParseException;
+import seedu.finance.ui.CommandBox.CommandExecutor;
+
+/**
+ * Executes commands one at a time, in the order they were submitted, on a worker thread instead of the JavaFX
+ * application thread, and hands their results back to the application thread in the same order.
+ *
+ * A command that is still running after {@link #LONG_RUNNING_DELAY_MILLIS} is shown by {@link #busyCommandProperty()}
+ * so that the user can tell that it is running, for how long, and how many commands are waiting behind it.
+ * Cancelling reports every command that has not started yet as cancelled. The running command is never interrupted,
+ * as it may be writing the data file, and its own outcome is reported when it finishes.
+ */
+public class CommandWorker {
+
+    public static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled: %1$s";
+    public static final long LONG_RUNNING_DELAY_MILLIS = 300;
+
+    private static final long NO_COMMAND = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandWorker.class);
+
+    private final ExecutorService worker;
+    private final ScheduledExecutorService busyTimer;
+    private final Consumer<Runnable> resultPoster;
+    private final long longRunningDelayMillis;
+
+    // Commands are numbered in the order they are submitted. The fields below are guarded by this worker.
+    private long nextCommand;
+    private long firstUncancelledCommand;
+    private long dequeuedCommands;
+    private long runningCommand = NO_COMMAND;
+
+    // only used on the application thread
+    private final ReadOnlyStringWrapper busyCommand = new ReadOnlyStringWrapper();
+    private final ReadOnlyIntegerWrapper queuedCommandCount = new ReadOnlyIntegerWrapper();
+    private long busyCommandNumber = NO_COMMAND;
+    private long busyCommandStartNanos;
+
+    public CommandWorker() {
+        this(Executors.newSingleThreadExecutor(runnable -> createDaemonThread(runnable, "command-worker")),
+                Executors.newSingleThreadScheduledExecutor(runnable -> createDaemonThread(runnable, "command-timer")),
+                Platform::runLater, LONG_RUNNING_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates a worker that runs commands on {@code worker}, which must run its tasks one at a time and in order,
+     * and hands their results to {@code resultPoster} to be run on the application thread.
+     */
+    CommandWorker(ExecutorService worker, ScheduledExecutorService busyTimer, Consumer<Runnable> resultPoster,
+            long longRunningDelayMillis) {
+        this.worker = requireNonNull(worker);
+        this.busyTimer = requireNonNull(busyTimer);
+        this.resultPoster = requireNonNull(resultPoster);
+        this.longRunningDelayMillis = longRunningDelayMillis;
+    }
+
+    /**
+     * Executes {@code commandText} with {@code executor} after every command submitted before it.
+     * Then {@code onSuccess} or {@code onFailure} is run on the application thread, the latter with a
+     * {@code CommandException} if the command was cancelled before it started.
+     * Unchecked exceptions thrown by the command are thrown again on the application thread.
+     * Must be called on the application thread.
+     */
+    public void submit(String commandText, CommandExecutor executor, Consumer<CommandResult> onSuccess,
+            Consumer<Exception> onFailure) {
+        requireNonNull(commandText);
+        requireNonNull(executor);
+        requireNonNull(onSuccess);
+        requireNonNull(onFailure);
+
+        long commandNumber;
+        synchronized (this) {
+            commandNumber = nextCommand++;
+        }
+        updateQueuedCommandCount();
+        worker.execute(() -> run(commandNumber, commandText, executor, onSuccess, onFailure));
+    }
+
+    /**
+     * Cancels every command waiting to run. The running command, if any, runs to the end.
+     * Must be called on the application thread.
+     */
+    public void cancel() {
+        synchronized (this) {
+            logger.info("Cancelling the commands waiting to run, up to command " + (nextCommand - 1));
+            firstUncancelledCommand = nextCommand;
+        }
+        updateQueuedCommandCount();
+    }
+
+    /**
+     * Returns the text of the command that has been running for longer than {@link #LONG_RUNNING_DELAY_MILLIS},
+     * or null if there is none. The property only changes on the application thread.
+     */
+    public ReadOnlyStringProperty busyCommandProperty() {
+        return busyCommand.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the number of milliseconds that the command in {@link #busyCommandProperty()} has been running for,
+     * or 0 if there is none. Must be called on the application thread.
+     */
+    public long getBusyCommandMillis() {
+        if (busyCommandNumber == NO_COMMAND) {
+            return 0;
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - busyCommandStartNanos);
+    }
+
+    /**
+     * Returns the number of commands that are waiting to run and have not been cancelled.
+     * The property only changes on the application thread, when a command is submitted, shown as busy or handled,
+     * or when the waiting commands are cancelled.
+     */
+    public ReadOnlyIntegerProperty queuedCommandCountProperty() {
+        return queuedCommandCount.getReadOnlyProperty();
+    }
+
+    /**
+     * Runs the command numbered {@code commandNumber} on the worker thread, unless it has been cancelled,
+     * and posts its outcome to the application thread. Once the command has started, it is no longer cancelled.
+     */
+    private void run(long commandNumber, String commandText, CommandExecutor executor,
+            Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        synchronized (this) {
+            dequeuedCommands = commandNumber + 1;
+            if (isCancelled(commandNumber)) {
+                resultPoster.accept(() -> {
+                    updateQueuedCommandCount();
+                    onFailure.accept(createCancelledException(commandText));
+                });
+                return;
+            }
+            runningCommand = commandNumber;
+        }
+
+        long startNanos = System.nanoTime();
+        ScheduledFuture<?> busyCheck = busyTimer.schedule(() ->
+                resultPoster.accept(() -> showBusy(commandNumber, commandText, startNanos)),
+                longRunningDelayMillis, TimeUnit.MILLISECONDS);
+        Runnable outcome;
+        try {
+            CommandResult commandResult = executor.execute(commandText);
+            outcome = () -> onSuccess.accept(commandResult);
+        } catch (CommandException | ParseException e) {
+            outcome = () -> onFailure.accept(e);
+        } catch (RuntimeException e) {
+            outcome = () -> {
+                throw e;
+            };
+        } finally {
+            busyCheck.cancel(false);
+            synchronized (this) {
+                runningCommand = NO_COMMAND;
+            }
+        }
+        postOutcome(commandNumber, outcome);
+    }
+
+    /**
+     * Runs {@code outcome} on the application thread, after clearing the busy command if it is the one shown.
+     */
+    private void postOutcome(long commandNumber, Runnable outcome) {
+        resultPoster.accept(() -> {
+            if (busyCommandNumber == commandNumber) {
+                busyCommandNumber = NO_COMMAND;
+                busyCommand.set(null);
+            }
+            updateQueuedCommandCount();
+            outcome.run();
+        });
+    }
+
+    /**
+     * Shows the command numbered {@code commandNumber}, which started at {@code startNanos}, as busy if it is still
+     * running. Runs on the application thread.
+     */
+    private void showBusy(long commandNumber, String commandText, long startNanos) {
+        synchronized (this) {
+            if (runningCommand != commandNumber) {
+                return;
+            }
+        }
+        busyCommandNumber = commandNumber;
+        busyCommandStartNanos = startNanos;
+        updateQueuedCommandCount();
+        busyCommand.set(commandText);
+    }
+
+    /**
+     * Counts the commands that have been submitted but have neither started nor been cancelled.
+     * Runs on the application thread.
+     */
+    private void updateQueuedCommandCount() {
+        long count;
+        synchronized (this) {
+            count = nextCommand - Math.max(dequeuedCommands, firstUncancelledCommand);
+        }
+        queuedCommandCount.set((int) count);
+    }
+
+    private synchronized boolean isCancelled(long commandNumber) {
+        return commandNumber < firstUncancelledCommand;
+    }
+
+    private static CommandException createCancelledException(String commandText) {
+        return new CommandException(String.format(MESSAGE_COMMAND_CANCELLED, commandText));
+    }
+
+    private static Thread createDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+}
@@ -0,0 +1,712 @@
+package seedu.finance.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.finance.model.record.Record;
+
+/**
+ * The rows of the record list when its records are shown in groups, such as by month or by category.
+ *
+ * Each group is led by a header row that can be collapsed to hide the records of the group, so that a collapsed
+ * group adds no record rows to the list, and thus no cells to the list view. Groups are in the order of their first
+ * record in the source list, and records keep their order and displayed index from the source list.
+ * The subtotal of a group is only computed when asked for, as when its header is shown, and kept until the records in
+ * the group change.
+ *
+ * Changes to the source list that add or remove at most {@link #MAX_PATCH_SIZE} records are patched into the rows of
+ * the groups they touch, so that the rows of the other groups, and a selection among them, are kept. Larger changes,
+ * and changes to the order of the records, group the whole source list again.
+ * A patch only touches the rows it adds or removes and the headers of the changed groups. The displayed index of a
+ * record row is not stored in it but found from its position in a tree of the record rows in source order when it is
+ * asked for, and the index of each header row is found from running totals of the row counts of the groups.
+ */
+public class GroupedRecordList {
+
+    public static final int MAX_PATCH_SIZE = 16;
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    private final ObservableList<Record> source;
+    private final Function<Record, String> groupKey;
+    private final ListChangeListener<Record> sourceListener = this::patch;
+
+    private final List<Group> groups = new ArrayList<>();
+    private final Map<String, Group> groupsByKey = new HashMap<>();
+    private final SourceOrder sourceOrder = new SourceOrder();
+    private final RowCounts rowCounts = new RowCounts();
+    private final RowList rows = new RowList();
+
+    /**
+     * Groups the records of {@code source} by the key that {@code groupKey} gives each of them, and follows changes
+     * to {@code source} until {@link #dispose()} is called.
+     */
+    public GroupedRecordList(ObservableList<Record> source, Function<Record, String> groupKey) {
+        this.source = requireNonNull(source);
+        this.groupKey = requireNonNull(groupKey);
+        source.addListener(sourceListener);
+        regroup();
+    }
+
+    /**
+     * Returns the records of {@code source} grouped by the month of their date.
+     */
+    public static GroupedRecordList byMonth(ObservableList<Record> source) {
+        return new GroupedRecordList(source, record -> record.getDate().getDate().format(MONTH_FORMATTER));
+    }
+
+    /**
+     * Returns the records of {@code source} grouped by their category.
+     */
+    public static GroupedRecordList byCategory(ObservableList<Record> source) {
+        return new GroupedRecordList(source, record -> record.getCategory().toString());
+    }
+
+    /**
+     * Returns an unmodifiable view of the rows, which holds the header of every group and the records of every
+     * expanded group.
+     */
+    public ObservableList<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the index of the row that shows {@code record}, or -1 if it is not shown.
+     */
+    public int indexOf(Record record) {
+        Group group = groupsByKey.get(groupKey.apply(record));
+        if (group == null || !group.isExpanded) {
+            return -1;
+        }
+        for (int i = 0; i < group.size(); i++) {
+            if (group.recordRows.get(i).record.equals(record)) {
+                return getHeaderRowIndex(group) + 1 + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Expands {@code group} if it is collapsed, or collapses it if it is expanded.
+     */
+    public void toggleExpanded(Group group) {
+        requireNonNull(group);
+        int headerRowIndex = getHeaderRowIndex(group);
+        rows.beginPatch();
+        if (group.isExpanded) {
+            rows.removeRows(headerRowIndex + 1, headerRowIndex + 1 + group.size());
+            rowCounts.add(group.position, -group.size());
+        } else {
+            rows.insert(headerRowIndex + 1, group.recordRows);
+            rowCounts.add(group.position, group.size());
+        }
+        group.isExpanded = !group.isExpanded;
+        rows.update(headerRowIndex);
+        rows.endPatch();
+    }
+
+    /**
+     * Stops following the source list.
+     */
+    public void dispose() {
+        source.removeListener(sourceListener);
+    }
+
+    /**
+     * Patches {@code change} into the groups and rows, or groups the source list again if it is too large or
+     * reorders the records.
+     * Only the groups that gain or lose records lose their subtotal and have their header row updated.
+     */
+    private void patch(ListChangeListener.Change<? extends Record> change) {
+        if (!isPatchable(change)) {
+            regroup();
+            return;
+        }
+
+        Set<Group> changedGroups = new LinkedHashSet<>();
+        // a group emptied by one part of the change and refilled by another keeps whether it is expanded
+        Map<String, Group> emptiedGroups = new HashMap<>();
+        rows.beginPatch();
+        while (change.next()) {
+            int from = change.getFrom();
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                changedGroups.add(removeRecordRow(from, emptiedGroups));
+            }
+            for (int i = from; i < from + change.getAddedSize(); i++) {
+                changedGroups.add(addRecordRow(i, emptiedGroups));
+            }
+        }
+
+        changedGroups.removeIf(group -> group.position == Group.NOT_SHOWN);
+        moveIntoPlace(changedGroups);
+        for (Group group : changedGroups) {
+            group.subtotal = null;
+            rows.update(getHeaderRowIndex(group));
+        }
+        rows.endPatch();
+    }
+
+    /**
+     * Returns true if {@code change} only adds or removes records, and at most {@code MAX_PATCH_SIZE} of them.
+     */
+    private static boolean isPatchable(ListChangeListener.Change<? extends Record> change) {
+        int size = 0;
+        boolean isReordered = false;
+        while (change.next()) {
+            isReordered |= change.wasPermutated() || change.wasUpdated();
+            size += change.getRemovedSize() + change.getAddedSize();
+        }
+        change.reset();
+        return !isReordered && size <= MAX_PATCH_SIZE;
+    }
+
+    /**
+     * Removes the row of the record at {@code sourceIndex} of the source list, and returns its group.
+     * A group left empty is removed along with its header row, and kept in {@code emptiedGroups}.
+     */
+    private Group removeRecordRow(int sourceIndex, Map<String, Group> emptiedGroups) {
+        Group group = sourceOrder.get(sourceIndex).group;
+        int position = group.countRecordsBefore(sourceIndex);
+        if (group.isExpanded) {
+            int rowIndex = getHeaderRowIndex(group) + 1 + position;
+            rows.removeRows(rowIndex, rowIndex + 1);
+            rowCounts.add(group.position, -1);
+        }
+        group.recordRows.remove(position);
+        sourceOrder.remove(sourceIndex);
+
+        if (group.recordRows.isEmpty()) {
+            detachGroup(group);
+            groupsByKey.remove(group.key);
+            emptiedGroups.put(group.key, group);
+        }
+        return group;
+    }
+
+    /**
+     * Adds a row for the record at {@code sourceIndex} of the source list to its group, and returns the group.
+     * A group that is not shown is placed among the other groups by {@code sourceIndex}, and is expanded unless it
+     * is in {@code emptiedGroups}.
+     */
+    private Group addRecordRow(int sourceIndex, Map<String, Group> emptiedGroups) {
+        Record record = source.get(sourceIndex);
+        String key = groupKey.apply(record);
+        Group group = groupsByKey.get(key);
+        if (group == null) {
+            group = emptiedGroups.containsKey(key) ? emptiedGroups.remove(key) : new Group(key);
+            Row row = new Row(group, record);
+            sourceOrder.insert(sourceIndex, row);
+            group.recordRows.add(row);
+            attachGroup(group, findGroupPosition(sourceIndex));
+            groupsByKey.put(key, group);
+            return group;
+        }
+
+        Row row = new Row(group, record);
+        sourceOrder.insert(sourceIndex, row);
+        int position = group.countRecordsBefore(sourceIndex);
+        group.recordRows.add(position, row);
+        if (group.isExpanded) {
+            rows.insert(getHeaderRowIndex(group) + 1 + position, Collections.singletonList(row));
+            rowCounts.add(group.position, 1);
+        }
+        return group;
+    }
+
+    /**
+     * Returns the position among the groups of a group whose first record is at {@code sourceIndex}.
+     */
+    private int findGroupPosition(int sourceIndex) {
+        int low = 0;
+        int high = groups.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (groups.get(middle).getFirstSourceIndex() < sourceIndex) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Moves the groups of {@code changedGroups} whose first record changed until the groups are in the order of their
+     * first record again. The other groups are still in that order, as they kept their first record.
+     */
+    private void moveIntoPlace(Set<Group> changedGroups) {
+        boolean isMoved;
+        do {
+            isMoved = false;
+            for (Group group : changedGroups) {
+                isMoved |= moveIntoPlace(group);
+            }
+        } while (isMoved);
+    }
+
+    /**
+     * Moves {@code group}, along with its rows, past its neighbours whose first record is on the wrong side of its
+     * own, and returns true if it was moved.
+     */
+    private boolean moveIntoPlace(Group group) {
+        int position = group.position;
+        int firstSourceIndex = group.getFirstSourceIndex();
+        int newPosition = position;
+        while (newPosition > 0 && groups.get(newPosition - 1).getFirstSourceIndex() > firstSourceIndex) {
+            newPosition--;
+        }
+        if (newPosition == position) {
+            while (newPosition < groups.size() - 1
+                    && groups.get(newPosition + 1).getFirstSourceIndex() < firstSourceIndex) {
+                newPosition++;
+            }
+        }
+        if (newPosition == position) {
+            return false;
+        }
+
+        detachGroup(group);
+        attachGroup(group, newPosition);
+        return true;
+    }
+
+    /**
+     * Inserts {@code group} among the groups at {@code position}, along with its rows.
+     */
+    private void attachGroup(Group group, int position) {
+        groups.add(position, group);
+        updateGroupPositions(position);
+        List<Row> groupRows = new ArrayList<>();
+        groupRows.add(group.header);
+        if (group.isExpanded) {
+            groupRows.addAll(group.recordRows);
+        }
+        rows.insert(getHeaderRowIndex(group), groupRows);
+    }
+
+    /**
+     * Removes {@code group} from the groups, along with its rows.
+     */
+    private void detachGroup(Group group) {
+        int headerRowIndex = getHeaderRowIndex(group);
+        rows.removeRows(headerRowIndex, headerRowIndex + group.getRowCount());
+        int position = group.position;
+        groups.remove(position);
+        group.position = Group.NOT_SHOWN;
+        updateGroupPositions(position);
+    }
+
+    /**
+     * Renumbers the groups from {@code position} on, and counts the rows of every group again.
+     */
+    private void updateGroupPositions(int position) {
+        for (int i = position; i < groups.size(); i++) {
+            groups.get(i).position = i;
+        }
+        rowCounts.reset(groups);
+    }
+
+    /**
+     * Sorts all records of the source list into groups, and replaces all rows. Groups whose records did not change
+     * keep their subtotal, and every group that still has records keeps whether it is expanded.
+     */
+    private void regroup() {
+        Map<String, Group> oldGroups = new HashMap<>(groupsByKey);
+        Map<Group, List<Record>> oldRecords = new HashMap<>();
+        groups.clear();
+        groupsByKey.clear();
+        sourceOrder.clear();
+        for (Record record : source) {
+            String key = groupKey.apply(record);
+            Group group = groupsByKey.get(key);
+            if (group == null) {
+                group = oldGroups.containsKey(key) ? oldGroups.get(key) : new Group(key);
+                oldRecords.put(group, group.getRecords());
+                group.recordRows.clear();
+                groups.add(group);
+                groupsByKey.put(key, group);
+            }
+            Row row = new Row(group, record);
+            group.recordRows.add(row);
+            sourceOrder.append(row);
+        }
+        oldGroups.values().forEach(group -> group.position = Group.NOT_SHOWN);
+        updateGroupPositions(0);
+
+        List<Row> newRows = new ArrayList<>();
+        for (Group group : groups) {
+            if (!group.getRecords().equals(oldRecords.get(group))) {
+                group.subtotal = null;
+            }
+            newRows.add(group.header);
+            if (group.isExpanded) {
+                newRows.addAll(group.recordRows);
+            }
+        }
+        rows.setRows(newRows);
+    }
+
+    private int getHeaderRowIndex(Group group) {
+        return rowCounts.sumBefore(group.position);
+    }
+
+    /**
+     * A group of records that share a key.
+     */
+    public static class Group {
+        private static final int NOT_SHOWN = -1;
+
+        private final String key;
+        private final Row header;
+        private final List<Row> recordRows = new ArrayList<>(); // in the order of the source list
+        private int position = NOT_SHOWN; // among the groups shown
+        private boolean isExpanded = true;
+        private Double subtotal; // null until it is asked for after the records last changed
+
+        private Group(String key) {
+            this.key = key;
+            header = new Row(this, null);
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public int size() {
+            return recordRows.size();
+        }
+
+        public boolean isExpanded() {
+            return isExpanded;
+        }
+
+        /**
+         * Returns the total amount of the records in this group, which is computed the first time it is asked for
+         * after the records changed.
+         */
+        public double getSubtotal() {
+            if (subtotal == null) {
+                double total = 0;
+                for (Row row : recordRows) {
+                    total += row.record.getAmount().getNumericValue();
+                }
+                subtotal = total;
+            }
+            return subtotal;
+        }
+
+        boolean isSubtotalComputed() {
+            return subtotal != null;
+        }
+
+        private List<Record> getRecords() {
+            List<Record> records = new ArrayList<>();
+            recordRows.forEach(row -> records.add(row.record));
+            return records;
+        }
+
+        private int getFirstSourceIndex() {
+            return SourceOrder.indexOf(recordRows.get(0));
+        }
+
+        /**
+         * Returns the number of rows of this group: its header, and its records if it is expanded.
+         */
+        private int getRowCount() {
+            return 1 + (isExpanded ? recordRows.size() : 0);
+        }
+
+        /**
+         * Returns the number of records in this group that are before {@code sourceIndex} in the source list.
+         */
+        private int countRecordsBefore(int sourceIndex) {
+            int low = 0;
+            int high = recordRows.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (SourceOrder.indexOf(recordRows.get(middle)) < sourceIndex) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * A row of the list, which is either the header of a group or a record in it.
+     * A record row is also a node of the {@code SourceOrder} tree, which gives its displayed index.
+     */
+    public static class Row {
+        private final Group group;
+        private final Record record;
+        private final int priority = SourceOrder.PRIORITIES.nextInt();
+        private Row left;
+        private Row right;
+        private Row parent;
+        private int size = 1;
+
+        private Row(Group group, Record record) {
+            this.group = group;
+            this.record = record;
+        }
+
+        public Group getGroup() {
+            return group;
+        }
+
+        public boolean isHeader() {
+            return record == null;
+        }
+
+        /**
+         * Returns the record in this row, or null if this row is the header of its group.
+         */
+        public Record getRecord() {
+            return record;
+        }
+
+        /**
+         * Returns the index of the record in the source list, starting from 1, as the commands refer to it, or 0 if
+         * this row is the header of its group. Only meaningful while this row is in the list.
+         */
+        public int getDisplayedIndex() {
+            return isHeader() ? 0 : SourceOrder.indexOf(this) + 1;
+        }
+    }
+
+    /**
+     * The record rows in the order of the source list, kept in a treap so that a row can be inserted, removed or
+     * found at an index, and the index of a row can be found, in logarithmic time.
+     */
+    private static class SourceOrder {
+        private static final Random PRIORITIES = new Random();
+
+        private Row root;
+
+        void clear() {
+            root = null;
+        }
+
+        void append(Row row) {
+            root = merge(root, row);
+            root.parent = null;
+        }
+
+        void insert(int index, Row row) {
+            Row[] parts = split(root, index);
+            root = merge(merge(parts[0], row), parts[1]);
+            root.parent = null;
+        }
+
+        void remove(int index) {
+            Row[] parts = split(root, index);
+            Row[] removedAndRest = split(parts[1], 1);
+            root = merge(parts[0], removedAndRest[1]);
+            if (root != null) {
+                root.parent = null;
+            }
+        }
+
+        Row get(int index) {
+            Row node = root;
+            int nodeIndex = size(node.left);
+            while (nodeIndex != index) {
+                if (index < nodeIndex) {
+                    node = node.left;
+                    nodeIndex -= 1 + size(node.right);
+                } else {
+                    node = node.right;
+                    nodeIndex += 1 + size(node.left);
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Returns the index of {@code row}, which must be in the tree.
+         */
+        static int indexOf(Row row) {
+            int index = size(row.left);
+            for (Row node = row; node.parent != null; node = node.parent) {
+                if (node == node.parent.right) {
+                    index += size(node.parent.left) + 1;
+                }
+            }
+            return index;
+        }
+
+        /**
+         * Splits the tree under {@code node} into a tree of its first {@code count} rows and a tree of the rest,
+         * whose roots have no parent.
+         */
+        private static Row[] split(Row node, int count) {
+            if (node == null) {
+                return new Row[] {null, null};
+            }
+
+            Row[] parts;
+            if (size(node.left) >= count) {
+                parts = split(node.left, count);
+                node.left = parts[1];
+                parts[1] = node;
+            } else {
+                parts = split(node.right, count - size(node.left) - 1);
+                node.right = parts[0];
+                parts[0] = node;
+            }
+            update(node);
+            node.parent = null;
+            return parts;
+        }
+
+        /**
+         * Joins the trees under {@code first} and {@code second}, with the rows of {@code first} before those of
+         * {@code second}, and returns the root of the joined tree.
+         */
+        private static Row merge(Row first, Row second) {
+            if (first == null) {
+                return second;
+            }
+            if (second == null) {
+                return first;
+            }
+            if (first.priority > second.priority) {
+                first.right = merge(first.right, second);
+                update(first);
+                return first;
+            }
+            second.left = merge(first, second.left);
+            update(second);
+            return second;
+        }
+
+        private static void update(Row node) {
+            node.size = 1 + size(node.left) + size(node.right);
+            if (node.left != null) {
+                node.left.parent = node;
+            }
+            if (node.right != null) {
+                node.right.parent = node;
+            }
+        }
+
+        private static int size(Row node) {
+            return node == null ? 0 : node.size;
+        }
+    }
+
+    /**
+     * The number of rows of each group, by position, kept in a Fenwick tree so that the number of rows before a group,
+     * which is the index of its header row, can be found and updated in logarithmic time.
+     */
+    private static class RowCounts {
+        private int[] tree = new int[1];
+
+        /**
+         * Counts the rows of {@code groups} again.
+         */
+        void reset(List<Group> groups) {
+            tree = new int[groups.size() + 1];
+            for (int i = 1; i < tree.length; i++) {
+                tree[i] += groups.get(i - 1).getRowCount();
+                int parent = i + (i & -i);
+                if (parent < tree.length) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+        void add(int position, int delta) {
+            for (int i = position + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        /**
+         * Returns the number of rows of the groups before {@code position}.
+         */
+        int sumBefore(int position) {
+            int sum = 0;
+            for (int i = position; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * The rows of the list, which can only be changed through this class. Changes made between
+     * {@code beginPatch()} and {@code endPatch()} reach the listeners as a single change.
+     */
+    private static class RowList extends ObservableListBase<Row> {
+        private final List<Row> rows = new ArrayList<>();
+
+        @Override
+        public Row get(int index) {
+            return rows.get(index);
+        }
+
+        @Override
+        public int size() {
+            return rows.size();
+        }
+
+        void beginPatch() {
+            beginChange();
+        }
+
+        void endPatch() {
+            endChange();
+        }
+
+        void insert(int index, List<Row> newRows) {
+            beginChange();
+            rows.addAll(index, newRows);
+            nextAdd(index, index + newRows.size());
+            endChange();
+        }
+
+        void removeRows(int from, int to) {
+            beginChange();
+            List<Row> removed = new ArrayList<>(rows.subList(from, to));
+            rows.subList(from, to).clear();
+            nextRemove(from, removed);
+            endChange();
+        }
+
+        /**
+         * Notifies the listeners that the row at {@code index} is to be shown again, as its group or its displayed
+         * index changed.
+         */
+        void update(int index) {
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
+
+        void setRows(List<Row> newRows) {
+            beginChange();
+            List<Row> removed = new ArrayList<>(rows);
+            rows.clear();
+            rows.addAll(newRows);
+            nextReplace(0, rows.size(), removed);
+            endChange();
+        }
+    }
+
+}
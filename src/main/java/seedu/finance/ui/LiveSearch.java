@@ -0,0 +1,180 @@
+package seedu.finance.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.logic.Logic;
+import seedu.finance.logic.commands.SearchCommand;
+import seedu.finance.logic.parser.SearchCommandParser;
+import seedu.finance.model.RecordIndex;
+import seedu.finance.model.record.Record;
+
+/**
+ * Previews the results of a search command in the record list while the command is still being typed.
+ *
+ * Searches start once the text has not changed for {@link #DEBOUNCE_MILLIS}, and run on a background thread against
+ * a {@code RecordIndex} of the records, which is only rebuilt after the records change. A search is abandoned as
+ * soon as the text changes again, and its results are only shown if they are still for the latest text and the
+ * records have not changed since they were indexed.
+ * The preview ends when the text is no longer a search command or when a command is executed.
+ */
+public class LiveSearch {
+
+    public static final long DEBOUNCE_MILLIS = 150;
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Logic logic;
+    private final ScheduledExecutorService searcher;
+    private final Consumer<Runnable> resultPoster;
+    private final long debounceMillis;
+    private final SearchCommandParser parser = new SearchCommandParser();
+
+    // bumped whenever the finance tracker changes, which only happens while the model lock is held
+    private final AtomicLong recordsVersion = new AtomicLong();
+    // searches are numbered in the order they are requested, and only the latest one is still wanted
+    private volatile long latestSearch;
+
+    // only used on the searcher thread
+    private RecordIndex index;
+    private long indexedVersion = -1;
+
+    // only used on the application thread
+    private Predicate<Record> latestPredicate;
+    private Future<?> pendingSearch;
+    private boolean isPreviewShown;
+
+    public LiveSearch(Logic logic) {
+        this(logic, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        }), Platform::runLater, DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Creates a live search that searches on {@code searcher}, which must run its tasks one at a time,
+     * and hands the results to {@code resultPoster} to be shown on the application thread.
+     */
+    LiveSearch(Logic logic, ScheduledExecutorService searcher, Consumer<Runnable> resultPoster, long debounceMillis) {
+        this.logic = requireNonNull(logic);
+        this.searcher = requireNonNull(searcher);
+        this.resultPoster = requireNonNull(resultPoster);
+        this.debounceMillis = debounceMillis;
+        logic.getFinanceTracker().addListener(observable -> recordsVersion.incrementAndGet());
+    }
+
+    /**
+     * Previews the search typed so far in {@code commandText}, or ends the preview if {@code commandText} is not a
+     * search command. A search that cannot be parsed yet leaves the current preview as it is.
+     * Must be called on the application thread.
+     */
+    public void onTextChanged(String commandText) {
+        String[] commandWordAndArgs = commandText.trim().split("\\s+", 2);
+        String commandWord = commandWordAndArgs[0];
+        if ((!commandWord.equals(SearchCommand.COMMAND_WORD) && !commandWord.equals(SearchCommand.COMMAND_ALIAS))
+                || commandWordAndArgs.length < 2) {
+            endPreview();
+            return;
+        }
+
+        Optional<Predicate<Record>> predicate = parser.parsePartialPredicate(commandWordAndArgs[1]);
+        if (!predicate.isPresent() || predicate.get().equals(latestPredicate)) {
+            return;
+        }
+        latestPredicate = predicate.get();
+        schedule(latestPredicate, debounceMillis);
+    }
+
+    /**
+     * Abandons any search that has not been shown yet. The command about to be executed ends the preview.
+     * Must be called on the application thread.
+     */
+    public void cancel() {
+        cancelPendingSearch();
+        latestPredicate = null;
+        isPreviewShown = false;
+    }
+
+    private void endPreview() {
+        if (isPreviewShown) {
+            logic.endFilteredRecordListPreview();
+        }
+        cancel();
+    }
+
+    private void cancelPendingSearch() {
+        latestSearch++;
+        if (pendingSearch != null) {
+            pendingSearch.cancel(true);
+            pendingSearch = null;
+        }
+    }
+
+    private void schedule(Predicate<Record> predicate, long delayMillis) {
+        cancelPendingSearch();
+        long search = latestSearch;
+        pendingSearch = searcher.schedule(() -> search(search, predicate), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Finds the records that {@code predicate} accepts, and posts them to be shown unless the search numbered
+     * {@code search} is abandoned first. Runs on the searcher thread.
+     */
+    private void search(long search, Predicate<Record> predicate) {
+        long version = recordsVersion.get();
+        if (index == null || indexedVersion != version) {
+            List<Record> records;
+            synchronized (logic.getModelLock()) {
+                version = recordsVersion.get();
+                records = new ArrayList<>(logic.getFinanceTracker().getRecordList());
+            }
+            index = new RecordIndex(records);
+            indexedVersion = version;
+            logger.fine("Indexed " + records.size() + " records for live search");
+        }
+
+        long searchedVersion = version;
+        index.search(predicate, () -> isAbandoned(search)).ifPresent(matches ->
+                resultPoster.accept(() -> show(search, searchedVersion, predicate, matches)));
+    }
+
+    private boolean isAbandoned(long search) {
+        return search != latestSearch || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Shows {@code matches} in the record list if they are the results of the latest search and the records have
+     * not changed since version {@code searchedVersion}, or searches again if they have.
+     * Runs on the application thread.
+     */
+    private void show(long search, long searchedVersion, Predicate<Record> predicate, List<Record> matches) {
+        if (search != latestSearch) {
+            return;
+        }
+
+        synchronized (logic.getModelLock()) {
+            if (recordsVersion.get() != searchedVersion) {
+                schedule(predicate, 0);
+                return;
+            }
+            logic.previewFilteredRecordList(predicate, matches);
+        }
+        pendingSearch = null;
+        isPreviewShown = true;
+    }
+
+}
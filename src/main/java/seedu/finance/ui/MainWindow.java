@@ -1,10 +1,19 @@
 package seedu.finance.ui;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -19,10 +28,14 @@ import javafx.stage.Stage;
 import javafx.util.Duration;
 import seedu.finance.commons.core.GuiSettings;
 import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.commons.core.StartupTimer;
+import seedu.finance.logic.CommandMetrics;
 import seedu.finance.logic.Logic;
 import seedu.finance.logic.commands.CommandResult;
 import seedu.finance.logic.commands.exceptions.CommandException;
 import seedu.finance.logic.parser.exceptions.ParseException;
+import seedu.finance.model.record.Record;
+import seedu.finance.ui.RecordListPanel.Grouping;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -38,8 +51,13 @@ public class MainWindow extends UiPart<Stage> {
     private Stage primaryStage;
     private Logic logic;
     private String theme = "Dark";
+    private final boolean isCommandRunInBackground;
+    private CommandWorker commandWorker;
+    private LiveSearch liveSearch;
 
     // Independent Ui parts residing in this Ui container
+    // The parts other than the record list, command box and result display are built after the first frame is shown,
+    // or when they are first used if that is sooner. Use their getters rather than the fields.
     private BrowserPanel browserPanel;
 
     private SummaryPanel summaryPanel;
@@ -48,9 +66,19 @@ public class MainWindow extends UiPart<Stage> {
 
     private RecordListPanel recordListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private Scene currentScene;
 
+    // The parts of the model shown by the panels, which are copies of it when commands run in the background
+    private ObservableValue<Record> shownSelectedRecord;
+    private ObservableMap<String, Double> shownRecordSummary;
+
+    // Refreshes that may be requested many times by one command, and are coalesced into one run per pulse
+    private final UiRefreshScheduler uiRefreshScheduler = new UiRefreshScheduler();
+    private final Runnable budgetRefresh = withModelLock(() -> getBudgetPanel().update(logic.getBudget()));
+    private final Runnable spendingTrendRefresh = withModelLock(this::refreshSpendingTrend);
+
     @FXML
     private StackPane browserPlaceholder;
 
@@ -83,18 +111,25 @@ public class MainWindow extends UiPart<Stage> {
 
 
     public MainWindow(Stage primaryStage, Logic logic) {
+        this(primaryStage, logic, false);
+    }
+
+    /**
+     * Creates the main window, which executes commands on a worker thread if {@code isCommandRunInBackground}
+     * is true, or on the application thread otherwise.
+     */
+    public MainWindow(Stage primaryStage, Logic logic, boolean isCommandRunInBackground) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.isCommandRunInBackground = isCommandRunInBackground;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -136,57 +171,152 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up the placeholders of this window with the parts needed to type a command and see the records,
+     * and builds the other parts after the first frame is shown.
      */
     void fillInnerParts() {
-        browserPanel = new BrowserPanel(logic.selectedRecordProperty(), logic.getBudget());
-        browserPlaceholder.getChildren().add(browserPanel.getRoot());
-
-        budgetPanel = new BudgetPanel(logic.getBudget());
-        budgetPanelPlaceholder.getChildren().add(budgetPanel.getRoot());
+        ObservableList<Record> recordList = logic.getFilteredRecordList();
+        ObservableValue<Record> selectedRecord = logic.selectedRecordProperty();
+        ObservableMap<String, Double> recordSummary = logic.getRecordSummary();
+        List<String> history = logic.getHistory();
+        if (isCommandRunInBackground) {
+            // commands change the model on the worker thread, so the UI parts show copies of it instead
+            commandWorker = new CommandWorker();
+            ModelMirror modelMirror = new ModelMirror(logic.getModelLock(), uiRefreshScheduler);
+            recordList = modelMirror.mirrorList(recordList);
+            selectedRecord = modelMirror.mirrorValue(selectedRecord);
+            recordSummary = modelMirror.mirrorMap(recordSummary);
+            history = modelMirror.mirrorList(logic.getHistory());
+        }
+        shownSelectedRecord = selectedRecord;
+        shownRecordSummary = recordSummary;
 
-        recordListPanel = new RecordListPanel(logic.getFilteredRecordList(), logic.selectedRecordProperty(),
-                logic::setSelectedRecord);
+        Consumer<Record> onSelectedRecordChange = record -> {
+            synchronized (logic.getModelLock()) {
+                logic.setSelectedRecord(record);
+            }
+        };
+        recordListPanel = new RecordListPanel(recordList, selectedRecord, onSelectedRecordChange);
         recordListPanelPlaceholder.getChildren().add(recordListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getFinanceTrackerFilePath(),
-                logic.getFinanceTracker());
-        logic.getFinanceTracker().addListener(observable ->
-                statusBarFooter.updateFileLocation(logic.getFinanceTrackerFilePath()));
-
-
-        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
-
-        CommandBox commandBox = new CommandBox(this::executeCommand, logic.getHistory());
+        CommandBox commandBox = isCommandRunInBackground
+                ? new CommandBox(this::submitCommand, history)
+                : new CommandBox(this::executeCommand, history);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+        liveSearch = new LiveSearch(logic);
+        commandBox.textProperty().addListener((observable, oldText, newText) -> liveSearch.onTextChanged(newText));
+
+        Scene scene = primaryStage.getScene();
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                StartupTimer.getInstance().markPhaseEnd(StartupTimer.FIRST_INTERACTIVE_FRAME);
+                // runs after the frame is shown, as listeners cannot be removed while they are being called
+                Platform.runLater(() -> {
+                    scene.removePostLayoutPulseListener(this);
+                    buildDeferredParts();
+                });
+            }
+        });
 
-        if (theme == "Dark") {
-            budgetPanel.setDarkTheme();
-        } else {
-            budgetPanel.setLightThemes(theme);
-        }
-        browserPanel.updateBudget(logic.getBudget());
-
-        summaryPanel = new SummaryPanel(
-                logic.getRecordSummary(),
-                logic.getSummaryPeriod(),
-                logic.getPeriodAmount()
-        );
+        logic.getFinanceTracker().addChangeListener(change -> uiRefreshScheduler.markDirty(spendingTrendRefresh));
         Thread thread = new Thread(() -> {
             try {
                 Thread.sleep(1000);
             } catch (InterruptedException ie) {
                 logger.info("Timer Interrupted");
             }
-            budgetPanel.update(logic.getBudget());
-            logger.info("Budget Panel Updated");
+            // the panel can only be updated on the application thread
+            uiRefreshScheduler.markDirty(budgetRefresh);
+            logger.info("Budget Panel Update Requested");
         });
         thread.start();
     }
 
+    /**
+     * Builds the parts of this window that are not needed to type the first command.
+     */
+    private void buildDeferredParts() {
+        List<Runnable> parts = Arrays.asList(this::buildStatusBarFooter, this::getBudgetPanel, this::getBrowserPanel,
+                this::getSummaryPanel);
+        buildDeferredParts(new ArrayDeque<>(parts));
+    }
+
+    /**
+     * Builds the parts in {@code parts} in order, one per pulse so that the window keeps responding to the user
+     * in between.
+     */
+    private void buildDeferredParts(Deque<Runnable> parts) {
+        if (parts.isEmpty()) {
+            StartupTimer.getInstance().markPhaseEnd(StartupTimer.DEFERRED_PANELS_BUILT);
+            return;
+        }
+
+        Platform.runLater(() -> {
+            withModelLock(parts.poll()).run();
+            buildDeferredParts(parts);
+        });
+    }
+
+    private void buildStatusBarFooter() {
+        if (statusBarFooter != null) {
+            return;
+        }
+
+        statusBarFooter = new StatusBarFooter(logic.getFinanceTrackerFilePath(), logic.getFinanceTracker(),
+                uiRefreshScheduler);
+        Runnable fileLocationRefresh = withModelLock(() ->
+                statusBarFooter.updateFileLocation(logic.getFinanceTrackerFilePath()));
+        logic.getFinanceTracker().addListener(observable -> uiRefreshScheduler.markDirty(fileLocationRefresh));
+        if (isCommandRunInBackground) {
+            statusBarFooter.showCommandProgress(commandWorker);
+        }
+
+        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+    }
+
+    private BudgetPanel getBudgetPanel() {
+        if (budgetPanel == null) {
+            budgetPanel = new BudgetPanel(logic.getBudget());
+            budgetPanelPlaceholder.getChildren().add(budgetPanel.getRoot());
+            applyThemeToBudgetPanel();
+        }
+        return budgetPanel;
+    }
+
+    /**
+     * Returns the browser panel, which is shown in the browser placeholder when it is built unless the summary panel
+     * is already shown there.
+     */
+    private BrowserPanel getBrowserPanel() {
+        if (browserPanel == null) {
+            browserPanel = new BrowserPanel(shownSelectedRecord, logic.getBudget());
+            browserPanel.updateBudget(logic.getBudget());
+            if (browserPlaceholder.getChildren().isEmpty()) {
+                browserPlaceholder.getChildren().add(browserPanel.getRoot());
+            }
+        }
+        return browserPanel;
+    }
+
+    private SummaryPanel getSummaryPanel() {
+        if (summaryPanel == null) {
+            summaryPanel = new SummaryPanel(shownRecordSummary, logic.getSummaryPeriod(), logic.getPeriodAmount());
+            refreshSpendingTrend();
+        }
+        return summaryPanel;
+    }
+
+    private HelpWindow getHelpWindow() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
+        return helpWindow;
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -204,10 +334,10 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleHelp() {
-        if (!helpWindow.isShowing()) {
-            helpWindow.show();
+        if (!getHelpWindow().isShowing()) {
+            getHelpWindow().show();
         } else {
-            helpWindow.focus();
+            getHelpWindow().focus();
         }
     }
 
@@ -216,13 +346,8 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleChangeBudget() {
-        budgetPanel.update(logic.getBudget());
-        browserPanel.updateBudget(logic.getBudget());
-        summaryPanel.setData(
-                logic.getRecordSummary(),
-                logic.getSummaryPeriod(),
-                logic.getPeriodAmount()
-        );
+        getBudgetPanel().update(logic.getBudget());
+        getBrowserPanel().updateBudget(logic.getBudget());
     }
 
     void show() {
@@ -237,7 +362,9 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -245,17 +372,64 @@ public class MainWindow extends UiPart<Stage> {
         return recordListPanel;
     }
 
+    @FXML
+    private void showUngroupedRecords() {
+        recordListPanel.setGrouping(Grouping.NONE);
+    }
+
+    @FXML
+    private void groupRecordsByMonth() {
+        recordListPanel.setGrouping(Grouping.MONTH);
+    }
+
+    @FXML
+    private void groupRecordsByCategory() {
+        recordListPanel.setGrouping(Grouping.CATEGORY);
+    }
+
     /**
      * Executes the command and returns the result.
      *
      * @see seedu.finance.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        liveSearch.cancel();
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            handleCommandResult(commandResult);
+            return commandResult;
+        } catch (CommandException | ParseException e) {
+            handleCommandFailure(commandText, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the command on the command worker, then handles its result on the application thread.
+     *
+     * @see CommandWorker#submit(String, CommandBox.CommandExecutor, Consumer, Consumer)
+     */
+    private void submitCommand(String commandText, Runnable onSuccess, Runnable onFailure) {
+        liveSearch.cancel();
+        commandWorker.submit(commandText, logic::execute, commandResult -> {
+            handleCommandResult(commandResult);
+            onSuccess.run();
+        }, e -> {
+            handleCommandFailure(commandText, e);
+            onFailure.run();
+        });
+    }
 
+    /**
+     * Shows the result of a command and updates the UI parts that it affects.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        long startNanos = System.nanoTime();
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+
+        // the model is read by the handlers below, and may be changed by the next command in the meantime
+        synchronized (logic.getModelLock()) {
             if (commandResult.isShowHelp()) {
                 handleHelp();
             }
@@ -273,12 +447,24 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isShowSummary()) {
                 handleShowSummary();
             }
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
         }
+        CommandMetrics.getInstance().recordUiOfLastCommand(System.nanoTime() - startNanos);
+    }
+
+    private void handleCommandFailure(String commandText, Exception e) {
+        logger.info("Invalid command: " + commandText);
+        resultDisplay.setFeedbackToUser(e.getMessage());
+    }
+
+    /**
+     * Returns {@code action} wrapped so that it holds the model lock while it runs.
+     */
+    private Runnable withModelLock(Runnable action) {
+        return () -> {
+            synchronized (logic.getModelLock()) {
+                action.run();
+            }
+        };
     }
 
     //================== Showing summary ==================//
@@ -288,14 +474,31 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     public void handleShowSummary() {
         handleChangeBudget();
+        // the summary panel follows the category totals by itself, only the period it describes has to be set
+        getSummaryPanel().setPeriod(logic.getSummaryPeriod(), logic.getPeriodAmount());
+        uiRefreshScheduler.markDirty(spendingTrendRefresh);
         handleBrowserPlaceholderSwap();
     }
 
+    /**
+     * Recomputes the spending trend of the summary panel from the current records and summary period.
+     * Does nothing until the summary panel is built, as it computes the trend when it is built.
+     */
+    private void refreshSpendingTrend() {
+        if (summaryPanel == null) {
+            return;
+        }
+        summaryPanel.setTrendRecords(logic.getFinanceTracker().getRecordList(), logic.getSummaryPeriod(),
+                logic.getPeriodAmount());
+    }
+
     /**
      * Method to handle swap between browser and summary panel
      */
     private void handleBrowserPlaceholderSwap() {
         Timeline timeline = new Timeline();
+        getBrowserPanel();
+        getSummaryPanel();
 
         browserPlaceholder.setOpacity(0.0);
         if (browserPlaceholder.getChildren().get(0).getId().equals("browser")) {
@@ -321,6 +524,21 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     //================== Changing Theme ==================//
+
+    /**
+     * Shows the budget panel in the current theme, if it has been built.
+     */
+    private void applyThemeToBudgetPanel() {
+        if (budgetPanel == null) {
+            return;
+        }
+
+        if (theme == "Dark") {
+            budgetPanel.setDarkTheme();
+        } else {
+            budgetPanel.setLightThemes(theme);
+        }
+    }
     //@author Jackimaru96
 
     /**
@@ -374,7 +592,7 @@ public class MainWindow extends UiPart<Stage> {
         this.theme = "Light";
         CommandResult r = new CommandResult("Light Theme is set");
         resultDisplay.setFeedbackToUser(r.getFeedbackToUser());
-        budgetPanel.setLightThemes("Light");
+        applyThemeToBudgetPanel();
     }
 
     /**
@@ -399,7 +617,7 @@ public class MainWindow extends UiPart<Stage> {
         this.theme = "Dark";
         CommandResult r = new CommandResult("Dark Theme is set");
         resultDisplay.setFeedbackToUser(r.getFeedbackToUser());
-        budgetPanel.setDarkTheme();
+        applyThemeToBudgetPanel();
     }
 
     /**
@@ -424,7 +642,7 @@ public class MainWindow extends UiPart<Stage> {
         this.theme = "Blue";
         CommandResult r = new CommandResult("Blue Theme is set");
         resultDisplay.setFeedbackToUser(r.getFeedbackToUser());
-        budgetPanel.setLightThemes("Blue");
+        applyThemeToBudgetPanel();
     }
 
     /**
@@ -449,6 +667,6 @@ public class MainWindow extends UiPart<Stage> {
         this.theme = "Pink";
         CommandResult r = new CommandResult("Pink Theme is set");
         resultDisplay.setFeedbackToUser(r.getFeedbackToUser());
-        budgetPanel.setLightThemes("Pink");
+        applyThemeToBudgetPanel();
     }
 }
@@ -0,0 +1,194 @@
+package seedu.finance.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+
+/**
+ * Creates copies of the observable parts of the model that are only changed on the JavaFX application thread,
+ * for UI parts to show while commands change the model on another thread.
+ *
+ * Each copy follows its source through the {@code UiRefreshScheduler}, reading the source while holding the model
+ * lock, so a burst of changes to the source is copied once.
+ * A list copy is changed by the same additions and removals as its source, so that a list view showing it only
+ * updates the cells of the records that changed. Reorderings, and bursts of changes to more than
+ * {@link #MAX_FORWARDED_CHANGE_SIZE} elements, copy the whole source list instead.
+ */
+public class ModelMirror {
+
+    public static final int MAX_FORWARDED_CHANGE_SIZE = 16;
+
+    private final Object modelLock;
+    private final UiRefreshScheduler refreshScheduler;
+
+    public ModelMirror(Object modelLock, UiRefreshScheduler refreshScheduler) {
+        this.modelLock = requireNonNull(modelLock);
+        this.refreshScheduler = requireNonNull(refreshScheduler);
+    }
+
+    /**
+     * Returns an unmodifiable list that follows {@code source}.
+     */
+    public <E> ObservableList<E> mirrorList(ObservableList<E> source) {
+        requireNonNull(source);
+        ObservableList<E> mirror;
+        synchronized (modelLock) {
+            mirror = FXCollections.observableArrayList(source);
+            source.addListener(new ListForwarder<>(source, mirror));
+        }
+        return FXCollections.unmodifiableObservableList(mirror);
+    }
+
+    /**
+     * Returns a value that follows {@code source}.
+     */
+    public <T> ObservableValue<T> mirrorValue(ObservableValue<T> source) {
+        requireNonNull(source);
+        SimpleObjectProperty<T> mirror;
+        synchronized (modelLock) {
+            mirror = new SimpleObjectProperty<>(source.getValue());
+        }
+
+        Runnable refresh = () -> {
+            synchronized (modelLock) {
+                mirror.set(source.getValue());
+            }
+        };
+        source.addListener((observable, oldValue, newValue) -> refreshScheduler.markDirty(refresh));
+        return mirror;
+    }
+
+    /**
+     * Returns an unmodifiable map that follows {@code source}.
+     * Only the entries that changed since the map was last refreshed are changed in it.
+     */
+    public <K, V> ObservableMap<K, V> mirrorMap(ObservableMap<K, V> source) {
+        requireNonNull(source);
+        ObservableMap<K, V> mirror;
+        synchronized (modelLock) {
+            mirror = FXCollections.observableMap(new LinkedHashMap<>(source));
+        }
+
+        Runnable refresh = () -> {
+            Map<K, V> copy;
+            synchronized (modelLock) {
+                copy = new LinkedHashMap<>(source);
+            }
+            for (K key : new ArrayList<>(mirror.keySet())) {
+                if (!copy.containsKey(key)) {
+                    mirror.remove(key);
+                }
+            }
+            copy.forEach((key, value) -> {
+                if (!value.equals(mirror.get(key))) {
+                    mirror.put(key, value);
+                }
+            });
+        };
+        source.addListener((MapChangeListener<K, V>) change -> refreshScheduler.markDirty(refresh));
+        return FXCollections.unmodifiableObservableMap(mirror);
+    }
+
+    /**
+     * Collects the changes of a source list as they happen, and makes them to its mirror when it is refreshed.
+     */
+    private class ListForwarder<E> implements ListChangeListener<E>, Runnable {
+        private final ObservableList<E> source;
+        private final ObservableList<E> mirror;
+        private final List<ListDelta<E>> pendingDeltas = new ArrayList<>();
+        private int pendingChangeSize;
+        private boolean isCopyNeeded;
+
+        private ListForwarder(ObservableList<E> source, ObservableList<E> mirror) {
+            this.source = source;
+            this.mirror = mirror;
+        }
+
+        @Override
+        public void onChanged(Change<? extends E> change) {
+            synchronized (modelLock) {
+                while (change.next() && !isCopyNeeded) {
+                    if (change.wasPermutated() || change.wasUpdated()) {
+                        isCopyNeeded = true;
+                        break;
+                    }
+                    pendingChangeSize += change.getRemovedSize() + change.getAddedSize();
+                    pendingDeltas.add(new ListDelta<>(change.getFrom(), change.getRemovedSize(),
+                            new ArrayList<>(change.getAddedSubList())));
+                }
+                if (pendingChangeSize > MAX_FORWARDED_CHANGE_SIZE) {
+                    isCopyNeeded = true;
+                }
+                if (isCopyNeeded) {
+                    pendingDeltas.clear();
+                    pendingChangeSize = 0;
+                }
+            }
+            refreshScheduler.markDirty(this);
+        }
+
+        /**
+         * Makes the pending changes to the mirror, or copies the whole source list if they were not all kept.
+         */
+        @Override
+        public void run() {
+            List<ListDelta<E>> deltas;
+            List<E> copy = null;
+            synchronized (modelLock) {
+                deltas = new ArrayList<>(pendingDeltas);
+                pendingDeltas.clear();
+                pendingChangeSize = 0;
+                if (isCopyNeeded) {
+                    copy = new ArrayList<>(source);
+                    isCopyNeeded = false;
+                }
+            }
+
+            if (copy == null) {
+                deltas.forEach(delta -> delta.applyTo(mirror));
+            } else if (!mirror.equals(copy)) {
+                mirror.setAll(copy);
+            }
+        }
+    }
+
+    /**
+     * The elements that one change of a list removed at an index, and the elements it added there in their place.
+     */
+    private static class ListDelta<E> {
+        private final int from;
+        private final int removedSize;
+        private final List<E> added;
+
+        private ListDelta(int from, int removedSize, List<E> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        private void applyTo(ObservableList<E> list) {
+            if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+                return;
+            }
+            if (removedSize > 0) {
+                list.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                list.addAll(from, added);
+            }
+        }
+    }
+
+}
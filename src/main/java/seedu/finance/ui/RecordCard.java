@@ -1,56 +1,128 @@
 package seedu.finance.ui;
 
-import javafx.fxml.FXML;
+import java.util.Objects;
+
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
 import javafx.scene.control.Label;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import seedu.finance.model.record.Record;
 
 /**
  * An UI component that displays information of a {@code Record}.
+ * A card can be pointed at another record with {@link #setRecord(Record, int)}, so that a list cell can reuse
+ * one card instead of loading a new one whenever it shows a different record.
+ * The card builds its scene graph in code rather than loading it from a FXML file, as one is created for every
+ * visible cell of the record list. The nodes keep the ids of the former {@code RecordListCard.fxml}.
  */
 public class RecordCard extends UiPart<Region> {
 
-    private static final String FXML = "RecordListCard.fxml";
+    private static final double CARD_MIN_HEIGHT = 105;
+    private static final double COLUMN_MIN_WIDTH = 10;
+    private static final double COLUMN_PREF_WIDTH = 150;
     private static final String[] CATEGORY_COLOR_STYLES =
         { "teal", "red", "yellow", "blue", "orange", "brown", "green", "pink", "black", "gray", "purple",
             "coral", "tan", "turquoise", "lightGray", "lightSkyBlue", "hotPink", "peachPuff", "cadetBlue" };
 
+    private Record record;
+    private String categoryColorStyle;
+
+    private final Label name = createLabel("name", "cell_big_label");
+    private final Label id = createLabel("id", "cell_big_label");
+    private final Label amount = createLabel("amount", "cell_small_label");
+    private final Label date = createLabel("date", "cell_small_label");
+    private final Label description = createLabel("description", "cell_small_label");
+    private final Label category = createLabel("category", null);
+
+    /**
+     * Creates a card that does not display any record yet.
+     */
+    public RecordCard() {
+        this(new HBox());
+    }
+
     /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
+     * Lays out the labels of the card in {@code cardPane}, which becomes the root of the card.
      */
+    private RecordCard(HBox cardPane) {
+        super(cardPane);
+        cardPane.setId("cardPane");
+        // Ensures that the label text is never truncated
+        id.setMinWidth(Region.USE_PREF_SIZE);
+
+        HBox header = new HBox(5, id, name);
+        header.setAlignment(Pos.CENTER_LEFT);
 
-    public final Record record;
-
-    @FXML
-    private HBox cardPane;
-    @FXML
-    private Label name;
-    @FXML
-    private Label id;
-    @FXML
-    private Label amount;
-    @FXML
-    private Label date;
-    @FXML
-    private Label description;
-    @FXML
-    private Label category;
+        VBox details = new VBox(header, category, amount, date, description);
+        details.setAlignment(Pos.CENTER_LEFT);
+        details.setMinHeight(CARD_MIN_HEIGHT);
+        details.setPadding(new Insets(5, 5, 5, 15));
+        GridPane.setColumnIndex(details, 0);
+
+        ColumnConstraints column = new ColumnConstraints();
+        column.setHgrow(Priority.SOMETIMES);
+        column.setMinWidth(COLUMN_MIN_WIDTH);
+        column.setPrefWidth(COLUMN_PREF_WIDTH);
+
+        GridPane grid = new GridPane();
+        grid.getColumnConstraints().add(column);
+        grid.getChildren().add(details);
+        HBox.setHgrow(grid, Priority.ALWAYS);
+        cardPane.getChildren().add(grid);
+    }
 
     public RecordCard(Record record, int displayedIndex) {
-        super(FXML);
-        this.record = record;
+        this();
+        setRecord(record, displayedIndex);
+    }
+
+    public Record getRecord() {
+        return record;
+    }
+
+    /**
+     * Displays the record shown as the record at {@code displayedIndex}.
+     */
+    public void setDisplayedIndex(int displayedIndex) {
         id.setText(displayedIndex + ". ");
+    }
+
+    /**
+     * Displays {@code record} as the record at {@code displayedIndex} in place of the record shown before.
+     */
+    public void setRecord(Record record, int displayedIndex) {
+        this.record = record;
+        setDisplayedIndex(displayedIndex);
         name.setText(record.getName().fullName);
         amount.setText("$" + record.getAmount().toString());
         date.setText(record.getDate().toString());
         description.setText(record.getDescription().value);
-        category.setText(record.getCategory().toString());
-        category.getStyleClass().add(getCategoryColorStyleFor(record.getCategory().toString()));
+
+        String categoryName = record.getCategory().toString();
+        category.setText(categoryName);
+        String newCategoryColorStyle = getCategoryColorStyleFor(categoryName);
+        if (!newCategoryColorStyle.equals(categoryColorStyle)) {
+            category.getStyleClass().remove(categoryColorStyle);
+            category.getStyleClass().add(newCategoryColorStyle);
+            categoryColorStyle = newCategoryColorStyle;
+        }
+    }
+
+    /**
+     * Returns an empty label with the node id {@code labelId} and the optional {@code styleClass}.
+     */
+    private static Label createLabel(String labelId, String styleClass) {
+        Label label = new Label();
+        label.setId(labelId);
+        if (styleClass != null) {
+            label.getStyleClass().add(styleClass);
+        }
+        return label;
     }
 
     //@@author geezlouisee-reused
@@ -81,6 +153,6 @@ public class RecordCard extends UiPart<Region> {
         // state check
         RecordCard card = (RecordCard) other;
         return id.getText().equals(card.id.getText())
-                && record.equals(card.record);
+                && Objects.equals(record, card.record);
     }
 }
@@ -1,60 +1,181 @@
 package seedu.finance.ui;
 
+import java.util.Collections;
 import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.commons.util.StringUtil;
 import seedu.finance.model.record.Record;
+import seedu.finance.ui.GroupedRecordList.Group;
+import seedu.finance.ui.GroupedRecordList.Row;
 
 /**
  * Panel containing the list of records.
+ * The records can also be shown in groups, each with a header that shows the number of records in the group and
+ * their subtotal, and that collapses or expands the group when clicked.
  */
 public class RecordListPanel extends UiPart<Region> {
     private static final String FXML = "RecordListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(RecordListPanel.class);
 
+    private final ObservableList<Record> recordList;
+    private final ObservableValue<Record> selectedRecord;
+    private Grouping grouping = Grouping.NONE;
+    private GroupedRecordList groupedRecordList; // null when the records are not grouped
+    // the rows do not change when only the displayed index of their record does, so the cells are refreshed instead
+    private final Set<GroupedRecordListViewCell> groupedRecordListViewCells =
+            Collections.newSetFromMap(new WeakHashMap<>());
+
     @FXML
     private ListView<Record> recordListView;
 
+    @FXML
+    private ListView<Row> groupedRecordListView;
+
     public RecordListPanel(ObservableList<Record> recordList, ObservableValue<Record> selectedRecord,
                            Consumer<Record> onSelectedRecordChange) {
         super(FXML);
+        this.recordList = recordList;
+        this.selectedRecord = selectedRecord;
         recordListView.setItems(recordList);
         recordListView.setCellFactory(listView -> new RecordListViewCell());
         recordListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
             logger.fine("Selection in record list panel changed to : '" + newValue + "'");
             onSelectedRecordChange.accept(newValue);
         });
+        groupedRecordListView.setCellFactory(listView -> {
+            GroupedRecordListViewCell cell = new GroupedRecordListViewCell();
+            groupedRecordListViewCells.add(cell);
+            return cell;
+        });
+        groupedRecordListView.getSelectionModel().selectedItemProperty().addListener((observable, oldRow, newRow) -> {
+            // headers do not select a record, and the selection is kept until its row is removed, as by a collapse
+            if (newRow != null && !newRow.isHeader()) {
+                logger.fine("Selection in grouped record list changed to : '" + newRow.getRecord() + "'");
+                onSelectedRecordChange.accept(newRow.getRecord());
+            }
+        });
         selectedRecord.addListener((observable, oldValue, newValue) -> {
             logger.fine("Selected record changed to: " + newValue);
-
-            // Don't modify selection if we are already selecting the selected record,
-            // otherwise we would have an infinite loop.
-            if (Objects.equals(recordListView.getSelectionModel().getSelectedItem(), newValue)) {
-                return;
-            }
-
-            if (newValue == null) {
-                recordListView.getSelectionModel().clearSelection();
+            if (groupedRecordList == null) {
+                selectInRecordList(newValue);
             } else {
-                int index = recordListView.getItems().indexOf(newValue);
-                recordListView.scrollTo(index);
-                recordListView.getSelectionModel().clearAndSelect(index);
+                selectInGroupedRecordList(newValue);
             }
         });
     }
 
+    /**
+     * Shows the records in groups by {@code grouping}, or in a flat list if it is {@code Grouping.NONE}.
+     * All groups start out expanded.
+     */
+    public void setGrouping(Grouping grouping) {
+        if (groupedRecordList != null) {
+            groupedRecordList.dispose();
+        }
+
+        this.grouping = grouping;
+        groupedRecordList = grouping.group(recordList);
+        boolean isGrouped = groupedRecordList != null;
+        if (isGrouped) {
+            groupedRecordList.getRows().addListener((ListChangeListener<Row>) change ->
+                    groupedRecordListViewCells.forEach(GroupedRecordListViewCell::updateDisplayedIndex));
+        }
+        groupedRecordListView.setItems(isGrouped ? groupedRecordList.getRows() : FXCollections.observableArrayList());
+        setShown(groupedRecordListView, isGrouped);
+        setShown(recordListView, !isGrouped);
+        if (isGrouped) {
+            selectInGroupedRecordList(selectedRecord.getValue());
+        } else {
+            selectInRecordList(selectedRecord.getValue());
+        }
+    }
+
+    public Grouping getGrouping() {
+        return grouping;
+    }
+
+    private void selectInRecordList(Record record) {
+        // Don't modify selection if we are already selecting the selected record,
+        // otherwise we would have an infinite loop.
+        if (Objects.equals(recordListView.getSelectionModel().getSelectedItem(), record)) {
+            return;
+        }
+
+        if (record == null) {
+            recordListView.getSelectionModel().clearSelection();
+        } else {
+            int index = recordListView.getItems().indexOf(record);
+            recordListView.scrollTo(index);
+            recordListView.getSelectionModel().clearAndSelect(index);
+        }
+    }
+
+    /**
+     * Selects the row of {@code record} in the grouped record list, if it is shown there.
+     */
+    private void selectInGroupedRecordList(Record record) {
+        Row selectedRow = groupedRecordListView.getSelectionModel().getSelectedItem();
+        if (selectedRow != null && Objects.equals(selectedRow.getRecord(), record)) {
+            return;
+        }
+
+        int index = record == null ? -1 : groupedRecordList.indexOf(record);
+        if (index < 0) {
+            groupedRecordListView.getSelectionModel().clearSelection();
+        } else {
+            groupedRecordListView.scrollTo(index);
+            groupedRecordListView.getSelectionModel().clearAndSelect(index);
+        }
+    }
+
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
+    }
+
+    /**
+     * The ways in which the records can be grouped.
+     */
+    public enum Grouping {
+        NONE, MONTH, CATEGORY;
+
+        /**
+         * Returns the records of {@code recordList} grouped this way, or null if they are not grouped.
+         */
+        private GroupedRecordList group(ObservableList<Record> recordList) {
+            switch (this) {
+            case MONTH:
+                return GroupedRecordList.byMonth(recordList);
+            case CATEGORY:
+                return GroupedRecordList.byCategory(recordList);
+            default:
+                return null;
+            }
+        }
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Record} using a {@code RecordCard}.
+     * The cell keeps the same card for its whole life and only points it at the record it currently shows.
      */
     class RecordListViewCell extends ListCell<Record> {
+        private RecordCard recordCard;
+
         @Override
         protected void updateItem(Record record, boolean empty) {
             super.updateItem(record, empty);
@@ -62,9 +183,76 @@ public class RecordListPanel extends UiPart<Region> {
             if (empty || record == null) {
                 setGraphic(null);
                 setText(null);
-            } else {
-                setGraphic(new RecordCard(record, getIndex() + 1).getRoot());
+                return;
             }
+
+            if (recordCard == null) {
+                recordCard = new RecordCard();
+            }
+            recordCard.setRecord(record, getIndex() + 1);
+            setGraphic(recordCard.getRoot());
+        }
+    }
+
+    /**
+     * Custom {@code ListCell} that displays either the header of a group of records or a {@code RecordCard}.
+     * The subtotal of a group is only computed once its header is shown in a cell.
+     */
+    class GroupedRecordListViewCell extends ListCell<Row> {
+        private RecordCard recordCard;
+        private Label header;
+
+        GroupedRecordListViewCell() {
+            setOnMouseClicked(event -> {
+                Row row = getItem();
+                if (row != null && row.isHeader()) {
+                    groupedRecordList.toggleExpanded(row.getGroup());
+                }
+            });
+        }
+
+        @Override
+        protected void updateItem(Row row, boolean empty) {
+            super.updateItem(row, empty);
+
+            if (empty || row == null) {
+                setGraphic(null);
+                setText(null);
+                return;
+            }
+
+            if (row.isHeader()) {
+                if (header == null) {
+                    header = new Label();
+                    header.getStyleClass().add("cell_big_label");
+                }
+                header.setText(getHeaderText(row.getGroup()));
+                setGraphic(header);
+                return;
+            }
+
+            if (recordCard == null) {
+                recordCard = new RecordCard();
+            }
+            recordCard.setRecord(row.getRecord(), row.getDisplayedIndex());
+            setGraphic(recordCard.getRoot());
+        }
+
+        /**
+         * Shows the displayed index of the record in this cell again, as records added or removed before it in the
+         * source list change the index without changing the row.
+         */
+        private void updateDisplayedIndex() {
+            Row row = getItem();
+            if (!isEmpty() && row != null && !row.isHeader()) {
+                recordCard.setDisplayedIndex(row.getDisplayedIndex());
+            }
+        }
+
+        private String getHeaderText(Group group) {
+            return (group.isExpanded() ? "\u25BE " : "\u25B8 ") + group.getKey() + " (" + group.size()
+                    + (group.size() == 1 ? " record" : " records") + ", $"
+                    + StringUtil.toTwoDecimalPlaces(group.getSubtotal()) + ")";
         }
     }
 
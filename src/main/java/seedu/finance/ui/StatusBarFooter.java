@@ -1,13 +1,21 @@
 package seedu.finance.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Clock;
 import java.util.Date;
 
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.fxml.FXML;
+import javafx.scene.control.Hyperlink;
 import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.util.Duration;
 import seedu.finance.model.ReadOnlyFinanceTracker;
 
 /**
@@ -17,6 +25,9 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String BUSY_COMMAND_STATUS = "Running: %1$s (%2$d.%3$d s)";
+    public static final String CANCEL_QUEUED_COMMANDS = "Cancel %d queued";
+    public static final long BUSY_STATUS_UPDATE_MILLIS = 100;
 
     /**
      * Used to generate time stamps.
@@ -34,11 +45,30 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label syncStatus;
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private HBox busyStatus;
+    @FXML
+    private Label busyCommand;
+    @FXML
+    private Hyperlink cancelQueuedCommands;
 
+    private final Timeline busyStatusUpdater = new Timeline(
+            new KeyFrame(Duration.millis(BUSY_STATUS_UPDATE_MILLIS), event -> updateBusyCommand()));
+    private CommandWorker commandWorker;
 
     public StatusBarFooter(Path saveLocation, ReadOnlyFinanceTracker financeTracker) {
+        this(saveLocation, financeTracker, new UiRefreshScheduler());
+    }
+
+    /**
+     * Creates a status bar whose sync status is updated through {@code refreshScheduler},
+     * once for every burst of modifications to {@code financeTracker}.
+     */
+    public StatusBarFooter(Path saveLocation, ReadOnlyFinanceTracker financeTracker,
+            UiRefreshScheduler refreshScheduler) {
         super(FXML);
-        financeTracker.addListener(observable -> updateSyncStatus());
+        Runnable syncStatusRefresh = this::updateSyncStatus;
+        financeTracker.addListener(observable -> refreshScheduler.markDirty(syncStatusRefresh));
         syncStatus.setText(SYNC_STATUS_INITIAL);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
@@ -66,6 +96,47 @@ public class StatusBarFooter extends UiPart<Region> {
         syncStatus.setText(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 
+    /**
+     * Shows the busy command of {@code commandWorker} while there is one, with how long it has been running.
+     * Commands waiting behind it can be cancelled through a link, which is only shown while there are any, as the
+     * running command itself runs to the end.
+     */
+    public void showCommandProgress(CommandWorker commandWorker) {
+        this.commandWorker = requireNonNull(commandWorker);
+        busyStatusUpdater.setCycleCount(Animation.INDEFINITE);
+        cancelQueuedCommands.setOnAction(event -> commandWorker.cancel());
+        commandWorker.busyCommandProperty().addListener((observable, oldText, newText) -> {
+            busyStatus.setVisible(newText != null);
+            if (newText == null) {
+                busyStatusUpdater.stop();
+            } else {
+                busyStatusUpdater.play();
+            }
+            updateBusyCommand();
+        });
+        commandWorker.queuedCommandCountProperty().addListener((observable, oldCount, newCount) ->
+                updateQueuedCommands());
+        updateQueuedCommands();
+    }
+
+    private void updateBusyCommand() {
+        String busyCommandText = commandWorker.busyCommandProperty().get();
+        if (busyCommandText == null) {
+            busyCommand.setText("");
+            return;
+        }
+        long tenthsOfSecond = commandWorker.getBusyCommandMillis() / 100;
+        busyCommand.setText(String.format(BUSY_COMMAND_STATUS, busyCommandText, tenthsOfSecond / 10,
+                tenthsOfSecond % 10));
+    }
+
+    private void updateQueuedCommands() {
+        int queuedCommandCount = commandWorker.queuedCommandCountProperty().get();
+        cancelQueuedCommands.setText(String.format(CANCEL_QUEUED_COMMANDS, queuedCommandCount));
+        cancelQueuedCommands.setVisible(queuedCommandCount > 0);
+        cancelQueuedCommands.setManaged(queuedCommandCount > 0);
+    }
+
     public void updateFileLocation(Path saveLocation) {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
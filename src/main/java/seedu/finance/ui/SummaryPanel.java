@@ -1,119 +1,304 @@
 package seedu.finance.ui;
 
-import java.util.LinkedHashMap;
-import java.util.Set;
+import static java.util.Objects.requireNonNull;
 
-import javafx.beans.binding.Bindings;
-import javafx.fxml.FXML;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableMap;
+import javafx.geometry.Insets;
 import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.chart.AreaChart;
+import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.PieChart;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Label;
+import javafx.scene.layout.AnchorPane;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Text;
+import javafx.util.StringConverter;
+import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.commons.util.StringUtil;
 import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
+import seedu.finance.model.SpendingTrend;
+import seedu.finance.model.record.Record;
 
 /**
  * The Summary Panel of the App.
+ * The panel keeps one pie chart for its whole life and follows the changes to the category totals it shows,
+ * so that a changed total only updates its own slice instead of rebuilding the chart.
+ * Below it, an area chart shows the spending over time. The trend is totalled and downsampled to at most
+ * {@link #MAX_TREND_POINTS} points on a background thread, so it plots as fast for years of records as for a week.
+ * The panel builds its scene graph in code rather than loading it from a FXML file.
  */
 public class SummaryPanel extends UiPart<Region> {
     //Not sure about the page urls, KIV most likely have to edit again
     //Want to link to GraphPage.html which is currently under main/docs
 
-    private static final String FXML = "SummaryPanel.fxml";
+    private static final double PANEL_PREF_WIDTH = 450;
+    private static final double PANEL_PREF_HEIGHT = 300;
+    private static final double CHART_AREA_PREF_WIDTH = 430;
+    private static final double CHART_AREA_PREF_HEIGHT = 280;
+
+    /** About one point for every two pixels of the width of the trend chart. */
+    public static final int MAX_TREND_POINTS = 200;
+
+    private static final StringConverter<Number> DAY_TICK_LABELS =
+            new EpochDayConverter(DateTimeFormatter.ofPattern("d MMM"));
+    private static final StringConverter<Number> MONTH_TICK_LABELS =
+            new EpochDayConverter(DateTimeFormatter.ofPattern("MMM yy"));
+
+    /** Totals the spending trends in the order they are requested, away from the JavaFX application thread. */
+    private static final ExecutorService TREND_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Spending trend");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private static final String[] PIE_CHART_COLOUR_STYLES =
         { "teal", "red", "yellow", "blue", "orange", "brown", "green", "pink", "black", "gray", "purple",
             "coral", "tan", "turquoise", "lightGray", "lightSkyBlue", "hotPink", "peachPuff", "cadetBlue" };
 
-    @FXML
-    private StackPane chartArea;
+    private final StackPane chartArea = new StackPane();
+    private final Logger logger = LogsCenter.getLogger(SummaryPanel.class);
 
+    private final PieChart pieChart = new PieChart();
+    private final NumberAxis trendDateAxis = new NumberAxis();
+    private final AreaChart<Number, Number> trendChart = new AreaChart<>(trendDateAxis, new NumberAxis());
+    private final XYChart.Series<Number, Number> trendSeries = new XYChart.Series<>();
+    private final VBox charts = new VBox(pieChart, trendChart);
+    private long latestTrendRequest;
+    private final Text noExpensesText = new Text();
+    private final Map<String, PieChart.Data> slices = new HashMap<>();
+    private final MapChangeListener<String, Double> summaryDataListener = change -> {
+        setSlice(change.getKey(), change.wasAdded() ? change.getValueAdded() : null);
+        showChartOrMessage();
+    };
+    private ObservableMap<String, Double> summaryData;
 
     /**
      * Constructs a {@code SummaryPanel} object with parameters.
      *
-     * @param summaryData   a map with key and value pairs representing data for the charts.
+     * @param summaryData   a map with key and value pairs representing data for the charts, which the panel
+     *                      keeps following as it changes.
      * @param summaryPeriod a {@code SummaryPeriod} enum representing the summary period
      * @param periodAmount  an int representing the period amount
      */
     public SummaryPanel(
-            LinkedHashMap<String, Double> summaryData,
+            ObservableMap<String, Double> summaryData,
             SummaryPeriod summaryPeriod,
             int periodAmount
     ) {
-        super(FXML);
-        setData(summaryData, summaryPeriod, periodAmount);
+        this(new StackPane());
+        setPeriod(summaryPeriod, periodAmount);
+        setSummaryData(summaryData);
     }
 
     /**
-     * Populates {@code chartArea} according to the parameters.
-     * If {@code summaryData} is empty, {@code chartArea} will be a message
-     * saying that there are no expenditures.
+     * Lays out the header and {@code chartArea} in {@code summaryPanel}, which becomes the root of the panel.
+     */
+    private SummaryPanel(StackPane summaryPanel) {
+        super(summaryPanel);
+        summaryPanel.setId("summaryPanel");
+        summaryPanel.setPrefSize(PANEL_PREF_WIDTH, PANEL_PREF_HEIGHT);
+        anchorToTop(summaryPanel);
+
+        Label summaryHeader = new Label("Summary");
+        summaryHeader.setId("summaryHeader");
+        summaryHeader.getStyleClass().add("budget_title");
+        summaryHeader.setPadding(new Insets(10, 0, 0, 0));
+
+        chartArea.setId("chartArea");
+        chartArea.setLayoutX(10);
+        chartArea.setLayoutY(35);
+        chartArea.setPrefSize(CHART_AREA_PREF_WIDTH, CHART_AREA_PREF_HEIGHT);
+        AnchorPane.setLeftAnchor(chartArea, 0.0);
+        AnchorPane.setRightAnchor(chartArea, 0.0);
+
+        AnchorPane content = new AnchorPane(summaryHeader, chartArea);
+        content.setPrefSize(PANEL_PREF_WIDTH, PANEL_PREF_HEIGHT);
+        anchorToTop(content);
+        summaryPanel.getChildren().add(content);
+
+        pieChart.setId("categoryChart");
+        pieChart.setLegendSide(Side.BOTTOM);
+        trendChart.setId("trendChart");
+        trendChart.setLegendVisible(false);
+        trendChart.setCreateSymbols(false);
+        // the whole series is replaced whenever the trend changes, which is not worth animating point by point
+        trendChart.setAnimated(false);
+        trendChart.getData().add(trendSeries);
+        trendDateAxis.setForceZeroInRange(false);
+        VBox.setVgrow(pieChart, Priority.ALWAYS);
+        VBox.setVgrow(trendChart, Priority.ALWAYS);
+        noExpensesText.setStyle("-fx-font-size: 18;");
+        noExpensesText.setFill(Color.GRAY);
+    }
+
+    /**
+     * Shows the totals in {@code summaryData} from now on, and follows the changes made to them.
+     * Only the slices of the categories whose totals differ from the ones shown are updated.
+     */
+    public void setSummaryData(ObservableMap<String, Double> summaryData) {
+        requireNonNull(summaryData);
+        if (this.summaryData != null) {
+            this.summaryData.removeListener(summaryDataListener);
+        }
+        this.summaryData = summaryData;
+        summaryData.addListener(summaryDataListener);
+
+        for (String category : new ArrayList<>(slices.keySet())) {
+            if (!summaryData.containsKey(category)) {
+                setSlice(category, null);
+            }
+        }
+        summaryData.forEach(this::setSlice);
+        showChartOrMessage();
+    }
+
+    /**
+     * Sets the period mentioned by the message shown when there are no expenditures in it.
      *
-     * @param summaryData   a map with key and value pairs representing data for the charts.
      * @param summaryPeriod a {@code SummaryPeriod} enum representing the summary period
      * @param periodAmount  an int representing the period amount
      */
-    public void setData(
-            LinkedHashMap<String, Double> summaryData,
-            SummaryPeriod summaryPeriod,
-            int periodAmount
-    ) {
-        chartArea.getChildren().clear();
-        if (summaryData.size() == 0) {
-            Text text = new Text();
-            if (summaryPeriod == SummaryPeriod.DAY) {
-                if (periodAmount == 1) {
-                    text.setText("There are no recorded expenditures in the past day");
-                } else {
-                    text.setText("There are no recorded expenditures in the past " + periodAmount + " days");
-                }
+    public void setPeriod(SummaryPeriod summaryPeriod, int periodAmount) {
+        if (summaryPeriod == SummaryPeriod.DAY) {
+            if (periodAmount == 1) {
+                noExpensesText.setText("There are no recorded expenditures in the past day");
             } else {
-                if (periodAmount == 1) {
-                    text.setText("There are no recorded expenditures in the past month");
-
-                } else {
-                    text.setText("There are no recorded expenditures in the past " + periodAmount + " months");
-                }
+                noExpensesText.setText("There are no recorded expenditures in the past " + periodAmount + " days");
             }
-            text.setStyle("-fx-font-size: 18;");
-            text.setFill(Color.GRAY);
-            chartArea.getChildren().add(text);
         } else {
-            setSummaryData(summaryData);
+            if (periodAmount == 1) {
+                noExpensesText.setText("There are no recorded expenditures in the past month");
+            } else {
+                noExpensesText.setText("There are no recorded expenditures in the past " + periodAmount + " months");
+            }
         }
     }
 
     /**
-     * Populates {@code chartArea} according to the parameters. {@code chartArea} will be a pie chart.
-     *
-     * @param summaryData a map with key and value pairs representing data for the charts.
+     * Shows the trend of the spending in {@code records} over the summary period in the trend chart.
+     * The records are copied on the calling thread, which should be the JavaFX application thread, then totalled
+     * and downsampled in the background. A trend that is still being computed when a newer one is requested
+     * is dropped instead of being shown.
      */
-    public void setSummaryData(LinkedHashMap<String, Double> summaryData) {
-        PieChart pieChart = new PieChart();
+    public void setTrendRecords(List<Record> records, SummaryPeriod summaryPeriod, int periodAmount) {
+        List<Record> snapshot = new ArrayList<>(records);
+        long request = ++latestTrendRequest;
+        TREND_EXECUTOR.execute(() -> {
+            LocalDate today = LocalDate.now();
+            LocalDate start = SpendingTrend.getStartDate(summaryPeriod, periodAmount, today);
+            SpendingTrend trend = SpendingTrend.of(snapshot, start, today,
+                    SpendingTrend.getBucketFor(summaryPeriod, periodAmount)).downsample(MAX_TREND_POINTS);
+            Platform.runLater(() -> {
+                if (request == latestTrendRequest) {
+                    showTrend(trend);
+                }
+            });
+        });
+    }
 
-        Set<String> keySet = summaryData.keySet();
-        for (String s : keySet) {
-            pieChart.getData().add(new PieChart.Data(s, summaryData.get(s)));
+    /**
+     * Replaces the points of the trend chart with the buckets of {@code trend}.
+     */
+    private void showTrend(SpendingTrend trend) {
+        List<XYChart.Data<Number, Number>> points = new ArrayList<>(trend.size());
+        for (int i = 0; i < trend.size(); i++) {
+            points.add(new XYChart.Data<>(trend.getBucketStartEpochDay(i), trend.getTotal(i)));
         }
+        trendDateAxis.setTickLabelFormatter(
+                trend.getBucket() == SpendingTrend.Bucket.DAY ? DAY_TICK_LABELS : MONTH_TICK_LABELS);
+        trendSeries.getData().setAll(points);
+        logger.fine("Spending trend shown with " + trend.size() + " points");
+    }
 
+    /**
+     * Updates the slice of {@code category} to {@code total}, adding the slice if there is none,
+     * or removes the slice if {@code total} is null. The chart animates the change.
+     */
+    private void setSlice(String category, Double total) {
+        PieChart.Data slice = slices.get(category);
+        if (total == null) {
+            if (slice != null) {
+                slices.remove(category);
+                pieChart.getData().remove(slice);
+            }
+            return;
+        }
 
-        for (int i = 0; i < pieChart.getData().size(); i++) {
-            PieChart.Data data = pieChart.getData().get(i);
-            data.getNode().getStyleClass().add(getPieChartColorStyleFor(data.getName()));
-            data.nameProperty().bind(Bindings.concat(data.getName(), " - $",
-                    String.format("%.2f", data.getPieValue())));
+        String label = category + " - $" + StringUtil.toTwoDecimalPlaces(total);
+        if (slice != null) {
+            slice.setName(label);
+            slice.setPieValue(total);
+            return;
         }
 
+        slice = new PieChart.Data(label, total);
+        slices.put(category, slice);
+        pieChart.getData().add(slice);
+        slice.getNode().getStyleClass().add(getPieChartColorStyleFor(category));
+    }
 
-        pieChart.setLegendSide(Side.BOTTOM);
+    /**
+     * Shows the charts in {@code chartArea} if there are any expenditures, or a message saying there are none.
+     */
+    private void showChartOrMessage() {
+        Node content = slices.isEmpty() ? noExpensesText : charts;
+        if (chartArea.getChildren().size() != 1 || chartArea.getChildren().get(0) != content) {
+            chartArea.getChildren().setAll(content);
+        }
+    }
 
-        chartArea.getChildren().add(pieChart);
+    /**
+     * Anchors {@code region} to its parent the way the former {@code SummaryPanel.fxml} did.
+     */
+    private static void anchorToTop(Region region) {
+        AnchorPane.setTopAnchor(region, 0.0);
+        AnchorPane.setBottomAnchor(region, PANEL_PREF_HEIGHT);
+        AnchorPane.setLeftAnchor(region, 0.0);
+        AnchorPane.setRightAnchor(region, 0.0);
     }
 
     private String getPieChartColorStyleFor(String categoryName) {
         return PIE_CHART_COLOUR_STYLES[Math.abs(categoryName.hashCode() % 23) % PIE_CHART_COLOUR_STYLES.length];
     }
 
+    /**
+     * Formats the epoch days on the date axis of the trend chart as dates.
+     */
+    private static class EpochDayConverter extends StringConverter<Number> {
+        private final DateTimeFormatter formatter;
+
+        private EpochDayConverter(DateTimeFormatter formatter) {
+            this.formatter = formatter;
+        }
+
+        @Override
+        public String toString(Number epochDay) {
+            return LocalDate.ofEpochDay(epochDay.longValue()).format(formatter);
+        }
+
+        @Override
+        public Number fromString(String string) {
+            // NumberAxis only formats its tick labels and never parses them back
+            return null;
+        }
+    }
+
 }
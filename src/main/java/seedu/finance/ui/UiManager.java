@@ -9,6 +9,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.finance.MainApp;
 import seedu.finance.commons.core.LogsCenter;
+import seedu.finance.commons.core.StartupTimer;
 import seedu.finance.commons.util.StringUtil;
 import seedu.finance.logic.Logic;
 
@@ -23,11 +24,13 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/finance_tracker_32.png";
 
     private Logic logic;
+    private boolean isCommandRunInBackground;
     private MainWindow mainWindow;
 
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, boolean isCommandRunInBackground) {
         super();
         this.logic = logic;
+        this.isCommandRunInBackground = isCommandRunInBackground;
     }
 
     @Override
@@ -38,8 +41,9 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, isCommandRunInBackground);
             mainWindow.show(); //This should be called before creating other UI parts
+            StartupTimer.getInstance().markPhaseEnd("main window shown");
             mainWindow.fillInnerParts();
 
         } catch (Throwable e) {
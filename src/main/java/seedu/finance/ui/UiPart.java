@@ -10,14 +10,16 @@ import seedu.finance.MainApp;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
- * It contains a scene graph with a root node of type {@code T}.
+ * It contains a scene graph with a root node of type {@code T}, which is usually loaded from a FXML file.
+ * Parts that are created often can build their scene graph in code instead, as loading a FXML file parses it
+ * and looks up its classes and fields reflectively every time.
  */
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
@@ -51,11 +53,19 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph is built in code, with {@code root} as its root object.
+     * No FXML file is loaded.
+     */
+    protected UiPart(T root) {
+        this.root = requireNonNull(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
     }
 
     /**
@@ -65,6 +75,7 @@ public abstract class UiPart<T> {
      */
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
@@ -73,6 +84,7 @@ public abstract class UiPart<T> {
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        this.root = fxmlLoader.getRoot();
     }
 
     /**
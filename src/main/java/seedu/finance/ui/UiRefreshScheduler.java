@@ -0,0 +1,99 @@
+package seedu.finance.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.finance.commons.core.LogsCenter;
+
+/**
+ * Coalesces the refreshes of UI parts that are requested by bursts of model notifications.
+ *
+ * A refresh that is marked dirty is not run right away. The first refresh marked dirty after a flush posts one flush
+ * to the JavaFX application thread, which runs every dirty refresh once, in the order they were first marked.
+ * A single command can notify the UI several times, so each part it touches is redrawn once before the next pulse
+ * renders the scene instead of once per notification.
+ * Refreshes are told apart by identity, so a UI part should mark the same {@code Runnable} instance every time.
+ * Refreshes can be marked dirty from any thread.
+ */
+public class UiRefreshScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(UiRefreshScheduler.class);
+
+    private final Consumer<Runnable> flushPoster;
+    private final Set<Runnable> dirtyRefreshes = new LinkedHashSet<>();
+    private boolean isFlushPosted;
+    private long requestCount;
+    private long refreshCount;
+
+    public UiRefreshScheduler() {
+        this(Platform::runLater);
+    }
+
+    /**
+     * Creates a scheduler that hands its flushes to {@code flushPoster} to be run later.
+     */
+    UiRefreshScheduler(Consumer<Runnable> flushPoster) {
+        this.flushPoster = requireNonNull(flushPoster);
+    }
+
+    /**
+     * Marks {@code refresh} as dirty so that it is run once by the next flush, however many times it is marked.
+     */
+    public void markDirty(Runnable refresh) {
+        requireNonNull(refresh);
+        synchronized (this) {
+            requestCount++;
+            dirtyRefreshes.add(refresh);
+            if (isFlushPosted) {
+                return;
+            }
+            isFlushPosted = true;
+        }
+        flushPoster.accept(this::flush);
+    }
+
+    /**
+     * Runs every dirty refresh once. Refreshes marked dirty while the flush runs are left for the next flush.
+     */
+    void flush() {
+        List<Runnable> refreshes;
+        synchronized (this) {
+            refreshes = new ArrayList<>(dirtyRefreshes);
+            dirtyRefreshes.clear();
+            isFlushPosted = false;
+            refreshCount += refreshes.size();
+        }
+        refreshes.forEach(Runnable::run);
+        logger.fine("Ran " + refreshes.size() + " UI refreshes, " + getCoalescedCount() + " coalesced so far");
+    }
+
+    /**
+     * Returns the number of times any refresh has been marked dirty.
+     */
+    public synchronized long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns the number of refreshes that have been run.
+     */
+    public synchronized long getRefreshCount() {
+        return refreshCount;
+    }
+
+    /**
+     * Returns the number of requests that found their refresh already dirty, and so did not cause a refresh of their
+     * own.
+     */
+    public synchronized long getCoalescedCount() {
+        return requestCount - refreshCount - dirtyRefreshes.size();
+    }
+
+}
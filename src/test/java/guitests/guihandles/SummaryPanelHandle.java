@@ -1,6 +1,8 @@
 package guitests.guihandles;
 
+import javafx.scene.Node;
 import javafx.scene.chart.PieChart;
+import javafx.scene.chart.XYChart;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.Text;
@@ -11,6 +13,8 @@ import javafx.scene.text.Text;
 public class SummaryPanelHandle extends NodeHandle<Region> {
 
     public static final String CHART_AREA_ID = "#chartArea";
+    public static final String CATEGORY_CHART_ID = "#categoryChart";
+    public static final String TREND_CHART_ID = "#trendChart";
 
     private final StackPane chartArea;
 
@@ -25,7 +29,39 @@ public class SummaryPanelHandle extends NodeHandle<Region> {
      * @return true if child is an instance of PieChart
      */
     public boolean isCategoryChart() {
-        return chartArea.getChildren().get(0) instanceof PieChart;
+        return chartArea.lookup(CATEGORY_CHART_ID) instanceof PieChart;
+    }
+
+    /**
+     * Returns the number of points plotted by the trend chart, or 0 if it is not shown.
+     */
+    public int getTrendPointCount() {
+        Node trendChart = chartArea.lookup(TREND_CHART_ID);
+        if (!(trendChart instanceof XYChart)) {
+            return 0;
+        }
+        return ((XYChart<?, ?>) trendChart).getData().stream().mapToInt(series -> series.getData().size()).sum();
+    }
+
+    /**
+     * Returns the chart shown, or null if no chart is shown.
+     */
+    public PieChart getChart() {
+        return isCategoryChart() ? (PieChart) chartArea.lookup(CATEGORY_CHART_ID) : null;
+    }
+
+    /**
+     * Returns the value of the slice labelled with {@code category}, or null if there is no such slice.
+     */
+    public Double getSliceValue(String category) {
+        if (!isCategoryChart()) {
+            return null;
+        }
+        return getChart().getData().stream()
+                .filter(data -> data.getName().startsWith(category + " - $"))
+                .map(PieChart.Data::getPieValue)
+                .findFirst()
+                .orElse(null);
     }
 
     /**
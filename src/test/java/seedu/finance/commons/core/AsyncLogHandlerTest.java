@@ -0,0 +1,109 @@
+package seedu.finance.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.finance.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler asyncLogHandler;
+
+    @After
+    public void tearDown() {
+        target.release.countDown();
+        asyncLogHandler.close();
+    }
+
+    @Test
+    public void flush_recordsPublished_allWrittenInOrder() {
+        target.release.countDown();
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 2, OverflowPolicy.BLOCK);
+        for (int i = 0; i < 10; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncLogHandler.flush();
+
+        assertEquals(10, target.messages.size());
+        assertEquals("message 9", target.messages.get(9));
+        assertEquals(1, target.flushCount);
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_recordsDroppedAndReported() throws Exception {
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 1, OverflowPolicy.DROP);
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "being written"));
+        assertTrue(target.writing.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "buffered"));
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "dropped"));
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "also dropped"));
+        assertEquals(2, asyncLogHandler.getDroppedCount());
+
+        target.release.countDown();
+        asyncLogHandler.flush();
+        assertEquals(3, target.messages.size());
+        assertEquals("being written", target.messages.get(0));
+        assertTrue(target.messages.get(1).startsWith("2 log records were dropped"));
+        assertEquals("buffered", target.messages.get(2));
+    }
+
+    @Test
+    public void close_recordsPublishedBefore_writtenAndLaterRecordsIgnored() {
+        target.release.countDown();
+        asyncLogHandler = new AsyncLogHandler(Collections.singletonList(target), 4, OverflowPolicy.DROP);
+        asyncLogHandler.setLevel(Level.INFO);
+        asyncLogHandler.publish(new LogRecord(Level.FINE, "below the level"));
+        asyncLogHandler.publish(new LogRecord(Level.WARNING, "before close"));
+        asyncLogHandler.close();
+        asyncLogHandler.publish(new LogRecord(Level.WARNING, "after close"));
+        asyncLogHandler.flush();
+
+        assertEquals(Collections.singletonList("before close"), target.messages);
+    }
+
+    /**
+     * Keeps the messages of the records it is given, once it is released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile int flushCount;
+
+        @Override
+        public void publish(LogRecord record) {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
@@ -15,7 +15,12 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Log written in background : true\n"
+                + "Log buffer capacity : 1024\n"
+                + "Log overflow policy : DROP\n"
+                + "Preference file Location : preferences.json\n"
+                + "Commands run in background : false\n"
+                + "Command metrics file : none";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
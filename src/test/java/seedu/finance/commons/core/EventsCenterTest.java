@@ -0,0 +1,50 @@
+package seedu.finance.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.finance.commons.events.ShowSummaryRequestEvent;
+import seedu.finance.commons.events.SwapBrowserPanelEvent;
+import seedu.finance.commons.events.SwapBrowserPanelEvent.PanelType;
+
+public class EventsCenterTest {
+
+    private final EventsCenter eventsCenter = new EventsCenter();
+
+    @Test
+    public void post_handlerRegistered_handledOnPostingThread() {
+        SummaryHandler handler = new SummaryHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.post(new ShowSummaryRequestEvent());
+        assertEquals(Thread.currentThread(), handler.handlingThread);
+    }
+
+    @Test
+    public void getPostedCount_eventsPosted_countedByType() {
+        assertEquals(0, eventsCenter.getPostedCount(SwapBrowserPanelEvent.class));
+
+        // events are counted whether or not they have handlers
+        eventsCenter.post(new SwapBrowserPanelEvent(PanelType.SUMMARY));
+        eventsCenter.post(new SwapBrowserPanelEvent(PanelType.BROWSER));
+        eventsCenter.post(new ShowSummaryRequestEvent());
+
+        assertEquals(2, eventsCenter.getPostedCount(SwapBrowserPanelEvent.class));
+        assertEquals(1, eventsCenter.getPostedCount(ShowSummaryRequestEvent.class));
+    }
+
+    /**
+     * Records the thread that handles a {@code ShowSummaryRequestEvent}.
+     */
+    private static class SummaryHandler {
+        private Thread handlingThread;
+
+        @Subscribe
+        public void handleShowSummaryRequestEvent(ShowSummaryRequestEvent event) {
+            handlingThread = Thread.currentThread();
+        }
+    }
+
+}
@@ -0,0 +1,46 @@
+package seedu.finance.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentileNanos_noDurations_zero() {
+        assertEquals(0, histogram.getPercentileNanos(95));
+        assertEquals(0, histogram.getMeanNanos());
+    }
+
+    @Test
+    public void getPercentileNanos_durationsRecorded_upperBoundOfBucket() {
+        for (int i = 0; i < 19; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(800));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(30));
+
+        assertEquals(20, histogram.getCount());
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), histogram.getPercentileNanos(95));
+        // the bucket of the longest duration reaches up to 50 ms, but no duration was longer than 30 ms
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(30), histogram.getPercentileNanos(100));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(30), histogram.getMaxNanos());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(2260), histogram.getMeanNanos());
+    }
+
+    @Test
+    public void record_longerThanEveryBound_countedInLastBucket() {
+        histogram.record(TimeUnit.SECONDS.toNanos(9));
+        histogram.record(-1);
+
+        long[] bucketCounts = histogram.getBucketCounts();
+        assertEquals(LatencyHistogram.getBucketUpperBoundsNanos().length + 1, bucketCounts.length);
+        assertEquals(1, bucketCounts[0]);
+        assertEquals(1, bucketCounts[bucketCounts.length - 1]);
+        assertEquals(TimeUnit.SECONDS.toNanos(9), histogram.getPercentileNanos(99));
+    }
+
+}
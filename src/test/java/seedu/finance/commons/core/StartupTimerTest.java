@@ -0,0 +1,59 @@
+package seedu.finance.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class StartupTimerTest {
+
+    private long nowNanos;
+    private final StartupTimer startupTimer = new StartupTimer(() -> nowNanos);
+
+    @Test
+    public void markPhaseEnd_beforeStart_ignored() {
+        startupTimer.markPhaseEnd("window shown");
+        assertEquals(Collections.emptyMap(), startupTimer.getPhaseEndMillis());
+    }
+
+    @Test
+    public void markPhaseEnd_afterStart_timeSinceStartRecordedInOrder() {
+        nowNanos = TimeUnit.MILLISECONDS.toNanos(1000);
+        startupTimer.start();
+        nowNanos += TimeUnit.MILLISECONDS.toNanos(120);
+        startupTimer.markPhaseEnd("finance tracker read");
+        nowNanos += TimeUnit.MILLISECONDS.toNanos(300);
+        startupTimer.markPhaseEnd(StartupTimer.FIRST_INTERACTIVE_FRAME);
+
+        Map<String, Long> expectedPhaseEndMillis = new LinkedHashMap<>();
+        expectedPhaseEndMillis.put("finance tracker read", 120L);
+        expectedPhaseEndMillis.put(StartupTimer.FIRST_INTERACTIVE_FRAME, 420L);
+        assertEquals(expectedPhaseEndMillis, startupTimer.getPhaseEndMillis());
+
+        // starting again forgets the phases of the previous start
+        startupTimer.start();
+        assertEquals(Collections.emptyMap(), startupTimer.getPhaseEndMillis());
+    }
+
+    @Test
+    public void getPhaseMillis_phasesMarked_timeSincePreviousPhaseReturned() {
+        startupTimer.start();
+        nowNanos += TimeUnit.MILLISECONDS.toNanos(40);
+        startupTimer.markPhaseEnd("config read");
+        nowNanos += TimeUnit.MILLISECONDS.toNanos(250);
+        startupTimer.markPhaseEnd("data file read");
+        nowNanos += TimeUnit.MILLISECONDS.toNanos(10);
+        startupTimer.markPhaseEnd(StartupTimer.FIRST_INTERACTIVE_FRAME);
+
+        Map<String, Long> expectedPhaseMillis = new LinkedHashMap<>();
+        expectedPhaseMillis.put("config read", 40L);
+        expectedPhaseMillis.put("data file read", 250L);
+        expectedPhaseMillis.put(StartupTimer.FIRST_INTERACTIVE_FRAME, 10L);
+        assertEquals(expectedPhaseMillis, startupTimer.getPhaseMillis());
+    }
+
+}
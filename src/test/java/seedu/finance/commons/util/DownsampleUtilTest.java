@@ -0,0 +1,56 @@
+package seedu.finance.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.finance.commons.util.DownsampleUtil.largestTriangleThreeBuckets;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.finance.testutil.Assert;
+
+public class DownsampleUtilTest {
+
+    @Test
+    public void largestTriangleThreeBuckets_mismatchedSeries_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () ->
+                largestTriangleThreeBuckets(new double[2], new double[3], 2));
+    }
+
+    @Test
+    public void largestTriangleThreeBuckets_fewerPointsThanThreshold_allPointsKept() {
+        double[] xs = { 1, 2, 3 };
+        double[] ys = { 5, 1, 5 };
+        assertArrayEquals(new int[] { 0, 1, 2 }, largestTriangleThreeBuckets(xs, ys, 3));
+        assertArrayEquals(new int[] { 0, 1, 2 }, largestTriangleThreeBuckets(xs, ys, 10));
+
+        // thresholds below 3 cannot keep both ends and a point in between
+        assertArrayEquals(new int[] { 0, 1, 2 }, largestTriangleThreeBuckets(xs, ys, 2));
+    }
+
+    @Test
+    public void largestTriangleThreeBuckets_manyPoints_boundedWithEndsAndPeaksKept() {
+        int size = 10_000;
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = i;
+            ys[i] = i % 7;
+        }
+        ys[4321] = 1000;
+        ys[8765] = -1000;
+
+        int[] kept = largestTriangleThreeBuckets(xs, ys, 100);
+        assertEquals(100, kept.length);
+        assertEquals(0, kept[0]);
+        assertEquals(size - 1, kept[kept.length - 1]);
+        for (int i = 1; i < kept.length; i++) {
+            assertTrue(kept[i - 1] < kept[i]);
+        }
+        assertTrue(Arrays.stream(kept).anyMatch(index -> index == 4321));
+        assertTrue(Arrays.stream(kept).anyMatch(index -> index == 8765));
+    }
+
+}
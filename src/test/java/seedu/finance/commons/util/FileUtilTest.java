@@ -1,14 +1,23 @@
 package seedu.finance.commons.util;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.file.Path;
+
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.finance.testutil.Assert;
 
 public class FileUtilTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void isValidPath() {
         // valid path
@@ -21,4 +30,18 @@ public class FileUtilTest {
         Assert.assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile() throws Exception {
+        Path file = temporaryFolder.getRoot().toPath().resolve("file.json");
+
+        // file does not exist -> file created
+        FileUtil.writeToFile(file, "first content");
+        assertEquals("first content", FileUtil.readFromFile(file));
+
+        // file exists -> file replaced, no temporary file left behind
+        FileUtil.writeToFile(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertArrayEquals(new String[] {"file.json"}, temporaryFolder.getRoot().list());
+    }
+
 }
@@ -0,0 +1,42 @@
+package seedu.finance.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+public class JmxUtilTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    public void registerMBean_withLock_attributeReadWhileHoldingLock() throws Exception {
+        JmxUtil.registerMBean(new LockCheckingBean(), LockCheckingMXBean.class, "JmxUtilTest", lock);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(JmxUtil.DOMAIN, "type", "JmxUtilTest");
+        try {
+            assertEquals(true, server.getAttribute(name, "LockHeld"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    /**
+     * An MXBean that tells whether it is read while holding the lock.
+     */
+    public interface LockCheckingMXBean {
+        boolean isLockHeld();
+    }
+
+    private class LockCheckingBean implements LockCheckingMXBean {
+        @Override
+        public boolean isLockHeld() {
+            return Thread.holdsLock(lock);
+        }
+    }
+
+}
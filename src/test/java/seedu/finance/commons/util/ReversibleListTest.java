@@ -0,0 +1,127 @@
+package seedu.finance.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ReversibleListTest {
+
+    private ObservableList<String> source;
+    private ReversibleList<String> reversibleList;
+    private List<String> mirror;
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d");
+        reversibleList = new ReversibleList<>(source);
+
+        // replays every change fired by the view, so that the changes can be checked against the view itself
+        mirror = new ArrayList<>(reversibleList);
+        reversibleList.addListener((ListChangeListener<String>) this::applyChange);
+    }
+
+    @Test
+    public void get_notReversed_sourceOrder() {
+        assertFalse(reversibleList.isReversed());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), reversibleList);
+    }
+
+    @Test
+    public void reverse_reversedOrder() {
+        reversibleList.reverse();
+        assertTrue(reversibleList.isReversed());
+        assertEquals(Arrays.asList("d", "c", "b", "a"), reversibleList);
+        assertEquals(reversibleList, mirror);
+        assertEquals(3, reversibleList.getSourceIndex(0));
+        assertEquals(0, reversibleList.getViewIndex(3));
+
+        // reversing twice restores the source order
+        reversibleList.reverse();
+        assertEquals(source, reversibleList);
+        assertEquals(reversibleList, mirror);
+    }
+
+    @Test
+    public void setReversed_sameValue_noChangeFired() {
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        reversibleList.addListener((ListChangeListener<String>) changes::add);
+        reversibleList.setReversed(false);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void reverse_firesPermutation() {
+        List<Boolean> wasPermutated = new ArrayList<>();
+        reversibleList.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                wasPermutated.add(change.wasPermutated());
+            }
+        });
+        reversibleList.reverse();
+        assertEquals(Arrays.asList(true), wasPermutated);
+    }
+
+    @Test
+    public void sourceChanged_reversed_changesTranslated() {
+        reversibleList.reverse();
+
+        source.add("e");
+        assertEquals(Arrays.asList("e", "d", "c", "b", "a"), reversibleList);
+        assertEquals(reversibleList, mirror);
+
+        source.add(0, "z");
+        assertEquals(Arrays.asList("e", "d", "c", "b", "a", "z"), reversibleList);
+        assertEquals(reversibleList, mirror);
+
+        source.remove("b");
+        assertEquals(Arrays.asList("e", "d", "c", "a", "z"), reversibleList);
+        assertEquals(reversibleList, mirror);
+
+        source.set(1, "y");
+        assertEquals(Arrays.asList("e", "d", "c", "y", "z"), reversibleList);
+        assertEquals(reversibleList, mirror);
+
+        source.setAll("p", "q");
+        assertEquals(Arrays.asList("q", "p"), reversibleList);
+        assertEquals(reversibleList, mirror);
+    }
+
+    @Test
+    public void sourceChanged_notReversed_changesPassedThrough() {
+        source.add("e");
+        source.remove(0);
+        source.set(0, "y");
+        assertEquals(Arrays.asList("y", "c", "d", "e"), reversibleList);
+        assertEquals(reversibleList, mirror);
+    }
+
+    /**
+     * Applies {@code change} to {@code mirror}.
+     */
+    private void applyChange(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(mirror);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), mirror.get(i));
+                }
+                mirror = permuted;
+            } else if (!change.wasUpdated()) {
+                mirror.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                mirror.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+}
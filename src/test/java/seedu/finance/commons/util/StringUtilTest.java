@@ -2,6 +2,7 @@ package seedu.finance.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -155,5 +156,29 @@ public class StringUtilTest {
         StringUtil.getDetails(null);
     }
 
+    //---------------- Tests for toTwoDecimalPlaces --------------------------------------
+
+    /*
+     * Equivalence Partitions: whole numbers, values needing padding or rounding, values just below a half cent in
+     * binary, negative values, values too large to count in cents
+     */
+
+    @Test
+    public void toTwoDecimalPlaces() {
+        assertEquals("0.00", StringUtil.toTwoDecimalPlaces(0));
+        assertEquals("12.00", StringUtil.toTwoDecimalPlaces(12));
+        assertEquals("12.50", StringUtil.toTwoDecimalPlaces(12.5));
+        assertEquals("0.05", StringUtil.toTwoDecimalPlaces(0.05));
+        assertEquals("0.13", StringUtil.toTwoDecimalPlaces(0.125));
+        assertEquals("1000.00", StringUtil.toTwoDecimalPlaces(999.999));
+        assertEquals("1.01", StringUtil.toTwoDecimalPlaces(1.005));
+        assertEquals(String.format("%.2f", 1.005), StringUtil.toTwoDecimalPlaces(1.005));
+        assertEquals("2.68", StringUtil.toTwoDecimalPlaces(2.675));
+        assertEquals(String.format("%.2f", 2.675), StringUtil.toTwoDecimalPlaces(2.675));
+        assertEquals("-3.07", StringUtil.toTwoDecimalPlaces(-3.07));
+        assertEquals("0.00", StringUtil.toTwoDecimalPlaces(-0.001));
+        assertEquals(String.format("%.2f", 1e20), StringUtil.toTwoDecimalPlaces(1e20));
+        assertEquals(String.format("%.2f", Double.NaN), StringUtil.toTwoDecimalPlaces(Double.NaN));
+    }
 
 }
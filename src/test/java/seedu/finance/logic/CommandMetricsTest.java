@@ -0,0 +1,79 @@
+package seedu.finance.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import seedu.finance.logic.CommandMetrics.Measurement;
+import seedu.finance.logic.CommandMetrics.Phase;
+import seedu.finance.logic.commands.ListCommand;
+
+public class CommandMetricsTest {
+
+    private long nowNanos;
+    private long allocatedBytes;
+    private final CommandMetrics commandMetrics = new CommandMetrics(() -> nowNanos, () -> allocatedBytes);
+
+    @Test
+    public void measurement_commandExecuted_phasesAndAllocationRecorded() {
+        Measurement measurement = commandMetrics.startMeasurement();
+        advanceMillis(1);
+        measurement.endParse(new ListCommand());
+        advanceMillis(4);
+        allocatedBytes += 4096;
+        measurement.endPhase(Phase.EXECUTE);
+        measurement.finish();
+        commandMetrics.recordUiOfLastCommand(TimeUnit.MILLISECONDS.toNanos(2));
+
+        assertEquals(Collections.singletonMap("ListCommand", 1L), commandMetrics.getCommandCounts());
+        assertEquals(1.0, commandMetrics.getMeanMillis().get("ListCommand parse"), 0.001);
+        assertEquals(4.0, commandMetrics.getMaxMillis().get("ListCommand execute"), 0.001);
+        assertEquals(2.0, commandMetrics.getP95Millis().get("ListCommand ui"), 0.001);
+        assertEquals(Long.valueOf(4096), commandMetrics.getMeanAllocatedBytes().get("ListCommand"));
+        assertEquals("Commands executed since the app started (milliseconds, as mean / 95th percentile / max):\n"
+                + "ListCommand, 1 run: parse 1.00 / 1.00 / 1.00, execute 4.00 / 4.00 / 4.00, ui 2.00 / 2.00 / 2.00;"
+                + " 4 KB allocated per run", commandMetrics.getReport());
+    }
+
+    @Test
+    public void measurement_parseFailed_onlyParseRecordedAsUnparsed() {
+        Measurement measurement = commandMetrics.startMeasurement();
+        advanceMillis(3);
+        measurement.endPhase(Phase.EXECUTE);
+        measurement.finish();
+
+        assertEquals(Collections.singletonMap(CommandMetrics.UNPARSED_COMMAND + " parse", 3.0),
+                commandMetrics.getMeanMillis());
+        assertEquals(1, commandMetrics.getExecutedCommandCount());
+
+        commandMetrics.reset();
+        assertEquals(0, commandMetrics.getExecutedCommandCount());
+    }
+
+    @Test
+    public void getPrometheusText_commandExecuted_cumulativeBucketsWritten() {
+        allocatedBytes = -1;
+        Measurement measurement = commandMetrics.startMeasurement();
+        advanceMillis(3);
+        measurement.endParse(new ListCommand());
+        measurement.finish();
+
+        String text = commandMetrics.getPrometheusText();
+        String labels = "command=\"ListCommand\",phase=\"parse\"";
+        assertTrue(text.contains("financetracker_command_phase_seconds_bucket{" + labels + ",le=\"0.001\"} 0\n"));
+        assertTrue(text.contains("financetracker_command_phase_seconds_bucket{" + labels + ",le=\"0.005\"} 1\n"));
+        assertTrue(text.contains("financetracker_command_phase_seconds_bucket{" + labels + ",le=\"+Inf\"} 1\n"));
+        assertTrue(text.contains("financetracker_command_phase_seconds_count{" + labels + "} 1\n"));
+        // the allocation was not measured
+        assertTrue(text.contains("financetracker_command_allocated_bytes_count{command=\"ListCommand\"} 0\n"));
+    }
+
+    private void advanceMillis(long millis) {
+        nowNanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+}
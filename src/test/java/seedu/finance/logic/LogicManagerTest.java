@@ -1,6 +1,8 @@
 package seedu.finance.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static seedu.finance.commons.core.Messages.MESSAGE_INVALID_RECORD_DISPLAYED_INDEX;
 import static seedu.finance.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.finance.logic.commands.CommandTestUtil.AMOUNT_DESC_AMY;
@@ -13,6 +15,9 @@ import static seedu.finance.testutil.TypicalRecords.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -20,12 +25,14 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.finance.logic.commands.ClearCommand;
 import seedu.finance.logic.commands.CommandResult;
 import seedu.finance.logic.commands.HistoryCommand;
 import seedu.finance.logic.commands.ListCommand;
 import seedu.finance.logic.commands.SpendCommand;
 import seedu.finance.logic.commands.exceptions.CommandException;
 import seedu.finance.logic.parser.exceptions.ParseException;
+import seedu.finance.model.FinanceTrackerChange;
 import seedu.finance.model.Model;
 import seedu.finance.model.ModelManager;
 import seedu.finance.model.ReadOnlyFinanceTracker;
@@ -100,6 +107,44 @@ public class LogicManagerTest {
         assertHistoryCorrect(spendCommand);
     }
 
+    @Test
+    public void execute_commandModifiesFinanceTracker_singleChangeNotified() throws Exception {
+        List<FinanceTrackerChange> changes = new ArrayList<>();
+        model.getFinanceTracker().addChangeListener(changes::add);
+
+        // a failed command still ends its batch of changes
+        assertCommandException("delete 9", MESSAGE_INVALID_RECORD_DISPLAYED_INDEX);
+
+        String spendCommand = SpendCommand.COMMAND_WORD + NAME_DESC_AMY + AMOUNT_DESC_AMY + DATE_DESC_AMY
+                + CATEGORY_DESC_FRIEND + DESCRIPTION_DESC_AMY;
+        Record expectedRecord = new RecordBuilder(AMY).withCategory(VALID_CATEGORY_FRIEND).build();
+        logic.execute(spendCommand);
+        assertEquals(1, changes.size());
+        assertEquals(Collections.singletonList(expectedRecord), changes.get(0).getAddedRecords());
+    }
+
+    @Test
+    public void execute_commandModifiesFinanceTracker_copySavedOnlyIfRunInBackground() throws Exception {
+        String spendCommand = SpendCommand.COMMAND_WORD + NAME_DESC_AMY + AMOUNT_DESC_AMY + DATE_DESC_AMY
+                + CATEGORY_DESC_FRIEND + DESCRIPTION_DESC_AMY;
+
+        // commands run on the application thread -> finance tracker of the model saved
+        JsonFinanceTrackerSaveRecordingStub financeTrackerStorage =
+                new JsonFinanceTrackerSaveRecordingStub(temporaryFolder.newFile().toPath());
+        logic = new LogicManager(model, new StorageManager(financeTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath())));
+        logic.execute(spendCommand);
+        assertSame(model.getFinanceTracker(), financeTrackerStorage.savedFinanceTracker);
+
+        // commands run in the background -> copy of the finance tracker of the model saved
+        logic = new LogicManager(model, new StorageManager(financeTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath())), true);
+        logic.execute(ClearCommand.COMMAND_WORD);
+        assertNotSame(model.getFinanceTracker(), financeTrackerStorage.savedFinanceTracker);
+        assertEquals(model.getFinanceTracker().getRecordList(),
+                financeTrackerStorage.savedFinanceTracker.getRecordList());
+    }
+
     @Test
     public void getFilteredRecordList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -189,4 +234,20 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class to keep the finance tracker it was last asked to save instead of saving it.
+     */
+    private static class JsonFinanceTrackerSaveRecordingStub extends JsonFinanceTrackerStorage {
+        private ReadOnlyFinanceTracker savedFinanceTracker;
+
+        private JsonFinanceTrackerSaveRecordingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFinanceTracker(ReadOnlyFinanceTracker financeTracker, Path filePath) {
+            savedFinanceTracker = financeTracker;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.finance.logic.commands;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static seedu.finance.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.finance.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.finance.logic.commands.CommandTestUtil.showRecordAtIndex;
@@ -15,7 +17,7 @@ import seedu.finance.model.ModelManager;
 import seedu.finance.model.UserPrefs;
 
 /**
- * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand)
+ * Contains integration tests (interaction with the Model and UndoCommand)
  * and unit tests for {@code ReverseCommand}.
  */
 public class ReverseCommandTest {
@@ -32,7 +34,6 @@ public class ReverseCommandTest {
     public void execute_unfilteredList_success() {
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
         expectedModel.reverseFilteredRecordList();
-        expectedModel.commitFinanceTracker();
         assertCommandSuccess(new ReverseCommand(), model, commandHistory, ReverseCommand.MESSAGE_SUCCESS,
                 expectedModel);
     }
@@ -42,37 +43,30 @@ public class ReverseCommandTest {
         showRecordAtIndex(model, INDEX_FIRST_RECORD);
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
         expectedModel.reverseFilteredRecordList();
-        expectedModel.commitFinanceTracker();
 
         assertCommandSuccess(new ReverseCommand(), model, commandHistory, ReverseCommand.MESSAGE_SUCCESS,
                 expectedModel);
 
     }
 
-    /**
-     * 1. Reverses the list
-     * 2. Undo the reversion
-     * 3. Redo the reversion.
-     */
     @Test
-    public void executeUndoRedo_unfilteredList_success() {
+    public void execute_reverse_financeTrackerUnmodified() {
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
         expectedModel.reverseFilteredRecordList();
-        expectedModel.commitFinanceTracker();
-
-        ReverseCommand reverseCommand = new ReverseCommand();
-        // reverse -> list is reversed
-        assertCommandSuccess(reverseCommand, model, commandHistory, ReverseCommand.MESSAGE_SUCCESS, expectedModel);
-
-
-        // undo -> reverse finance tracker back to previous state
-        expectedModel.undoFinanceTracker();
-        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandSuccess(new ReverseCommand(), model, commandHistory, ReverseCommand.MESSAGE_SUCCESS,
+                expectedModel);
+        assertEquals(getTypicalFinanceTracker().getRecordList(), model.getFinanceTracker().getRecordList());
 
-        // redo -> list is reversed again
-        expectedModel.redoFinanceTracker();
-        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        // reversing is not committed, so there is nothing to undo
+        assertFalse(model.canUndoFinanceTracker());
+        assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
+    }
 
+    @Test
+    public void execute_reverseTwice_originalOrder() {
+        Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
+        model.reverseFilteredRecordList();
+        assertCommandSuccess(new ReverseCommand(), model, commandHistory, ReverseCommand.MESSAGE_SUCCESS,
+                expectedModel);
     }
 }
-
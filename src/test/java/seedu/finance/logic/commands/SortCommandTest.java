@@ -1,6 +1,8 @@
 package seedu.finance.logic.commands;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static seedu.finance.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.finance.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.finance.testutil.TypicalRecords.APPLE;
@@ -13,6 +15,7 @@ import static seedu.finance.testutil.TypicalRecords.GIFT;
 import static seedu.finance.testutil.TypicalRecords.getTypicalFinanceTracker;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.junit.Test;
 
@@ -21,11 +24,13 @@ import seedu.finance.logic.commands.exceptions.CommandException;
 import seedu.finance.logic.parser.comparator.RecordAmountComparator;
 import seedu.finance.logic.parser.comparator.RecordCategoryComparator;
 import seedu.finance.logic.parser.comparator.RecordDateComparator;
+import seedu.finance.logic.parser.comparator.RecordMultiKeyComparator;
 import seedu.finance.logic.parser.comparator.RecordNameComparator;
 import seedu.finance.model.FinanceTracker;
 import seedu.finance.model.Model;
 import seedu.finance.model.ModelManager;
 import seedu.finance.model.UserPrefs;
+import seedu.finance.model.record.Record;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code SortCommand}.
@@ -45,7 +50,6 @@ public class SortCommandTest {
     public void execute_sortByName_success() {
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
         expectedModel.sortFilteredRecordList(new RecordNameComparator());
-        expectedModel.commitFinanceTracker();
         assertCommandSuccess(new SortCommand(new RecordNameComparator()), model, commandHistory,
                 SortCommand.MESSAGE_SUCCESS, expectedModel);
         assertEquals(Arrays.asList(APPLE, BANANA, CAP, DONUT, EARRINGS, FRUITS, GIFT), model.getFilteredRecordList());
@@ -55,7 +59,6 @@ public class SortCommandTest {
     public void execute_sortByAmount_success() {
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
         expectedModel.sortFilteredRecordList(new RecordAmountComparator());
-        expectedModel.commitFinanceTracker();
         assertCommandSuccess(new SortCommand(new RecordAmountComparator()), model, commandHistory,
                 SortCommand.MESSAGE_SUCCESS, expectedModel);
         assertEquals(Arrays.asList(GIFT, FRUITS, CAP, EARRINGS, BANANA, APPLE, DONUT), model.getFilteredRecordList());
@@ -65,7 +68,6 @@ public class SortCommandTest {
     public void execute_sortByDate_success() {
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
         expectedModel.sortFilteredRecordList(new RecordDateComparator());
-        expectedModel.commitFinanceTracker();
         assertCommandSuccess(new SortCommand(new RecordDateComparator()), model, commandHistory,
                 SortCommand.MESSAGE_SUCCESS, expectedModel);
         assertEquals(Arrays.asList(GIFT, EARRINGS, CAP, APPLE, FRUITS, BANANA, DONUT), model.getFilteredRecordList());
@@ -76,7 +78,6 @@ public class SortCommandTest {
     public void execute_sortByCategory_success() {
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
         expectedModel.sortFilteredRecordList(new RecordCategoryComparator());
-        expectedModel.commitFinanceTracker();
         assertCommandSuccess(new SortCommand(new RecordCategoryComparator()), model, commandHistory,
                 SortCommand.MESSAGE_SUCCESS, expectedModel);
 
@@ -84,27 +85,51 @@ public class SortCommandTest {
     }
 
     @Test
-    public void executeUndoRedo_listSortedByAmount_success() throws CommandException {
-        assertEquals(Arrays.asList(APPLE, BANANA, CAP, DONUT, EARRINGS, FRUITS, GIFT), model.getFilteredRecordList());
-
+    public void execute_sortByCategoryThenAmount_success() {
+        Comparator<Record> comparator = new RecordMultiKeyComparator(Arrays.asList(
+                new RecordCategoryComparator(), new RecordAmountComparator()));
         Model expectedModel = new ModelManager(new FinanceTracker(model.getFinanceTracker()), new UserPrefs());
-        expectedModel.sortFilteredRecordList(new RecordAmountComparator());
-        expectedModel.commitFinanceTracker();
-
-        SortCommand sortCommand = new SortCommand(new RecordAmountComparator());
-        sortCommand.execute(model, commandHistory);
+        expectedModel.sortFilteredRecordList(comparator);
+        assertCommandSuccess(new SortCommand(comparator), model, commandHistory, SortCommand.MESSAGE_SUCCESS,
+                expectedModel);
+        // records in the same category (FRUITS, BANANA, DONUT) are ordered by amount
+        assertEquals(Arrays.asList(EARRINGS, CAP, FRUITS, BANANA, DONUT, GIFT, APPLE),
+                model.getFilteredRecordList());
+    }
 
-        assertEquals(Arrays.asList(GIFT, FRUITS, CAP, EARRINGS, BANANA, APPLE, DONUT), model.getFilteredRecordList());
+    @Test
+    public void equals_multiKeyComparators() {
+        RecordMultiKeyComparator categoryThenAmount = new RecordMultiKeyComparator(Arrays.asList(
+                new RecordCategoryComparator(), new RecordAmountComparator()));
+
+        // same keys in the same order -> equal, with equal hash codes
+        RecordMultiKeyComparator categoryThenAmountCopy = new RecordMultiKeyComparator(Arrays.asList(
+                new RecordCategoryComparator(), new RecordAmountComparator()));
+        assertEquals(categoryThenAmount, categoryThenAmountCopy);
+        assertEquals(categoryThenAmount.hashCode(), categoryThenAmountCopy.hashCode());
+
+        // same number of keys in another order -> not equal, with different hash codes
+        RecordMultiKeyComparator amountThenCategory = new RecordMultiKeyComparator(Arrays.asList(
+                new RecordAmountComparator(), new RecordCategoryComparator()));
+        assertNotEquals(categoryThenAmount, amountThenCategory);
+        assertNotEquals(categoryThenAmount.hashCode(), amountThenCategory.hashCode());
+
+        // same number of other keys -> not equal
+        assertNotEquals(categoryThenAmount, new RecordMultiKeyComparator(Arrays.asList(
+                new RecordNameComparator(), new RecordDateComparator())));
+    }
 
-        // undo -> reverse finance tracker back to previous state (before sort was executed)
-        expectedModel.undoFinanceTracker();
-        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
-        assertEquals(Arrays.asList(APPLE, BANANA, CAP, DONUT, EARRINGS, FRUITS, GIFT), model.getFilteredRecordList());
+    @Test
+    public void execute_sort_financeTrackerUnmodified() throws CommandException {
+        new SortCommand(new RecordAmountComparator()).execute(model, commandHistory);
 
-        // redo -> list is sorted by amount again
-        expectedModel.redoFinanceTracker();
-        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        // only the displayed order changes
         assertEquals(Arrays.asList(GIFT, FRUITS, CAP, EARRINGS, BANANA, APPLE, DONUT), model.getFilteredRecordList());
+        assertEquals(getTypicalFinanceTracker().getRecordList(), model.getFinanceTracker().getRecordList());
+
+        // sorting is not committed, so there is nothing to undo
+        assertFalse(model.canUndoFinanceTracker());
+        assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
     }
 
 }
@@ -17,6 +17,7 @@ import static seedu.finance.testutil.TypicalRecords.getTypicalFinanceTracker;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.function.Predicate;
@@ -27,6 +28,7 @@ import org.junit.rules.ExpectedException;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.finance.commons.core.GuiSettings;
 import seedu.finance.logic.CommandHistory;
 import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
@@ -170,6 +172,16 @@ public class SpendCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginChangeBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endChangeBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasRecord(Record record) {
             throw new AssertionError("This method should not be called.");
@@ -235,6 +247,16 @@ public class SpendCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void previewFilteredRecordList(Predicate<Record> predicate, Collection<Record> matches) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void endFilteredRecordListPreview() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoFinanceTracker() {
             throw new AssertionError("This method should not be called.");
@@ -286,7 +308,7 @@ public class SpendCommandTest {
         }
 
         @Override
-        public ObservableList<Record> getRecordSummary() {
+        public ObservableMap<String, Double> getRecordSummary() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -0,0 +1,35 @@
+package seedu.finance.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.finance.logic.CommandHistory;
+import seedu.finance.logic.CommandMetrics;
+import seedu.finance.model.Model;
+import seedu.finance.model.ModelManager;
+
+public class StatsCommandTest {
+    private final CommandHistory history = new CommandHistory();
+    private final Model model = new ModelManager();
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void execute_noCommandsMeasured_noStatsMessage() {
+        CommandResult result = new StatsCommand(commandMetrics).execute(model, history);
+        assertEquals(StatsCommand.MESSAGE_NO_STATS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_commandsMeasured_reportShown() {
+        CommandMetrics.Measurement measurement = commandMetrics.startMeasurement();
+        measurement.endParse(new HistoryCommand());
+        measurement.finish();
+
+        CommandResult result = new StatsCommand(commandMetrics).execute(model, history);
+        assertEquals(commandMetrics.getReport(), result.getFeedbackToUser());
+        assertTrue(result.getFeedbackToUser().contains("HistoryCommand, 1 run"));
+    }
+
+}
@@ -1,24 +1,33 @@
 package seedu.finance.logic.parser;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.finance.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_AND;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_CATEGORY;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_DATE;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_NAME;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_OR;
 import static seedu.finance.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.finance.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Test;
 
 import seedu.finance.logic.commands.SearchCommand;
+import seedu.finance.model.record.AndPredicate;
 import seedu.finance.model.record.CategoryContainsKeywordsPredicate;
 import seedu.finance.model.record.Date;
 import seedu.finance.model.record.DateContainsKeywordsPredicate;
 import seedu.finance.model.record.NameContainsKeywordsPredicate;
+import seedu.finance.model.record.OrPredicate;
 
 public class SearchCommandParserTest {
 
+    private static final String COMMAND_FLAG_CAT_FOOD = COMMAND_FLAG_CATEGORY + " Food";
+
     private SearchCommandParser parser = new SearchCommandParser();
 
     @Test
@@ -32,18 +41,68 @@ public class SearchCommandParserTest {
     }
 
     @Test
-    public void parse_moreThanOneFlag_throwsParseException() {
+    public void parse_invalidFlags_throwsParseException() {
         //both are invalid flags
         assertParseFailure(parser, "-invalidFlag -anotherFlag food apple",
-                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.ONE_FLAG_ONLY));
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.INVALID_FLAG));
 
         //valid flag and invalid flag
-        assertParseFailure(parser, "-cat -anotherFlag food apple",
-                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.ONE_FLAG_ONLY));
+        assertParseFailure(parser, "-cat food -anotherFlag apple",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.INVALID_FLAG));
+    }
+
+    @Test
+    public void parse_misplacedOperator_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MISPLACED_OPERATOR);
+
+        // operator before the first flag
+        assertParseFailure(parser, COMMAND_FLAG_OR + " " + COMMAND_FLAG_NAME + " Apple", expectedMessage);
+
+        // operator after the last flag
+        assertParseFailure(parser, COMMAND_FLAG_NAME + " Apple " + COMMAND_FLAG_AND, expectedMessage);
+
+        // two operators in a row
+        assertParseFailure(parser, COMMAND_FLAG_NAME + " Apple " + COMMAND_FLAG_AND + " " + COMMAND_FLAG_OR + " "
+                + COMMAND_FLAG_CAT_FOOD, expectedMessage);
+    }
+
+    @Test
+    public void parse_severalFlags_returnsSearchCommandWithAndPredicate() {
+        SearchCommand expectedSearchCommand = new SearchCommand(new AndPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Apple", "Banana")),
+                new CategoryContainsKeywordsPredicate(Collections.singletonList("Food")))));
+
+        // flags next to each other
+        assertParseSuccess(parser, COMMAND_FLAG_NAME + " Apple Banana " + COMMAND_FLAG_CAT_FOOD,
+                expectedSearchCommand);
+
+        // flags joined by -and
+        assertParseSuccess(parser, COMMAND_FLAG_NAME + " Apple Banana " + COMMAND_FLAG_AND + " "
+                + COMMAND_FLAG_CAT_FOOD, expectedSearchCommand);
+
+        // flag without keywords
+        assertParseSuccess(parser, COMMAND_FLAG_CATEGORY + " " + COMMAND_FLAG_NAME + " Apple",
+                new SearchCommand(new AndPredicate(Arrays.asList(
+                        new CategoryContainsKeywordsPredicate(Collections.emptyList()),
+                        new NameContainsKeywordsPredicate(Collections.singletonList("Apple"))))));
+    }
 
-        //both are valid flags
-        assertParseFailure(parser, "-cat -name food apple",
-                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.ONE_FLAG_ONLY));
+    @Test
+    public void parse_orBetweenFlags_returnsSearchCommandWithOrPredicate() {
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Apple"));
+        CategoryContainsKeywordsPredicate categoryPredicate =
+                new CategoryContainsKeywordsPredicate(Collections.singletonList("Food"));
+        DateContainsKeywordsPredicate datePredicate =
+                new DateContainsKeywordsPredicate(Collections.singletonList("10/3/2018"));
+
+        assertParseSuccess(parser, COMMAND_FLAG_NAME + " Apple " + COMMAND_FLAG_OR + " " + COMMAND_FLAG_CAT_FOOD,
+                new SearchCommand(new OrPredicate(Arrays.asList(namePredicate, categoryPredicate))));
+
+        // -and binds more tightly than -or
+        assertParseSuccess(parser, COMMAND_FLAG_NAME + " Apple " + COMMAND_FLAG_DATE + " 10/3/2018 "
+                + COMMAND_FLAG_OR + " " + COMMAND_FLAG_CAT_FOOD,
+                new SearchCommand(new OrPredicate(Arrays.asList(
+                        new AndPredicate(Arrays.asList(namePredicate, datePredicate)), categoryPredicate))));
     }
 
     @Test
@@ -92,5 +151,26 @@ public class SearchCommandParserTest {
 
     }
 
+    @Test
+    public void parsePartialPredicate_trailingFlagsAndOperators_ignored() {
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Apple"));
+        assertEquals(Optional.of(namePredicate), parser.parsePartialPredicate(COMMAND_FLAG_NAME + " Apple "));
+        assertEquals(Optional.of(namePredicate), parser.parsePartialPredicate(COMMAND_FLAG_NAME + " Apple "
+                + COMMAND_FLAG_OR + " " + COMMAND_FLAG_CATEGORY));
+
+        assertEquals(Optional.of(new OrPredicate(Arrays.asList(namePredicate,
+                new CategoryContainsKeywordsPredicate(Collections.singletonList("Food"))))),
+                parser.parsePartialPredicate(COMMAND_FLAG_NAME + " Apple " + COMMAND_FLAG_OR + " "
+                        + COMMAND_FLAG_CAT_FOOD));
+    }
+
+    @Test
+    public void parsePartialPredicate_nothingToSearchOrInvalid_returnsEmpty() {
+        assertEquals(Optional.empty(), parser.parsePartialPredicate("  "));
+        assertEquals(Optional.empty(), parser.parsePartialPredicate(COMMAND_FLAG_NAME.toString()));
+        assertEquals(Optional.empty(), parser.parsePartialPredicate("hello"));
+        assertEquals(Optional.empty(), parser.parsePartialPredicate(COMMAND_FLAG_DATE + " 10/"));
+    }
+
 
 }
@@ -10,12 +10,15 @@ import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_NAME;
 import static seedu.finance.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.finance.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.finance.logic.commands.SortCommand;
 import seedu.finance.logic.parser.comparator.RecordAmountComparator;
 import seedu.finance.logic.parser.comparator.RecordCategoryComparator;
 import seedu.finance.logic.parser.comparator.RecordDateComparator;
+import seedu.finance.logic.parser.comparator.RecordMultiKeyComparator;
 import seedu.finance.logic.parser.comparator.RecordNameComparator;
 
 public class SortCommandParserTest {
@@ -38,20 +41,20 @@ public class SortCommandParserTest {
         assertParseSuccess(parser, COMMAND_FLAG_NAME.getFlag() + " " + COMMAND_FLAG_ASCENDING,
                 new SortCommand(new RecordNameComparator()));
         assertParseSuccess(parser, COMMAND_FLAG_AMOUNT.getFlag() + " " + COMMAND_FLAG_ASCENDING,
-                new SortCommand(new RecordAmountComparator()));
+                new SortCommand(new RecordAmountComparator().reversed()));
         assertParseSuccess(parser, COMMAND_FLAG_DATE.getFlag() + " " + COMMAND_FLAG_ASCENDING,
-                new SortCommand(new RecordDateComparator()));
+                new SortCommand(new RecordDateComparator().reversed()));
         assertParseSuccess(parser, COMMAND_FLAG_CATEGORY.getFlag() + " " + COMMAND_FLAG_ASCENDING,
                 new SortCommand(new RecordCategoryComparator()));
 
         assertParseSuccess(parser, COMMAND_FLAG_NAME.getFlag() + " " + COMMAND_FLAG_DESCENDING,
-                new SortCommand(new RecordNameComparator()));
+                new SortCommand(new RecordNameComparator().reversed()));
         assertParseSuccess(parser, COMMAND_FLAG_AMOUNT.getFlag() + " " + COMMAND_FLAG_DESCENDING,
                 new SortCommand(new RecordAmountComparator()));
         assertParseSuccess(parser, COMMAND_FLAG_DATE.getFlag() + " " + COMMAND_FLAG_DESCENDING,
                 new SortCommand(new RecordDateComparator()));
         assertParseSuccess(parser, COMMAND_FLAG_CATEGORY.getFlag() + " " + COMMAND_FLAG_DESCENDING,
-                new SortCommand(new RecordCategoryComparator()));
+                new SortCommand(new RecordCategoryComparator().reversed()));
 
     }
 
@@ -63,7 +66,28 @@ public class SortCommandParserTest {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
         assertParseFailure(parser, " -description " + COMMAND_FLAG_ASCENDING,
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // same flag supplied twice
         assertParseFailure(parser, COMMAND_FLAG_NAME + " " + COMMAND_FLAG_ASCENDING + " "
-                + COMMAND_FLAG_AMOUNT, String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+                + COMMAND_FLAG_NAME, String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // order not preceded by a flag
+        assertParseFailure(parser, COMMAND_FLAG_ASCENDING + " " + COMMAND_FLAG_NAME,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+
+        // two orders for one flag
+        assertParseFailure(parser, COMMAND_FLAG_NAME + " " + COMMAND_FLAG_ASCENDING + " " + COMMAND_FLAG_DESCENDING,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_multipleFlags_returnsSortCommandWithMultiKeyComparator() {
+        SortCommand expectedSortCommand = new SortCommand(new RecordMultiKeyComparator(Arrays.asList(
+                new RecordCategoryComparator(), new RecordDateComparator().reversed())));
+        assertParseSuccess(parser, COMMAND_FLAG_CATEGORY + " " + COMMAND_FLAG_DATE + " " + COMMAND_FLAG_ASCENDING,
+                expectedSortCommand);
+        assertParseSuccess(parser, COMMAND_FLAG_NAME + " " + COMMAND_FLAG_ASCENDING + " " + COMMAND_FLAG_AMOUNT,
+                new SortCommand(new RecordMultiKeyComparator(Arrays.asList(
+                        new RecordNameComparator(), new RecordAmountComparator()))));
     }
 }
@@ -0,0 +1,117 @@
+package seedu.finance.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.MapChangeListener;
+import seedu.finance.model.record.Record;
+import seedu.finance.testutil.Assert;
+import seedu.finance.testutil.RecordBuilder;
+
+public class CategorySummaryTest {
+
+    private static final Record FOOD_LUNCH = new RecordBuilder().withName("Lunch").withCategory("Food")
+            .withAmount("0.10").build();
+    private static final Record FOOD_DINNER = new RecordBuilder().withName("Dinner").withCategory("Food")
+            .withAmount("0.20").build();
+    private static final Record TRANSPORT_BUS = new RecordBuilder().withName("Bus").withCategory("Transport")
+            .withAmount("1.50").build();
+
+    private final FinanceTracker financeTracker = new FinanceTracker();
+    private final List<String> changedCategories = new ArrayList<>();
+    private CategorySummary summary;
+
+    @Before
+    public void setUp() {
+        financeTracker.addRecord(FOOD_LUNCH);
+        summary = new CategorySummary(financeTracker.getRecordList(), record -> true);
+        financeTracker.addChangeListener(summary);
+        summary.getTotals().addListener((MapChangeListener<String, Double>) change ->
+                changedCategories.add(change.getKey()));
+    }
+
+    @Test
+    public void constructor_nullRecords_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new CategorySummary(null, record -> true));
+    }
+
+    @Test
+    public void getTotals_modifyTotals_throwsUnsupportedOperationException() {
+        Assert.assertThrows(UnsupportedOperationException.class, () -> summary.getTotals().put("Food", 1.0));
+    }
+
+    @Test
+    public void onChanged_recordsAddedAndRemoved_onlyTheirCategoriesUpdated() {
+        financeTracker.addRecord(TRANSPORT_BUS);
+        financeTracker.addRecord(FOOD_DINNER);
+        assertEquals(totals("Food", 0.30, "Transport", 1.50), summary.getTotals());
+        assertEquals(Arrays.asList("Transport", "Food"), changedCategories);
+
+        financeTracker.removeRecord(FOOD_DINNER);
+        assertEquals(totals("Food", 0.10, "Transport", 1.50), summary.getTotals());
+    }
+
+    @Test
+    public void onChanged_lastRecordOfCategoryRemoved_categoryRemoved() {
+        financeTracker.removeRecord(FOOD_LUNCH);
+        assertTrue(summary.getTotals().isEmpty());
+    }
+
+    @Test
+    public void onChanged_recordEditedToAnotherCategory_totalsMoved() {
+        Record editedLunch = new RecordBuilder(FOOD_LUNCH).withCategory("Transport").build();
+        financeTracker.setRecord(FOOD_LUNCH, editedLunch);
+        assertEquals(totals("Transport", 0.10), summary.getTotals());
+    }
+
+    @Test
+    public void onChanged_batch_deltasAppliedOnceAtEnd() {
+        financeTracker.beginChangeBatch();
+        financeTracker.addRecord(FOOD_DINNER);
+        financeTracker.removeRecord(FOOD_DINNER);
+        financeTracker.endChangeBatch();
+        assertTrue(changedCategories.isEmpty());
+    }
+
+    @Test
+    public void onChanged_reset_totalsRecomputed() {
+        FinanceTracker newData = new FinanceTracker();
+        newData.addRecord(FOOD_LUNCH);
+        newData.addRecord(TRANSPORT_BUS);
+        financeTracker.resetData(newData);
+        assertEquals(totals("Food", 0.10, "Transport", 1.50), summary.getTotals());
+
+        // the unchanged food total is not published again
+        assertEquals(Arrays.asList("Transport"), changedCategories);
+    }
+
+    @Test
+    public void setPredicate_nonMatchingRecordsExcluded() {
+        financeTracker.addRecord(TRANSPORT_BUS);
+        summary.setPredicate(record -> record.getCategory().categoryName.equals("Transport"));
+        assertEquals(totals("Transport", 1.50), summary.getTotals());
+
+        // changes to records that do not match are ignored
+        financeTracker.addRecord(FOOD_DINNER);
+        assertFalse(summary.getTotals().containsKey("Food"));
+    }
+
+    private static Map<String, Double> totals(Object... categoriesAndTotals) {
+        Map<String, Double> totals = new HashMap<>();
+        for (int i = 0; i < categoriesAndTotals.length; i += 2) {
+            totals.put((String) categoriesAndTotals[i], (Double) categoriesAndTotals[i + 1]);
+        }
+        return totals;
+    }
+
+}
@@ -6,8 +6,11 @@ import static org.junit.Assert.assertTrue;
 import static seedu.finance.logic.commands.CommandTestUtil.VALID_AMOUNT_BOB;
 import static seedu.finance.logic.commands.CommandTestUtil.VALID_CATEGORY_HUSBAND;
 import static seedu.finance.testutil.TypicalRecords.APPLE;
+import static seedu.finance.testutil.TypicalRecords.BANANA;
+import static seedu.finance.testutil.TypicalRecords.CAP;
 import static seedu.finance.testutil.TypicalRecords.getTypicalFinanceTracker;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -22,6 +25,8 @@ import javafx.beans.InvalidationListener;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.finance.model.FinanceTrackerChange.RecordReplacement;
+import seedu.finance.model.budget.Budget;
 import seedu.finance.model.budget.CategoryBudget;
 import seedu.finance.model.budget.TotalBudget;
 import seedu.finance.model.record.Record;
@@ -115,6 +120,114 @@ public class FinanceTrackerTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void addChangeListener_recordModified_changeWithRecordDelta() {
+        List<FinanceTrackerChange> changes = new ArrayList<>();
+        financeTracker.addChangeListener(changes::add);
+        Record editedApple = new RecordBuilder(APPLE).withAmount(VALID_AMOUNT_BOB).build();
+
+        financeTracker.addRecord(APPLE);
+        financeTracker.setRecord(APPLE, editedApple);
+        financeTracker.removeRecord(editedApple);
+        assertEquals(3, changes.size());
+        assertEquals(Collections.singletonList(APPLE), changes.get(0).getAddedRecords());
+        assertEquals(Collections.singletonList(new RecordReplacement(APPLE, editedApple)),
+                changes.get(1).getReplacedRecords());
+        assertEquals(Collections.singletonList(editedApple), changes.get(2).getRemovedRecords());
+
+        // every modification is stamped with a new version
+        assertEquals(3, financeTracker.getVersion());
+        assertEquals(3, changes.get(2).getVersion());
+    }
+
+    @Test
+    public void addChangeListener_budgetSet_budgetChanged() throws Exception {
+        List<FinanceTrackerChange> changes = new ArrayList<>();
+        financeTracker.addChangeListener(changes::add);
+        financeTracker.addBudget(new Budget(100.0));
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).isBudgetChanged());
+        assertEquals(Collections.emptyList(), changes.get(0).getAddedRecords());
+    }
+
+    @Test
+    public void endChangeBatch_nestedBatches_oneNetChange() {
+        financeTracker.addRecord(APPLE);
+        List<FinanceTrackerChange> changes = new ArrayList<>();
+        financeTracker.addChangeListener(changes::add);
+        Record editedApple = new RecordBuilder(APPLE).withAmount(VALID_AMOUNT_BOB).build();
+        Record editedBanana = new RecordBuilder(BANANA).withAmount(VALID_AMOUNT_BOB).build();
+
+        financeTracker.beginChangeBatch();
+        financeTracker.addRecord(BANANA);
+        financeTracker.beginChangeBatch();
+        financeTracker.setRecord(BANANA, editedBanana);
+        financeTracker.setRecord(APPLE, editedApple);
+        financeTracker.endChangeBatch();
+        financeTracker.addRecord(CAP);
+        financeTracker.removeRecord(CAP);
+        assertTrue(changes.isEmpty());
+        financeTracker.endChangeBatch();
+
+        assertEquals(1, changes.size());
+        FinanceTrackerChange change = changes.get(0);
+        assertEquals(Collections.singletonList(editedBanana), change.getAddedRecords());
+        assertEquals(Collections.emptyList(), change.getRemovedRecords());
+        assertEquals(Collections.singletonList(new RecordReplacement(APPLE, editedApple)),
+                change.getReplacedRecords());
+        assertEquals(financeTracker.getVersion(), change.getVersion());
+    }
+
+    @Test
+    public void endChangeBatch_nestedBatches_invalidationListenerCalledOnce() {
+        SimpleIntegerProperty counter = new SimpleIntegerProperty();
+        financeTracker.addListener(observable -> counter.set(counter.get() + 1));
+
+        financeTracker.beginChangeBatch();
+        financeTracker.addRecord(APPLE);
+        financeTracker.beginChangeBatch();
+        financeTracker.addRecord(BANANA);
+        financeTracker.endChangeBatch();
+        financeTracker.addRecord(CAP);
+        assertEquals(0, counter.get());
+        financeTracker.endChangeBatch();
+        assertEquals(1, counter.get());
+
+        // a batch without modifications does not notify
+        financeTracker.beginChangeBatch();
+        financeTracker.endChangeBatch();
+        assertEquals(1, counter.get());
+    }
+
+    @Test
+    public void endChangeBatch_noBatch_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        financeTracker.endChangeBatch();
+    }
+
+    @Test
+    public void resetData_changeListenerAdded_singleResetChange() {
+        List<FinanceTrackerChange> changes = new ArrayList<>();
+        financeTracker.addChangeListener(changes::add);
+        financeTracker.addRecord(APPLE);
+        financeTracker.resetData(getTypicalFinanceTracker());
+
+        assertEquals(2, changes.size());
+        assertTrue(changes.get(1).isReset());
+        assertTrue(changes.get(1).isBudgetChanged());
+        assertEquals(Collections.emptyList(), changes.get(1).getAddedRecords());
+    }
+
+    @Test
+    public void removeChangeListener_listenerRemoved_notNotified() {
+        List<FinanceTrackerChange> changes = new ArrayList<>();
+        FinanceTrackerChangeListener listener = changes::add;
+        financeTracker.addChangeListener(listener);
+        financeTracker.removeChangeListener(listener);
+        financeTracker.addRecord(APPLE);
+        assertTrue(changes.isEmpty());
+    }
+
     /**
      * A stub ReadOnlyFinanceTracker whose records list can violate interface constraints.
      */
@@ -157,6 +270,21 @@ public class FinanceTrackerTest {
         public boolean isSetFile() {
             return false;
         }
+
+        @Override
+        public long getVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addChangeListener(FinanceTrackerChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeChangeListener(FinanceTrackerChangeListener listener) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 }
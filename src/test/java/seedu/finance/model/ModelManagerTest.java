@@ -8,17 +8,28 @@ import static seedu.finance.model.Model.PREDICATE_SHOW_ALL_RECORD;
 import static seedu.finance.testutil.TypicalRecords.APPLE;
 import static seedu.finance.testutil.TypicalRecords.BANANA;
 import static seedu.finance.testutil.TypicalRecords.BOB;
+import static seedu.finance.testutil.TypicalRecords.CAP;
+import static seedu.finance.testutil.TypicalRecords.DONUT;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
 import seedu.finance.commons.core.GuiSettings;
+import seedu.finance.logic.parser.comparator.RecordAmountComparator;
+import seedu.finance.logic.parser.comparator.RecordNameComparator;
+import seedu.finance.model.record.AndPredicate;
 import seedu.finance.model.record.NameContainsKeywordsPredicate;
 import seedu.finance.model.record.Record;
 import seedu.finance.model.record.exceptions.RecordNotFoundException;
@@ -129,6 +140,48 @@ public class ModelManagerTest {
         assertEquals(updatedApple, modelManager.getSelectedRecord());
     }
 
+    @Test
+    public void addRecord_listSorted_recordInsertedInSortedPosition() {
+        modelManager.addRecord(CAP);
+        modelManager.addRecord(APPLE);
+        modelManager.sortFilteredRecordList(new RecordNameComparator());
+
+        List<String> changes = recordChanges(modelManager.getFilteredRecordList());
+        modelManager.addRecord(BANANA);
+        assertEquals(Arrays.asList(APPLE, BANANA, CAP), modelManager.getFilteredRecordList());
+        assertEquals(Collections.singletonList("added 1 at 1"), changes);
+
+        // records added after a reverse are placed in the reversed order
+        modelManager.reverseFilteredRecordList();
+        modelManager.addRecord(DONUT);
+        assertEquals(Arrays.asList(DONUT, CAP, BANANA, APPLE), modelManager.getFilteredRecordList());
+    }
+
+    @Test
+    public void setRecord_listSorted_recordMovedToSortedPosition() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.addRecord(CAP);
+        modelManager.sortFilteredRecordList(new RecordAmountComparator());
+        assertEquals(Arrays.asList(CAP, BANANA, APPLE), modelManager.getFilteredRecordList());
+        modelManager.setSelectedRecord(APPLE);
+
+        List<String> changes = recordChanges(modelManager.getFilteredRecordList());
+        Record updatedApple = new RecordBuilder(APPLE).withAmount("20.00").build();
+        modelManager.setRecord(APPLE, updatedApple);
+        assertEquals(Arrays.asList(updatedApple, CAP, BANANA), modelManager.getFilteredRecordList());
+        assertEquals(Arrays.asList("removed 1 at 2", "added 1 at 0"), changes);
+
+        // the selection follows the edited record to its new position
+        assertEquals(updatedApple, modelManager.getSelectedRecord());
+
+        // another record moved past the selected record -> selection unchanged
+        Record updatedCap = new RecordBuilder(CAP).withAmount("30.00").build();
+        modelManager.setRecord(CAP, updatedCap);
+        assertEquals(Arrays.asList(updatedCap, updatedApple, BANANA), modelManager.getFilteredRecordList());
+        assertEquals(updatedApple, modelManager.getSelectedRecord());
+    }
+
     @Test
     public void getFilteredRecordList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -149,6 +202,178 @@ public class ModelManagerTest {
         assertEquals(APPLE, modelManager.getSelectedRecord());
     }
 
+    @Test
+    public void updateFilteredRecordList_repeatedSearch_cachedResultReused() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.addRecord(DONUT);
+
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+        modelManager.updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORD);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+        assertEquals(Arrays.asList(BANANA, DONUT), modelManager.getFilteredRecordList());
+        assertEquals(1, modelManager.getSearchCacheMissCount());
+        assertEquals(1, modelManager.getSearchCacheHitCount());
+    }
+
+    @Test
+    public void updateFilteredRecordList_shownSearchRepeated_recordsNotFilteredAgain() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+
+        List<ListChangeListener.Change<? extends Record>> changes = new ArrayList<>();
+        modelManager.getFilteredRecordList().addListener((ListChangeListener<Record>) changes::add);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+        assertEquals(Collections.emptyList(), changes);
+        assertEquals(Arrays.asList(BANANA), modelManager.getFilteredRecordList());
+        assertEquals(1, modelManager.getSearchCacheHitCount());
+    }
+
+    @Test
+    public void clearSearchCache_searchResultInUse_filterStillFollowsRecords() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.addRecord(DONUT);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+        assertEquals(1, modelManager.getSearchCacheSize());
+
+        modelManager.clearSearchCache();
+        assertEquals(0, modelManager.getSearchCacheSize());
+        modelManager.deleteRecord(BANANA);
+        assertEquals(Arrays.asList(DONUT), modelManager.getFilteredRecordList());
+        assertEquals(2, modelManager.getRecordCount());
+        assertEquals(1, modelManager.getFilteredRecordCount());
+
+        // the cleared result is computed again
+        modelManager.updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORD);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+        assertEquals(0.0, modelManager.getSearchCacheHitRatio(), 0.001);
+    }
+
+    @Test
+    public void updateFilteredRecordList_recordsChangedAfterSearch_cachedResultPatched() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+
+        // an edited record is filtered by the cached result after it is patched
+        Record editedApple = new RecordBuilder(APPLE).withName("Apple Donut").build();
+        modelManager.setRecord(APPLE, editedApple);
+        assertEquals(Arrays.asList(editedApple, BANANA), modelManager.getFilteredRecordList());
+
+        modelManager.deleteRecord(BANANA);
+        modelManager.updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORD);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Donut")));
+        assertEquals(Collections.singletonList(editedApple), modelManager.getFilteredRecordList());
+        assertEquals(1, modelManager.getSearchCacheHitCount());
+    }
+
+    @Test
+    public void updateFilteredRecordList_financeTrackerReset_cachedResultUpToDate() {
+        modelManager.addRecord(APPLE);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Apple")));
+        modelManager.setFinanceTracker(new FinanceTrackerBuilder().withRecord(BANANA).build());
+        assertEquals(Collections.emptyList(), modelManager.getFilteredRecordList());
+
+        modelManager.setFinanceTracker(new FinanceTrackerBuilder().withRecord(APPLE).withRecord(BANANA).build());
+        modelManager.updateFilteredRecordList(PREDICATE_SHOW_ALL_RECORD);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Apple")));
+        assertEquals(Collections.singletonList(APPLE), modelManager.getFilteredRecordList());
+    }
+
+    @Test
+    public void updateFilteredRecordList_narrowerPredicate_onlyShownRecordsTested() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.addRecord(CAP);
+        modelManager.addRecord(DONUT);
+        NameContainsKeywordsPredicate donutPredicate = new NameContainsKeywordsPredicate(Arrays.asList("Donut"));
+        modelManager.updateFilteredRecordList(donutPredicate);
+
+        List<Record> testedRecords = new ArrayList<>();
+        Predicate<Record> recordingPredicate = record -> testedRecords.add(record) && record != BANANA;
+        modelManager.updateFilteredRecordList(new AndPredicate(Arrays.asList(donutPredicate, recordingPredicate)));
+        assertEquals(Collections.singletonList(DONUT), modelManager.getFilteredRecordList());
+        assertEquals(Arrays.asList(BANANA, DONUT), testedRecords);
+
+        // a wider predicate is tested against every record
+        testedRecords.clear();
+        modelManager.updateFilteredRecordList(recordingPredicate);
+        assertEquals(Arrays.asList(APPLE, CAP, DONUT), modelManager.getFilteredRecordList());
+        assertEquals(Arrays.asList(APPLE, BANANA, CAP, DONUT), testedRecords);
+    }
+
+    @Test
+    public void previewFilteredRecordList_matchesShownUntilPreviewEnds() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.addRecord(DONUT);
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Apple", "Banana")));
+
+        // the matches are shown without testing the predicate again
+        List<Record> testedRecords = new ArrayList<>();
+        Predicate<Record> donutPredicate = record -> testedRecords.add(record) && record != APPLE;
+        modelManager.previewFilteredRecordList(donutPredicate, Arrays.asList(BANANA, DONUT));
+        assertEquals(Arrays.asList(BANANA, DONUT), modelManager.getFilteredRecordList());
+        assertEquals(Collections.emptyList(), testedRecords);
+
+        // a preview replaces the previous preview, but ends with the filter from before the first one
+        modelManager.previewFilteredRecordList(PREDICATE_SHOW_ALL_RECORD, Arrays.asList(APPLE, BANANA, DONUT));
+        assertEquals(Arrays.asList(APPLE, BANANA, DONUT), modelManager.getFilteredRecordList());
+        modelManager.endFilteredRecordListPreview();
+        assertEquals(Arrays.asList(APPLE, BANANA), modelManager.getFilteredRecordList());
+
+        // ending without a preview changes nothing
+        modelManager.endFilteredRecordListPreview();
+        assertEquals(Arrays.asList(APPLE, BANANA), modelManager.getFilteredRecordList());
+    }
+
+    @Test
+    public void previewFilteredRecordList_filterUpdated_previewEnded() {
+        modelManager.addRecord(APPLE);
+        modelManager.addRecord(BANANA);
+        modelManager.previewFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Apple")),
+                Collections.singletonList(APPLE));
+        modelManager.updateFilteredRecordList(new NameContainsKeywordsPredicate(Arrays.asList("Banana")));
+
+        modelManager.endFilteredRecordListPreview();
+        assertEquals(Collections.singletonList(BANANA), modelManager.getFilteredRecordList());
+    }
+
+    /**
+     * Returns a list that is filled with a description of every sub-change subsequently fired by {@code list}.
+     */
+    private static List<String> recordChanges(ObservableList<Record> list) {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Record>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    changes.add("permutated " + change.getFrom() + " to " + change.getTo());
+                } else if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getRemovedSize() + " at " + change.getFrom());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getRemovedSize() + " at " + change.getFrom());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getAddedSize() + " at " + change.getFrom());
+                }
+            }
+        });
+        return changes;
+    }
+
+    @Test
+    public void getRecordSummary_recordsModified_totalsFollowModel() {
+        modelManager.updateRecordSummaryPredicate(PREDICATE_SHOW_ALL_RECORD);
+        Record food = new RecordBuilder().withCategory("Food").withAmount("5.25").build();
+        modelManager.addRecord(food);
+        modelManager.addRecord(new RecordBuilder().withName("Snack").withCategory("Food").withAmount("1.50").build());
+        assertEquals(Double.valueOf(6.75), modelManager.getRecordSummary().get("Food"));
+
+        modelManager.deleteRecord(food);
+        assertEquals(Double.valueOf(1.50), modelManager.getRecordSummary().get("Food"));
+    }
+
     @Test
     public void equals() {
         FinanceTracker financeTracker = new FinanceTrackerBuilder().withRecord(APPLE).withRecord(BANANA).build();
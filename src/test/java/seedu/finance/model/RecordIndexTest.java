@@ -0,0 +1,76 @@
+package seedu.finance.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.finance.testutil.TypicalRecords.APPLE;
+import static seedu.finance.testutil.TypicalRecords.BANANA;
+import static seedu.finance.testutil.TypicalRecords.CAP;
+import static seedu.finance.testutil.TypicalRecords.DONUT;
+import static seedu.finance.testutil.TypicalRecords.FRUITS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.finance.model.record.AndPredicate;
+import seedu.finance.model.record.CategoryContainsKeywordsPredicate;
+import seedu.finance.model.record.DateContainsKeywordsPredicate;
+import seedu.finance.model.record.NameContainsKeywordsPredicate;
+import seedu.finance.model.record.OrPredicate;
+import seedu.finance.model.record.Record;
+import seedu.finance.testutil.Assert;
+
+public class RecordIndexTest {
+
+    private final List<Record> testedRecords = new ArrayList<>();
+    private final RecordIndex index = new RecordIndex(Arrays.asList(APPLE, BANANA, CAP, DONUT, FRUITS));
+
+    @Test
+    public void search_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> index.search(null, () -> false));
+        Assert.assertThrows(NullPointerException.class, () -> index.search(record -> true, null));
+    }
+
+    @Test
+    public void search_nameKeywords_onlyRecordsWithWordTested() {
+        Predicate<Record> donutPredicate = recording(new NameContainsKeywordsPredicate(Arrays.asList("dONUT")));
+        assertEquals(Optional.of(Arrays.asList(BANANA, DONUT)), index.search(donutPredicate, () -> false));
+        assertEquals(Arrays.asList(BANANA, DONUT), testedRecords);
+    }
+
+    @Test
+    public void search_categoryAndDate_onlyRecordsWithBothTested() {
+        Predicate<Record> predicate = recording(new AndPredicate(Arrays.asList(
+                new CategoryContainsKeywordsPredicate(Collections.singletonList("Food")),
+                new DateContainsKeywordsPredicate(Collections.singletonList("12/02/2007")))));
+        assertEquals(Optional.of(Collections.singletonList(DONUT)), index.search(predicate, () -> false));
+        assertEquals(Collections.singletonList(DONUT), testedRecords);
+    }
+
+    @Test
+    public void search_orWithUnindexedPredicate_everyRecordTested() {
+        Predicate<Record> predicate = recording(new OrPredicate(Arrays.asList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Cap")), record -> record == APPLE)));
+        assertEquals(Optional.of(Arrays.asList(APPLE, CAP)), index.search(predicate, () -> false));
+        assertEquals(Arrays.asList(APPLE, BANANA, CAP, DONUT, FRUITS), testedRecords);
+    }
+
+    @Test
+    public void search_cancelled_returnsEmpty() {
+        List<Record> manyRecords = Collections.nCopies(5000, APPLE);
+        assertEquals(Optional.empty(), new RecordIndex(manyRecords).search(record -> true, () -> true));
+    }
+
+    /**
+     * Returns a predicate that accepts what {@code predicate} accepts, and remembers the records it is tested against.
+     * The index can still look up {@code predicate} in it.
+     */
+    private Predicate<Record> recording(Predicate<Record> predicate) {
+        return new AndPredicate(Arrays.asList(testedRecords::add, predicate));
+    }
+
+}
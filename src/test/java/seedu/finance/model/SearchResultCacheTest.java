@@ -0,0 +1,132 @@
+package seedu.finance.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.finance.testutil.TypicalRecords.APPLE;
+import static seedu.finance.testutil.TypicalRecords.BANANA;
+import static seedu.finance.testutil.TypicalRecords.CAP;
+import static seedu.finance.testutil.TypicalRecords.DONUT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.finance.model.record.NameContainsKeywordsPredicate;
+import seedu.finance.model.record.Record;
+import seedu.finance.testutil.RecordBuilder;
+
+public class SearchResultCacheTest {
+
+    private static final Predicate<Record> DONUT_PREDICATE =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Donut"));
+
+    private ObservableList<Record> records;
+    private SearchResultCache cache;
+
+    @Before
+    public void setUp() {
+        records = FXCollections.observableArrayList(APPLE, BANANA, CAP);
+        cache = new SearchResultCache(2);
+        records.addListener(cache);
+    }
+
+    @Test
+    public void lookup_equalPredicate_hit() {
+        Predicate<Record> result = lookupAndFilter(DONUT_PREDICATE);
+        assertSame(result, lookupAndFilter(new NameContainsKeywordsPredicate(Arrays.asList("Donut"))));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertFalse(result.test(APPLE));
+        assertTrue(result.test(BANANA));
+    }
+
+    @Test
+    public void lookup_overCapacity_leastRecentlyUsedEvicted() {
+        Predicate<Record> apple = new NameContainsKeywordsPredicate(Collections.singletonList("Apple"));
+        Predicate<Record> cap = new NameContainsKeywordsPredicate(Collections.singletonList("Cap"));
+        lookupAndFilter(DONUT_PREDICATE);
+        lookupAndFilter(apple);
+        lookupAndFilter(DONUT_PREDICATE);
+        lookupAndFilter(cap);
+        assertEquals(2, cache.size());
+
+        lookupAndFilter(DONUT_PREDICATE);
+        assertEquals(2, cache.getHitCount());
+        lookupAndFilter(apple);
+        assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void onChanged_smallChange_resultPatched() {
+        Predicate<Record> result = lookupAndFilter(DONUT_PREDICATE);
+        records.add(DONUT);
+        records.remove(BANANA);
+        assertSame(result, lookupAndFilter(DONUT_PREDICATE));
+        assertTrue(result.test(DONUT));
+        assertFalse(result.test(BANANA));
+    }
+
+    @Test
+    public void onChanged_duplicateRecordRemoved_otherCopyStillMatches() {
+        records.add(BANANA);
+        Predicate<Record> result = lookupAndFilter(DONUT_PREDICATE);
+        records.remove(BANANA);
+        assertTrue(result.test(BANANA));
+        records.remove(BANANA);
+        assertFalse(result.test(BANANA));
+    }
+
+    @Test
+    public void onChanged_largeChange_resultRecomputed() {
+        Predicate<Record> result = lookupAndFilter(DONUT_PREDICATE);
+        List<Record> manyRecords = new ArrayList<>();
+        for (int i = 0; i <= SearchResultCache.MAX_PATCH_SIZE; i++) {
+            manyRecords.add(new RecordBuilder().withName("Donut " + i).build());
+        }
+        records.setAll(manyRecords);
+
+        // an out of date result still filters correctly until it is recomputed
+        assertTrue(result.test(manyRecords.get(0)));
+        assertNotSame(result, lookupAndFilter(DONUT_PREDICATE));
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    public void lookup_miss_candidatesTestedOnceWithPredicate() {
+        List<Record> testedRecords = new ArrayList<>();
+        Predicate<Record> countingPredicate = record -> {
+            testedRecords.add(record);
+            return DONUT_PREDICATE.test(record);
+        };
+        Predicate<Record> result = cache.lookup(countingPredicate, record -> record != APPLE);
+        records.forEach(result::test);
+        assertEquals(Arrays.asList(BANANA, CAP), testedRecords);
+
+        // the filled in result is looked up without testing the records again
+        assertSame(result, cache.lookup(countingPredicate, Model.PREDICATE_SHOW_ALL_RECORD));
+        assertTrue(result.test(BANANA));
+        assertFalse(result.test(APPLE));
+        assertEquals(2, testedRecords.size());
+    }
+
+    /**
+     * Looks up {@code predicate} and tests every record with the result, as {@code FilteredList#setPredicate} does.
+     */
+    private Predicate<Record> lookupAndFilter(Predicate<Record> predicate) {
+        Predicate<Record> result = cache.lookup(predicate, Model.PREDICATE_SHOW_ALL_RECORD);
+        records.forEach(result::test);
+        return result;
+    }
+
+}
@@ -0,0 +1,102 @@
+package seedu.finance.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
+import seedu.finance.model.SpendingTrend.Bucket;
+import seedu.finance.model.record.Date;
+import seedu.finance.model.record.Record;
+import seedu.finance.testutil.RecordBuilder;
+
+public class SpendingTrendTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2019, 3, 20);
+
+    @Test
+    public void getBucketFor() {
+        assertEquals(Bucket.DAY, SpendingTrend.getBucketFor(SummaryPeriod.DAY, 1000));
+        assertEquals(Bucket.WEEK, SpendingTrend.getBucketFor(SummaryPeriod.MONTH,
+                SpendingTrend.MAX_MONTHS_BUCKETED_BY_WEEK));
+        assertEquals(Bucket.MONTH, SpendingTrend.getBucketFor(SummaryPeriod.MONTH,
+                SpendingTrend.MAX_MONTHS_BUCKETED_BY_WEEK + 1));
+    }
+
+    @Test
+    public void getStartDate_sameRangeAsSummaryCommand() {
+        assertEquals(LocalDate.of(2019, 3, 14), SpendingTrend.getStartDate(SummaryPeriod.DAY, 7, TODAY));
+        assertEquals(LocalDate.of(2018, 3, 21), SpendingTrend.getStartDate(SummaryPeriod.MONTH, 12, TODAY));
+    }
+
+    @Test
+    public void of_dayBuckets_emptyDaysKeptAndOutOfRangeIgnored() {
+        List<Record> records = Arrays.asList(
+                record("18/03/2019", "1.10"),
+                record("18/03/2019", "2.20"),
+                record("20/03/2019", "5"),
+                record("10/03/2019", "100"));
+        SpendingTrend trend = SpendingTrend.of(records, LocalDate.of(2019, 3, 17), TODAY, Bucket.DAY);
+
+        assertEquals(4, trend.size());
+        assertEquals(LocalDate.of(2019, 3, 17).toEpochDay(), trend.getBucketStartEpochDay(0));
+        assertEquals(0, trend.getTotal(0), 0);
+        assertEquals(3.30, trend.getTotal(1), 0);
+        assertEquals(0, trend.getTotal(2), 0);
+        assertEquals(5, trend.getTotal(3), 0);
+    }
+
+    @Test
+    public void of_weekAndMonthBuckets_bucketsStartOnMondayAndFirstOfMonth() {
+        List<Record> records = Arrays.asList(record("01/03/2019", "1"), record("19/03/2019", "2"));
+
+        SpendingTrend byWeek = SpendingTrend.of(records, LocalDate.of(2019, 3, 1), TODAY, Bucket.WEEK);
+        // 1 March 2019 is a Friday
+        assertEquals(LocalDate.of(2019, 2, 25).toEpochDay(), byWeek.getBucketStartEpochDay(0));
+        assertEquals(4, byWeek.size());
+        assertEquals(2, byWeek.getTotal(3), 0);
+
+        SpendingTrend byMonth = SpendingTrend.of(records, LocalDate.of(2018, 12, 15), TODAY, Bucket.MONTH);
+        assertEquals(4, byMonth.size());
+        assertEquals(3, byMonth.getTotal(3), 0);
+    }
+
+    @Test
+    public void of_startAfterEnd_emptyTrend() {
+        assertEquals(0, SpendingTrend.of(Collections.emptyList(), TODAY, TODAY.minusDays(1), Bucket.DAY).size());
+    }
+
+    @Test
+    public void downsample() {
+        List<Record> records = new ArrayList<>();
+        records.add(record("01/06/2010", "999"));
+        SpendingTrend trend = SpendingTrend.of(records, LocalDate.of(2009, 3, 21), TODAY, Bucket.DAY);
+
+        // few enough buckets -> same trend
+        assertSame(trend, trend.downsample(trend.size()));
+
+        // too many buckets -> bounded, with the ends and the peak kept
+        SpendingTrend downsampled = trend.downsample(200);
+        assertEquals(200, downsampled.size());
+        assertEquals(trend.getBucketStartEpochDay(0), downsampled.getBucketStartEpochDay(0));
+        assertEquals(TODAY.toEpochDay(), downsampled.getBucketStartEpochDay(199));
+        double peak = 0;
+        for (int i = 0; i < downsampled.size(); i++) {
+            peak = Math.max(peak, downsampled.getTotal(i));
+        }
+        assertEquals(999, peak, 0);
+    }
+
+    private static Record record(String date, String amount) {
+        return new RecordBuilder().withName("Record on " + date.replace('/', ' ')).withDate(date)
+                .withAmount(amount).build();
+    }
+
+}
@@ -237,6 +237,49 @@ public class VersionedFinanceTrackerTest {
         assertFalse(versionedFinanceTracker.equals(differentCurrentStatePointer));
     }
 
+    @Test
+    public void dropUndoHistory_pointerInMiddleOfStateList_currentAndRedoableStatesKept() {
+        VersionedFinanceTracker versionedFinanceTracker = prepareFinanceTrackerList(
+                emptyFinanceTracker, financeTrackerWithAmy, financeTrackerWithBob);
+        shiftCurrentStatePointerLeftwards(versionedFinanceTracker, 1);
+        assertEquals(1, versionedFinanceTracker.getUndoableStateCount());
+        assertEquals(1, versionedFinanceTracker.getRedoableStateCount());
+
+        versionedFinanceTracker.dropUndoHistory();
+        versionedFinanceTracker.compactHistory();
+        assertEquals(0, versionedFinanceTracker.getUndoableStateCount());
+        assertFinanceTrackerListStatus(versionedFinanceTracker,
+                Collections.emptyList(),
+                financeTrackerWithAmy,
+                Collections.singletonList(financeTrackerWithBob));
+    }
+
+    @Test
+    public void getEstimatedHistoryBytes_recordInSeveralStates_recordCountedOnce() {
+        VersionedFinanceTracker sameRecordTwice = prepareFinanceTrackerList(
+                financeTrackerWithAmy, financeTrackerWithAmy);
+        VersionedFinanceTracker differentRecords = prepareFinanceTrackerList(
+                financeTrackerWithAmy, financeTrackerWithBob);
+        assertTrue(sameRecordTwice.getEstimatedHistoryBytes() < differentRecords.getEstimatedHistoryBytes());
+    }
+
+    @Test
+    public void getEstimatedHistoryBytes_statesRemoved_onlyRemainingStatesCounted() {
+        // undo history dropped
+        VersionedFinanceTracker versionedFinanceTracker = prepareFinanceTrackerList(
+                emptyFinanceTracker, financeTrackerWithAmy, financeTrackerWithBob);
+        shiftCurrentStatePointerLeftwards(versionedFinanceTracker, 1);
+        versionedFinanceTracker.dropUndoHistory();
+        assertEquals(prepareFinanceTrackerList(financeTrackerWithAmy, financeTrackerWithBob)
+                .getEstimatedHistoryBytes(), versionedFinanceTracker.getEstimatedHistoryBytes());
+
+        // redoable states removed by a commit
+        versionedFinanceTracker.resetData(financeTrackerWithCarl);
+        versionedFinanceTracker.commit(false);
+        assertEquals(prepareFinanceTrackerList(financeTrackerWithAmy, financeTrackerWithCarl)
+                .getEstimatedHistoryBytes(), versionedFinanceTracker.getEstimatedHistoryBytes());
+    }
+
     /**
      * Asserts that {@code versionedFinanceTracker} is currently pointing at {@code expectedCurrentState},
      * states before {@code versionedFinanceTracker#currentStatePointer} is equal to
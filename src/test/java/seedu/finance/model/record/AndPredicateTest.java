@@ -0,0 +1,65 @@
+package seedu.finance.model.record;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.finance.testutil.RecordBuilder;
+
+public class AndPredicateTest {
+
+    private final NameContainsKeywordsPredicate namePredicate =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Coffee"));
+    private final CategoryContainsKeywordsPredicate categoryPredicate =
+            new CategoryContainsKeywordsPredicate(Collections.singletonList("Food"));
+    private final AndPredicate predicate = new AndPredicate(Arrays.asList(namePredicate, categoryPredicate));
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(predicate.equals(new AndPredicate(Arrays.asList(namePredicate, categoryPredicate))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(new OrPredicate(Arrays.asList(namePredicate, categoryPredicate))));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(predicate.equals(new AndPredicate(Arrays.asList(categoryPredicate, namePredicate))));
+    }
+
+    @Test
+    public void test_allPredicatesMatch_returnsTrue() {
+        assertTrue(predicate.test(new RecordBuilder().withName("Iced Coffee").withCategory("Food").build()));
+    }
+
+    @Test
+    public void test_onePredicateDoesNotMatch_returnsFalse() {
+        assertFalse(predicate.test(new RecordBuilder().withName("Iced Coffee").withCategory("Drinks").build()));
+        assertFalse(predicate.test(new RecordBuilder().withName("Iced Tea").withCategory("Food").build()));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        // narrower than each of its predicates
+        assertTrue(NarrowablePredicate.isNarrower(predicate, namePredicate));
+        assertTrue(NarrowablePredicate.isNarrower(predicate, categoryPredicate));
+
+        // narrower than a predicate with more keywords than one of its predicates
+        assertTrue(NarrowablePredicate.isNarrower(predicate,
+                new NameContainsKeywordsPredicate(Arrays.asList("Coffee", "Tea"))));
+
+        // not narrower than an unrelated predicate
+        assertFalse(NarrowablePredicate.isNarrower(predicate,
+                new DateContainsKeywordsPredicate(Collections.singletonList("10/3/2019"))));
+
+        // its predicates are not narrower than it
+        assertFalse(NarrowablePredicate.isNarrower(namePredicate, predicate));
+    }
+
+}
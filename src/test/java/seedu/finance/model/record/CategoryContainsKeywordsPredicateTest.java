@@ -72,4 +72,18 @@ public class CategoryContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new RecordBuilder().withCategory("food").withAmount("12345")
                 .withDate("27/08/2014").build()));
     }
+
+    @Test
+    public void isNarrowerThan() {
+        CategoryContainsKeywordsPredicate predicate = new CategoryContainsKeywordsPredicate(Arrays.asList("food"));
+
+        // more keywords, in a different case -> returns true
+        assertTrue(predicate.isNarrowerThan(new CategoryContainsKeywordsPredicate(Arrays.asList("Drinks", "Food"))));
+
+        // keyword missing from other predicate -> returns false
+        assertFalse(predicate.isNarrowerThan(new CategoryContainsKeywordsPredicate(Arrays.asList("Drinks"))));
+
+        // different type -> returns false
+        assertFalse(predicate.isNarrowerThan(new NameContainsKeywordsPredicate(Arrays.asList("food"))));
+    }
 }
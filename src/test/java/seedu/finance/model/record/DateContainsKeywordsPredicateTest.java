@@ -61,4 +61,16 @@ public class DateContainsKeywordsPredicateTest {
         predicate = new DateContainsKeywordsPredicate(Arrays.asList("11/01/2001"));
         assertFalse(predicate.test(new RecordBuilder().withDate("01/01/2001").build()));
     }
+
+    @Test
+    public void isNarrowerThan() {
+        DateContainsKeywordsPredicate predicate = new DateContainsKeywordsPredicate(Arrays.asList("01/01/2001"));
+
+        // more dates -> returns true
+        assertTrue(predicate.isNarrowerThan(
+                new DateContainsKeywordsPredicate(Arrays.asList("02/02/2002", "01/01/2001"))));
+
+        // date missing from other predicate -> returns false
+        assertFalse(predicate.isNarrowerThan(new DateContainsKeywordsPredicate(Arrays.asList("02/02/2002"))));
+    }
 }
@@ -72,4 +72,18 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new RecordBuilder().withName("Alice").withAmount("12345")
                 .withDate("27/08/2014").build()));
     }
+
+    @Test
+    public void isNarrowerThan() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("coffee"));
+
+        // more keywords, in a different case -> returns true
+        assertTrue(predicate.isNarrowerThan(new NameContainsKeywordsPredicate(Arrays.asList("Tea", "Coffee"))));
+
+        // keyword missing from other predicate -> returns false
+        assertFalse(predicate.isNarrowerThan(new NameContainsKeywordsPredicate(Arrays.asList("Tea"))));
+
+        // different type -> returns false
+        assertFalse(predicate.isNarrowerThan(new CategoryContainsKeywordsPredicate(Arrays.asList("coffee"))));
+    }
 }
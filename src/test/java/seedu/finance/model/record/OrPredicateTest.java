@@ -0,0 +1,62 @@
+package seedu.finance.model.record;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.finance.testutil.RecordBuilder;
+
+public class OrPredicateTest {
+
+    private final NameContainsKeywordsPredicate namePredicate =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Coffee"));
+    private final CategoryContainsKeywordsPredicate categoryPredicate =
+            new CategoryContainsKeywordsPredicate(Collections.singletonList("Food"));
+    private final OrPredicate predicate = new OrPredicate(Arrays.asList(namePredicate, categoryPredicate));
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(predicate.equals(new OrPredicate(Arrays.asList(namePredicate, categoryPredicate))));
+
+        // different types -> returns false
+        assertFalse(predicate.equals(new AndPredicate(Arrays.asList(namePredicate, categoryPredicate))));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different predicates -> returns false
+        assertFalse(predicate.equals(new OrPredicate(Collections.singletonList(namePredicate))));
+    }
+
+    @Test
+    public void test_anyPredicateMatches_returnsTrue() {
+        assertTrue(predicate.test(new RecordBuilder().withName("Iced Coffee").withCategory("Drinks").build()));
+        assertTrue(predicate.test(new RecordBuilder().withName("Iced Tea").withCategory("Food").build()));
+    }
+
+    @Test
+    public void test_noPredicateMatches_returnsFalse() {
+        assertFalse(predicate.test(new RecordBuilder().withName("Iced Tea").withCategory("Drinks").build()));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        // each of its predicates is narrower than it
+        assertTrue(NarrowablePredicate.isNarrower(namePredicate, predicate));
+        assertTrue(NarrowablePredicate.isNarrower(categoryPredicate, predicate));
+
+        // narrower than a predicate that all of its predicates are narrower than
+        OrPredicate widerPredicate = new OrPredicate(Arrays.asList(categoryPredicate,
+                new NameContainsKeywordsPredicate(Arrays.asList("Tea", "Coffee"))));
+        assertTrue(NarrowablePredicate.isNarrower(predicate, widerPredicate));
+
+        // not narrower than one of its predicates
+        assertFalse(NarrowablePredicate.isNarrower(predicate, namePredicate));
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.finance.model.record;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.finance.logic.commands.CommandTestUtil.VALID_AMOUNT_BOB;
 import static seedu.finance.logic.commands.CommandTestUtil.VALID_CATEGORY_HUSBAND;
@@ -91,4 +93,13 @@ public class RecordTest {
         editedApple = new RecordBuilder(APPLE).withCategory(VALID_CATEGORY_HUSBAND).build();
         assertFalse(APPLE.equals(editedApple));
     }
+
+    @Test
+    public void hashCode_equalRecords_sameHashCode() {
+        // same values -> same hash code
+        assertEquals(APPLE.hashCode(), new RecordBuilder(APPLE).build().hashCode());
+
+        // different amount -> different hash code
+        assertNotEquals(APPLE.hashCode(), new RecordBuilder(APPLE).withAmount(VALID_AMOUNT_BOB).build().hashCode());
+    }
 }
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static seedu.finance.testutil.TypicalRecords.getTypicalFinanceTracker;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.Before;
@@ -62,6 +63,14 @@ public class StorageManagerTest {
         assertEquals(original, new FinanceTracker(retrieved));
     }
 
+    @Test
+    public void saveFinanceTracker_saved_saveMeasured() throws Exception {
+        storageManager.saveFinanceTracker(getTypicalFinanceTracker());
+        assertEquals(1, storageManager.getSaveCount());
+        assertEquals(Files.size(storageManager.getFinanceTrackerFilePath()), storageManager.getLastSaveFileBytes());
+        assertEquals(0, storageManager.getSavesInProgress());
+    }
+
     @Test
     public void getFinanceTrackerFilePath() {
         assertNotNull(storageManager.getFinanceTrackerFilePath());
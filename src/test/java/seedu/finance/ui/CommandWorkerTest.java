@@ -0,0 +1,223 @@
+package seedu.finance.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.finance.testutil.TypicalRecords.getTypicalFinanceTracker;
+import static seedu.finance.ui.CommandWorker.MESSAGE_COMMAND_CANCELLED;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import seedu.finance.logic.Logic;
+import seedu.finance.logic.LogicManager;
+import seedu.finance.logic.commands.CommandResult;
+import seedu.finance.logic.commands.DeleteCommand;
+import seedu.finance.logic.commands.exceptions.CommandException;
+import seedu.finance.model.Model;
+import seedu.finance.model.ModelManager;
+import seedu.finance.model.ReadOnlyFinanceTracker;
+import seedu.finance.model.UserPrefs;
+import seedu.finance.storage.JsonFinanceTrackerStorage;
+import seedu.finance.storage.JsonUserPrefsStorage;
+import seedu.finance.storage.StorageManager;
+import seedu.finance.ui.CommandBox.CommandExecutor;
+
+public class CommandWorkerTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor();
+    private final ScheduledExecutorService busyTimer = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<Runnable> postedToApplicationThread = new LinkedBlockingQueue<>();
+    private final List<String> executedCommands = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> outcomes = new ArrayList<>();
+
+    @After
+    public void tearDown() {
+        worker.shutdownNow();
+        busyTimer.shutdownNow();
+    }
+
+    @Test
+    public void submit_manyCommands_executedAndHandledInOrder() throws Exception {
+        CommandWorker commandWorker = createCommandWorker(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        submit(commandWorker, "first", this::succeed);
+        submit(commandWorker, "second", this::fail);
+        submit(commandWorker, "third", this::succeed);
+
+        runPosted(3);
+        assertEquals(Arrays.asList("first", "second", "third"), executedCommands);
+        assertEquals(Arrays.asList("success: first", "failure: second failed", "success: third"), outcomes);
+    }
+
+    @Test
+    public void cancel_runningAndWaitingCommands_onlyWaitingCommandsCancelled() throws Exception {
+        CountDownLatch isRunning = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CommandWorker commandWorker = createCommandWorker(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        submit(commandWorker, "slow", commandText -> {
+            isRunning.countDown();
+            try {
+                canFinish.await();
+            } catch (InterruptedException ie) {
+                executedCommands.add("interrupted");
+            }
+            return succeed(commandText);
+        });
+        submit(commandWorker, "waiting", this::succeed);
+        assertTrue(isRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        commandWorker.cancel();
+        submit(commandWorker, "after", this::succeed);
+        canFinish.countDown();
+
+        runPosted(3);
+        assertEquals(Arrays.asList("slow", "after"), executedCommands);
+        assertEquals(Arrays.asList("success: slow", "failure: " + String.format(MESSAGE_COMMAND_CANCELLED, "waiting"),
+                "success: after"), outcomes);
+    }
+
+    @Test
+    public void queuedCommandCountProperty_commandsWaiting_countedUntilCancelled() throws Exception {
+        CountDownLatch isRunning = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CommandWorker commandWorker = createCommandWorker(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        submit(commandWorker, "slow", commandText -> {
+            isRunning.countDown();
+            Uninterruptibles.awaitUninterruptibly(canFinish);
+            return succeed(commandText);
+        });
+        assertTrue(isRunning.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // the running command is not counted
+        submit(commandWorker, "first waiting", this::succeed);
+        submit(commandWorker, "second waiting", this::succeed);
+        assertEquals(2, commandWorker.queuedCommandCountProperty().get());
+
+        commandWorker.cancel();
+        assertEquals(0, commandWorker.queuedCommandCountProperty().get());
+
+        canFinish.countDown();
+        runPosted(3);
+        assertEquals(0, commandWorker.queuedCommandCountProperty().get());
+        assertEquals(Arrays.asList("slow"), executedCommands);
+    }
+
+    @Test
+    public void cancel_commandSavingFinanceTracker_dataFileStillValid() throws Exception {
+        BlockingSaveJsonFinanceTrackerStorage financeTrackerStorage = new BlockingSaveJsonFinanceTrackerStorage(
+                temporaryFolder.getRoot().toPath().resolve("financetracker.json"));
+        Model model = new ModelManager(getTypicalFinanceTracker(), new UserPrefs());
+        Logic logic = new LogicManager(model, new StorageManager(financeTrackerStorage,
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath())), true);
+        CommandWorker commandWorker = createCommandWorker(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        submit(commandWorker, DeleteCommand.COMMAND_WORD + " 1", logic::execute);
+        assertTrue(financeTrackerStorage.isSaving.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        commandWorker.cancel();
+        financeTrackerStorage.canSave.countDown();
+
+        runPosted(1);
+        assertTrue(outcomes.get(0).startsWith("success: "));
+        assertEquals(model.getFinanceTracker().getRecordList(),
+                financeTrackerStorage.readFinanceTracker().get().getRecordList());
+    }
+
+    @Test
+    public void busyCommandProperty_longRunningCommand_shownUntilHandled() throws Exception {
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CommandWorker commandWorker = createCommandWorker(0);
+        submit(commandWorker, "slow", commandText -> {
+            try {
+                canFinish.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError(ie);
+            }
+            return new CommandResult(commandText);
+        });
+
+        runPosted(1);
+        assertEquals("slow", commandWorker.busyCommandProperty().get());
+
+        canFinish.countDown();
+        runPosted(1);
+        assertNull(commandWorker.busyCommandProperty().get());
+        assertEquals(0, commandWorker.getBusyCommandMillis());
+        assertEquals(Arrays.asList("success: slow"), outcomes);
+    }
+
+    private CommandWorker createCommandWorker(long longRunningDelayMillis) {
+        return new CommandWorker(worker, busyTimer, postedToApplicationThread::add, longRunningDelayMillis);
+    }
+
+    private void submit(CommandWorker commandWorker, String commandText, CommandExecutor executor) {
+        commandWorker.submit(commandText, executor,
+                commandResult -> outcomes.add("success: " + commandResult.getFeedbackToUser()),
+                e -> outcomes.add("failure: " + e.getMessage()));
+    }
+
+    private CommandResult succeed(String commandText) {
+        executedCommands.add(commandText);
+        return new CommandResult(commandText);
+    }
+
+    private CommandResult fail(String commandText) throws CommandException {
+        executedCommands.add(commandText);
+        throw new CommandException(commandText + " failed");
+    }
+
+    /**
+     * A storage that waits to be allowed to save, without stopping if the saving thread is interrupted.
+     */
+    private static class BlockingSaveJsonFinanceTrackerStorage extends JsonFinanceTrackerStorage {
+        private final CountDownLatch isSaving = new CountDownLatch(1);
+        private final CountDownLatch canSave = new CountDownLatch(1);
+
+        private BlockingSaveJsonFinanceTrackerStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveFinanceTracker(ReadOnlyFinanceTracker financeTracker, Path filePath) throws IOException {
+            isSaving.countDown();
+            Uninterruptibles.awaitUninterruptibly(canSave);
+            super.saveFinanceTracker(financeTracker, filePath);
+        }
+    }
+
+    /**
+     * Runs the next {@code count} tasks posted to the application thread on this thread, in order.
+     */
+    private void runPosted(int count) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            Runnable task = postedToApplicationThread.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (task == null) {
+                throw new AssertionError("Nothing was posted to the application thread");
+            }
+            task.run();
+        }
+    }
+
+}
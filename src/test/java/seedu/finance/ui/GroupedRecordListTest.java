@@ -0,0 +1,178 @@
+package seedu.finance.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.finance.testutil.TypicalRecords.APPLE;
+import static seedu.finance.testutil.TypicalRecords.BANANA;
+import static seedu.finance.testutil.TypicalRecords.CAP;
+import static seedu.finance.testutil.TypicalRecords.DONUT;
+import static seedu.finance.testutil.TypicalRecords.EARRINGS;
+import static seedu.finance.testutil.TypicalRecords.FRUITS;
+import static seedu.finance.testutil.TypicalRecords.GIFT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.finance.model.record.Record;
+import seedu.finance.ui.GroupedRecordList.Group;
+import seedu.finance.ui.GroupedRecordList.Row;
+
+public class GroupedRecordListTest {
+
+    private final ObservableList<Record> records = FXCollections.observableArrayList(APPLE, BANANA, CAP, FRUITS);
+
+    @Test
+    public void getRows_groupedByMonth_groupsInOrderOfFirstRecord() {
+        GroupedRecordList groupedRecords = GroupedRecordList.byMonth(records);
+        assertEquals(Arrays.asList("February 2017", "APPLE 1", "FRUITS 4", "February 2015", "BANANA DONUT 2",
+                "May 2017", "CAP 3"), describe(groupedRecords.getRows()));
+        assertEquals(2, groupedRecords.indexOf(FRUITS));
+    }
+
+    @Test
+    public void toggleExpanded_groupCollapsed_recordRowsRemoved() {
+        GroupedRecordList groupedRecords = GroupedRecordList.byCategory(records);
+        Group food = groupedRecords.getRows().get(groupedRecords.indexOf(BANANA)).getGroup();
+        groupedRecords.toggleExpanded(food);
+        assertFalse(food.isExpanded());
+        assertEquals(Arrays.asList("Groceries", "APPLE 1", "Food", "Clothes", "CAP 3"),
+                describe(groupedRecords.getRows()));
+        assertEquals(-1, groupedRecords.indexOf(BANANA));
+
+        // a collapsed group stays collapsed when the records change
+        records.add(DONUT);
+        assertEquals(Arrays.asList("Groceries", "APPLE 1", "Food", "Clothes", "CAP 3"),
+                describe(groupedRecords.getRows()));
+        assertEquals(3, food.size());
+
+        groupedRecords.toggleExpanded(food);
+        assertEquals(Arrays.asList("Groceries", "APPLE 1", "Food", "BANANA DONUT 2", "FRUITS 4", "CHOCOLATE DONUT 5",
+                "Clothes", "CAP 3"), describe(groupedRecords.getRows()));
+    }
+
+    @Test
+    public void getSubtotal_computedWhenAskedAndKeptUntilGroupChanges() {
+        GroupedRecordList groupedRecords = GroupedRecordList.byCategory(records);
+        Group groceries = groupedRecords.getRows().get(groupedRecords.indexOf(APPLE)).getGroup();
+        Group food = groupedRecords.getRows().get(groupedRecords.indexOf(BANANA)).getGroup();
+        assertFalse(groceries.isSubtotalComputed());
+        assertFalse(food.isSubtotalComputed());
+
+        assertEquals(22.50, food.getSubtotal(), 0.001);
+        assertTrue(food.isSubtotalComputed());
+        assertFalse(groceries.isSubtotalComputed());
+
+        // only the subtotal of the changed group is computed again
+        groceries.getSubtotal();
+        records.remove(FRUITS);
+        assertTrue(groceries.isSubtotalComputed());
+        assertFalse(food.isSubtotalComputed());
+        assertEquals(2.50, food.getSubtotal(), 0.001);
+    }
+
+    @Test
+    public void recordsChanged_recordAdded_otherGroupsAndSelectedRowKept() {
+        GroupedRecordList groupedRecords = GroupedRecordList.byCategory(records);
+        Group groceries = groupedRecords.getRows().get(groupedRecords.indexOf(APPLE)).getGroup();
+        Group food = groupedRecords.getRows().get(groupedRecords.indexOf(BANANA)).getGroup();
+        Group clothes = groupedRecords.getRows().get(groupedRecords.indexOf(CAP)).getGroup();
+        groceries.getSubtotal();
+        food.getSubtotal();
+        clothes.getSubtotal();
+        Row selectedRow = groupedRecords.getRows().get(groupedRecords.indexOf(CAP));
+        List<ListChangeListener.Change<? extends Row>> changes = new ArrayList<>();
+        groupedRecords.getRows().addListener((ListChangeListener<Row>) changes::add);
+
+        records.add(1, DONUT);
+        assertEquals(Arrays.asList("Groceries", "APPLE 1", "Food", "CHOCOLATE DONUT 2", "BANANA DONUT 3", "FRUITS 5",
+                "Clothes", "CAP 4"), describe(groupedRecords.getRows()));
+
+        // only the changed group computes its subtotal again
+        assertTrue(groceries.isSubtotalComputed());
+        assertTrue(clothes.isSubtotalComputed());
+        assertFalse(food.isSubtotalComputed());
+
+        // the row of the new record is inserted, and no row is removed or replaced, which would lose the selection;
+        // only the header of the changed group is updated, as the rows after it derive their displayed index
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends Row> change = changes.get(0);
+        List<Row> addedRows = new ArrayList<>();
+        while (change.next()) {
+            assertFalse(change.wasRemoved());
+            addedRows.addAll(change.getAddedSubList());
+            if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    assertSame(food, groupedRecords.getRows().get(i).getGroup());
+                    assertTrue(groupedRecords.getRows().get(i).isHeader());
+                }
+            }
+        }
+        assertEquals(1, addedRows.size());
+        assertSame(DONUT, addedRows.get(0).getRecord());
+        assertSame(selectedRow, groupedRecords.getRows().get(groupedRecords.indexOf(CAP)));
+    }
+
+    @Test
+    public void recordsChanged_groupsPatched_sameAsGroupedAgain() {
+        GroupedRecordList groupedRecords = GroupedRecordList.byMonth(records);
+
+        // a new group before the others
+        records.add(0, DONUT);
+        assertSameRows(GroupedRecordList.byMonth(records), groupedRecords);
+
+        // a group whose first record is removed moves after the groups that now come first
+        records.remove(APPLE);
+        assertSameRows(GroupedRecordList.byMonth(records), groupedRecords);
+
+        // a replaced record empties its group, which is removed
+        records.set(0, GIFT);
+        assertSameRows(GroupedRecordList.byMonth(records), groupedRecords);
+
+        // a change of several parts
+        records.add(EARRINGS);
+        records.removeAll(BANANA, CAP);
+        assertSameRows(GroupedRecordList.byMonth(records), groupedRecords);
+
+        // a sorted list is grouped again
+        FXCollections.sort(records, Comparator.comparing(record -> record.getName().fullName));
+        assertSameRows(GroupedRecordList.byMonth(records), groupedRecords);
+    }
+
+    @Test
+    public void dispose_recordsChanged_rowsUnchanged() {
+        GroupedRecordList groupedRecords = GroupedRecordList.byMonth(records);
+        groupedRecords.dispose();
+        records.clear();
+        assertEquals(7, groupedRecords.getRows().size());
+    }
+
+    /**
+     * Asserts that {@code actual} shows the same groups and records as {@code expected}.
+     */
+    private static void assertSameRows(GroupedRecordList expected, GroupedRecordList actual) {
+        assertEquals(describe(expected.getRows()), describe(actual.getRows()));
+        expected.dispose();
+    }
+
+    /**
+     * Returns the key of each header row, and the name and displayed index of each record row, in {@code rows}.
+     */
+    private static List<String> describe(List<Row> rows) {
+        List<String> descriptions = new ArrayList<>();
+        for (Row row : rows) {
+            descriptions.add(row.isHeader() ? row.getGroup().getKey()
+                    : row.getRecord().getName().fullName.toUpperCase() + " " + row.getDisplayedIndex());
+        }
+        return descriptions;
+    }
+
+}
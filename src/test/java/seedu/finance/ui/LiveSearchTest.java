@@ -0,0 +1,126 @@
+package seedu.finance.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.finance.testutil.TypicalRecords.APPLE;
+import static seedu.finance.testutil.TypicalRecords.BANANA;
+import static seedu.finance.testutil.TypicalRecords.DONUT;
+import static seedu.finance.testutil.TypicalRecords.getTypicalFinanceTracker;
+import static seedu.finance.testutil.TypicalRecords.getTypicalRecords;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.finance.logic.Logic;
+import seedu.finance.logic.LogicManager;
+import seedu.finance.model.Model;
+import seedu.finance.model.ModelManager;
+import seedu.finance.model.UserPrefs;
+import seedu.finance.model.record.Record;
+import seedu.finance.storage.JsonFinanceTrackerStorage;
+import seedu.finance.storage.JsonUserPrefsStorage;
+import seedu.finance.storage.StorageManager;
+import seedu.finance.testutil.RecordBuilder;
+
+public class LiveSearchTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ScheduledExecutorService searcher = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<Runnable> postedToApplicationThread = new LinkedBlockingQueue<>();
+    private final Model model = new ModelManager(getTypicalFinanceTracker(), new UserPrefs());
+    private Logic logic;
+    private LiveSearch liveSearch;
+
+    @Before
+    public void setUp() throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonFinanceTrackerStorage(temporaryFolder.newFile().toPath()),
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()));
+        logic = new LogicManager(model, storage);
+        liveSearch = new LiveSearch(logic, searcher, postedToApplicationThread::add, 0);
+    }
+
+    @After
+    public void tearDown() {
+        searcher.shutdownNow();
+    }
+
+    @Test
+    public void onTextChanged_searchTyped_previewShownUntilTextIsNoLongerSearch() throws Exception {
+        liveSearch.onTextChanged("search -name Donut -or");
+        runPosted();
+        assertEquals(Arrays.asList(BANANA, DONUT), logic.getFilteredRecordList());
+
+        liveSearch.onTextChanged("search -name Donut -or -na");
+        liveSearch.onTextChanged("dele");
+        assertEquals(getTypicalRecords(), logic.getFilteredRecordList());
+    }
+
+    @Test
+    public void onTextChanged_textChangedBeforeSearchShown_onlyLatestSearchShown() throws Exception {
+        liveSearch.onTextChanged("find -name Donut");
+        liveSearch.onTextChanged("find -name Apple");
+        searcher.shutdown();
+        assertTrue(searcher.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        while (!postedToApplicationThread.isEmpty()) {
+            postedToApplicationThread.remove().run();
+        }
+        assertEquals(Collections.singletonList(APPLE), logic.getFilteredRecordList());
+    }
+
+    @Test
+    public void onTextChanged_recordsChangedDuringSearch_searchedAgain() throws Exception {
+        liveSearch.onTextChanged("search -name Donut");
+        Runnable staleResult = postedToApplicationThread.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Record strawberryDonut = new RecordBuilder(DONUT).withName("Strawberry Donut").build();
+        synchronized (logic.getModelLock()) {
+            model.addRecord(strawberryDonut);
+        }
+
+        staleResult.run();
+        assertEquals(getTypicalRecords().size() + 1, logic.getFilteredRecordList().size());
+        runPosted();
+        assertEquals(Arrays.asList(BANANA, DONUT, strawberryDonut), logic.getFilteredRecordList());
+    }
+
+    @Test
+    public void cancel_commandExecuted_commandFilterKept() throws Exception {
+        liveSearch.onTextChanged("search -name Donut");
+        runPosted();
+
+        liveSearch.cancel();
+        logic.execute("search -name Apple");
+        assertEquals(Collections.singletonList(APPLE), logic.getFilteredRecordList());
+
+        liveSearch.onTextChanged("");
+        assertEquals(Collections.singletonList(APPLE), logic.getFilteredRecordList());
+    }
+
+    /**
+     * Runs the next task posted to the application thread on this thread.
+     */
+    private void runPosted() throws InterruptedException {
+        Runnable task = postedToApplicationThread.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (task == null) {
+            throw new AssertionError("Nothing was posted to the application thread");
+        }
+        task.run();
+    }
+
+}
@@ -0,0 +1,115 @@
+package seedu.finance.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.finance.testutil.Assert;
+
+public class ModelMirrorTest {
+
+    private final List<Runnable> postedFlushes = new ArrayList<>();
+    private final ModelMirror modelMirror = new ModelMirror(new Object(), new UiRefreshScheduler(postedFlushes::add));
+
+    @Test
+    public void mirrorList_sourceChanged_followsSourceAfterFlush() {
+        ObservableList<String> source = FXCollections.observableArrayList("a");
+        ObservableList<String> mirror = modelMirror.mirrorList(source);
+        assertEquals(Arrays.asList("a"), mirror);
+
+        source.add("b");
+        source.remove("a");
+        assertEquals(Arrays.asList("a"), mirror);
+
+        runPostedFlushes();
+        assertEquals(Arrays.asList("b"), mirror);
+    }
+
+    @Test
+    public void mirrorList_elementsAddedAndSet_sameChangesMadeToMirror() {
+        ObservableList<String> source = FXCollections.observableArrayList("a", "b", "c");
+        ObservableList<String> mirror = modelMirror.mirrorList(source);
+        List<String> changes = new ArrayList<>();
+        mirror.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " -" + change.getRemoved() + " +" + change.getAddedSubList());
+            }
+        });
+
+        source.add(1, "d");
+        source.set(3, "e");
+        runPostedFlushes();
+        assertEquals(Arrays.asList("a", "d", "b", "e"), mirror);
+
+        // the mirror is not replaced as a whole, so list views showing it only update the changed cells
+        assertEquals(Arrays.asList("1 -[] +[d]", "3 -[c] +[e]"), changes);
+    }
+
+    @Test
+    public void mirrorList_largeChange_followsSourceAfterFlush() {
+        ObservableList<String> source = FXCollections.observableArrayList("a");
+        ObservableList<String> mirror = modelMirror.mirrorList(source);
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i <= ModelMirror.MAX_FORWARDED_CHANGE_SIZE; i++) {
+            elements.add(Integer.toString(i));
+        }
+
+        source.add("b");
+        source.setAll(elements);
+        runPostedFlushes();
+        assertEquals(elements, mirror);
+    }
+
+    @Test
+    public void mirrorList_modify_throwsUnsupportedOperationException() {
+        ObservableList<String> mirror = modelMirror.mirrorList(FXCollections.observableArrayList("a"));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> mirror.add("b"));
+    }
+
+    @Test
+    public void mirrorValue_sourceChanged_followsSourceAfterFlush() {
+        SimpleObjectProperty<String> source = new SimpleObjectProperty<>("a");
+        ObservableValue<String> mirror = modelMirror.mirrorValue(source);
+
+        source.set("b");
+        assertEquals("a", mirror.getValue());
+
+        runPostedFlushes();
+        assertEquals("b", mirror.getValue());
+    }
+
+    @Test
+    public void mirrorMap_sourceChanged_onlyChangedEntriesUpdated() {
+        ObservableMap<String, Double> source = FXCollections.observableHashMap();
+        source.put("Food", 1.0);
+        source.put("Transport", 2.0);
+        ObservableMap<String, Double> mirror = modelMirror.mirrorMap(source);
+        List<String> changedKeys = new ArrayList<>();
+        mirror.addListener((MapChangeListener<String, Double>) change -> changedKeys.add(change.getKey()));
+
+        source.put("Food", 3.0);
+        source.put("Food", 4.0);
+        source.remove("Transport");
+        runPostedFlushes();
+        assertEquals(source, mirror);
+        assertEquals(2, changedKeys.size());
+    }
+
+    private void runPostedFlushes() {
+        while (!postedFlushes.isEmpty()) {
+            postedFlushes.remove(0).run();
+        }
+    }
+
+}
@@ -25,6 +25,19 @@ public class RecordCardTest extends GuiUnitTest {
         assertCardDisplay(recordCard, recordWithTags, 2);
     }
 
+    @Test
+    public void setRecord_differentRecord_displaysNewRecord() {
+        Record record = new RecordBuilder().withCategory("food").build();
+        RecordCard recordCard = new RecordCard(record, 1);
+        uiPartRule.setUiPart(recordCard);
+
+        Record differentRecord = new RecordBuilder().withName("differentName").withCategory("groceries").build();
+        guiRobot.interact(() -> recordCard.setRecord(differentRecord, 3));
+        assertCardDisplay(recordCard, differentRecord, 3);
+        assertEquals(differentRecord, recordCard.getRecord());
+        assertEquals(new RecordCard(differentRecord, 3), recordCard);
+    }
+
     @Test
     public void equals() {
         Record record = new RecordBuilder().build();
@@ -2,8 +2,10 @@ package seedu.finance.ui;
 
 import static java.time.Duration.ofMillis;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static seedu.finance.testutil.TypicalIndexes.INDEX_SECOND_RECORD;
+import static seedu.finance.testutil.TypicalRecords.HAMBURGER;
 import static seedu.finance.testutil.TypicalRecords.getTypicalRecords;
 import static seedu.finance.ui.testutil.GuiTestAssert.assertCardDisplaysRecord;
 import static seedu.finance.ui.testutil.GuiTestAssert.assertCardEquals;
@@ -15,12 +17,15 @@ import guitests.guihandles.RecordListPanelHandle;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.scene.control.ListView;
 import seedu.finance.model.category.Category;
 import seedu.finance.model.record.Amount;
 import seedu.finance.model.record.Date;
 import seedu.finance.model.record.Description;
 import seedu.finance.model.record.Name;
 import seedu.finance.model.record.Record;
+import seedu.finance.ui.GroupedRecordList.Row;
+import seedu.finance.ui.RecordListPanel.Grouping;
 
 
 
@@ -29,9 +34,14 @@ public class RecordListPanelTest extends GuiUnitTest {
             FXCollections.observableList(getTypicalRecords());
 
     private static final long CARD_CREATION_AND_DELETION_TIMEOUT = 2500;
+    private static final long SCROLL_TIMEOUT = 5000;
+    private static final int SCROLL_RECORD_COUNT = 100000;
+    private static final int SCROLL_FRAME_COUNT = 100;
 
     private final SimpleObjectProperty<Record> selectedRecord = new SimpleObjectProperty<>();
+    private RecordListPanel recordListPanel;
     private RecordListPanelHandle recordListPanelHandle;
+    private ListView<Record> recordListView;
 
     @Test
     public void display() {
@@ -59,6 +69,21 @@ public class RecordListPanelTest extends GuiUnitTest {
         assertCardEquals(expectedRecord, selectedRecord);
     }
 
+    @Test
+    public void setGrouping_recordAddedToAnotherGroup_selectionKept() {
+        ObservableList<Record> backingList = FXCollections.observableArrayList(getTypicalRecords());
+        initUi(backingList);
+        guiRobot.interact(() -> recordListPanel.setGrouping(Grouping.MONTH));
+        ListView<Row> groupedRecordListView = getChildNode(recordListPanel.getRoot(), "#groupedRecordListView");
+        Record secondRecord = backingList.get(INDEX_SECOND_RECORD.getZeroBased());
+        guiRobot.interact(() -> selectedRecord.set(secondRecord));
+        Row selectedRow = groupedRecordListView.getSelectionModel().getSelectedItem();
+        assertSame(secondRecord, selectedRow.getRecord());
+
+        guiRobot.interact(() -> backingList.add(HAMBURGER));
+        assertSame(selectedRow, groupedRecordListView.getSelectionModel().getSelectedItem());
+    }
+
     /**
      * Verifies that creating and deleting large number of records in {@code RecordListPanel} requires lesser than
      * {@code CARD_CREATION_AND_DELETION_TIMEOUT} milliseconds to execute.
@@ -73,6 +98,24 @@ public class RecordListPanelTest extends GuiUnitTest {
         }, "Creation and deletion of record cards exceeded time limit");
     }
 
+    /**
+     * Verifies that scrolling through {@code SCROLL_RECORD_COUNT} records in {@code SCROLL_FRAME_COUNT} jumps, laying
+     * out the list after every jump, requires lesser than {@code SCROLL_TIMEOUT} milliseconds to execute.
+     * The frame times themselves are reported by {@code RecordListScrollBenchmark}.
+     */
+    @Test
+    public void scrollPerformanceTest() {
+        initUi(createBackingList(SCROLL_RECORD_COUNT));
+        int step = SCROLL_RECORD_COUNT / SCROLL_FRAME_COUNT;
+
+        assertTimeoutPreemptively(ofMillis(SCROLL_TIMEOUT), () -> guiRobot.interact(() -> {
+            for (int i = 0; i < SCROLL_FRAME_COUNT; i++) {
+                recordListView.scrollTo(i * step);
+                recordListView.layout();
+            }
+        }), "Scrolling through record cards exceeded time limit");
+    }
+
     /**
      * Returns a list of records containing {@code recordCount} records that is used to populate the
      * {@code RecordListPanel}.
@@ -95,11 +138,10 @@ public class RecordListPanelTest extends GuiUnitTest {
      * Also shows the {@code Stage} that displays only {@code RecordListPanel}.
      */
     private void initUi(ObservableList<Record> backingList) {
-        RecordListPanel recordListPanel =
-                new RecordListPanel(backingList, selectedRecord, selectedRecord::set);
+        recordListPanel = new RecordListPanel(backingList, selectedRecord, selectedRecord::set);
         uiPartRule.setUiPart(recordListPanel);
 
-        recordListPanelHandle = new RecordListPanelHandle(getChildNode(recordListPanel.getRoot(),
-                RecordListPanelHandle.RECORD_LIST_VIEW_ID));
+        recordListView = getChildNode(recordListPanel.getRoot(), RecordListPanelHandle.RECORD_LIST_VIEW_ID);
+        recordListPanelHandle = new RecordListPanelHandle(recordListView);
     }
 }
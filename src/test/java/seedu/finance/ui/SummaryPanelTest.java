@@ -1,14 +1,26 @@
 package seedu.finance.ui;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import guitests.guihandles.SummaryPanelHandle;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import javafx.scene.chart.PieChart;
 import seedu.finance.logic.commands.SummaryCommand.SummaryPeriod;
+import seedu.finance.model.record.Date;
+import seedu.finance.model.record.Record;
+import seedu.finance.testutil.RecordBuilder;
 
 public class SummaryPanelTest extends GuiUnitTest {
     private SummaryPanelHandle summaryPanelHandle;
@@ -16,7 +28,7 @@ public class SummaryPanelTest extends GuiUnitTest {
     @Before
     public void setUp() throws InterruptedException {
         SummaryPanel summaryPanel = new SummaryPanel(
-                new LinkedHashMap<>(),
+                FXCollections.observableMap(new LinkedHashMap<>()),
                 SummaryPeriod.DAY,
                 7
         );
@@ -53,12 +65,58 @@ public class SummaryPanelTest extends GuiUnitTest {
         assertTrue(summaryPanelHandle.isCategoryChart());
     }
 
+    @Test
+    public void summaryDataChanged_sameChartUpdated() {
+        ObservableMap<String, Double> summaryData = FXCollections.observableMap(new LinkedHashMap<>());
+        summaryData.put("Food", 6.00);
+        SummaryPanel summaryPanel = new SummaryPanel(summaryData, SummaryPeriod.DAY, 7);
+        summaryPanelHandle = new SummaryPanelHandle(summaryPanel.getRoot());
+        PieChart chart = summaryPanelHandle.getChart();
+
+        // total changed -> slice updated in place
+        summaryData.put("Food", 8.50);
+        assertSame(chart, summaryPanelHandle.getChart());
+        assertEquals(Double.valueOf(8.50), summaryPanelHandle.getSliceValue("Food"));
+
+        // category added -> slice added to the same chart
+        summaryData.put("Transport", 2.00);
+        assertSame(chart, summaryPanelHandle.getChart());
+        assertEquals(2, chart.getData().size());
+
+        // category removed -> slice removed
+        summaryData.remove("Food");
+        assertNull(summaryPanelHandle.getSliceValue("Food"));
+
+        // no categories left -> message shown
+        summaryData.remove("Transport");
+        assertTrue(summaryPanelHandle.isNoExpenseText());
+    }
+
+    @Test
+    public void setTrendRecords_yearsOfRecords_pointsBounded() {
+        ObservableMap<String, Double> summaryData = FXCollections.observableMap(new LinkedHashMap<>());
+        summaryData.put("Food", 6.00);
+        SummaryPanel summaryPanel = new SummaryPanel(summaryData, SummaryPeriod.DAY, 3650);
+        summaryPanelHandle = new SummaryPanelHandle(summaryPanel.getRoot());
+
+        List<Record> records = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 3000; i++) {
+            records.add(new RecordBuilder().withName("Record " + i)
+                    .withDate(new Date(today.minusDays(i)).toString()).build());
+        }
+        summaryPanel.setTrendRecords(records, SummaryPeriod.DAY, 3650);
+        guiRobot.waitForEvent(() -> summaryPanelHandle.getTrendPointCount() > 0);
+        assertEquals(SummaryPanel.MAX_TREND_POINTS, summaryPanelHandle.getTrendPointCount());
+    }
+
     private void setChartData(
             LinkedHashMap<String, Double> mockData,
             SummaryPeriod summaryPeriod,
             int periodAmount
     ) {
-        SummaryPanel summaryPanel = new SummaryPanel(mockData, summaryPeriod, periodAmount);
+        SummaryPanel summaryPanel = new SummaryPanel(FXCollections.observableMap(mockData), summaryPeriod,
+                periodAmount);
         summaryPanelHandle = new SummaryPanelHandle(summaryPanel.getRoot());
     }
 
@@ -79,6 +79,17 @@ public class UiPartTest {
         Assert.assertThrows(AssertionError.class, () -> new TestUiPart<Object>(INVALID_FILE_PATH, new Object()));
     }
 
+    @Test
+    public void constructor_root_usesRootWithoutLoadingFile() {
+        TestFxmlObject root = new TestFxmlObject("Built in code");
+        assertEquals(root, new CodeBuiltUiPart(root).getRoot());
+    }
+
+    @Test
+    public void constructor_nullRoot_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new CodeBuiltUiPart(null));
+    }
+
     private URL getTestFileUrl(String testFilePath) {
         String testFilePathInView = "/view/" + testFilePath;
         URL testFileUrl = MainApp.class.getResource(testFilePathInView);
@@ -115,4 +126,15 @@ public class UiPartTest {
 
     }
 
+    /**
+     * UiPart used for testing, whose scene graph is built in code.
+     */
+    private static class CodeBuiltUiPart extends UiPart<TestFxmlObject> {
+
+        CodeBuiltUiPart(TestFxmlObject root) {
+            super(root);
+        }
+
+    }
+
 }
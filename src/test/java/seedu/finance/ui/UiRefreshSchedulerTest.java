@@ -0,0 +1,87 @@
+package seedu.finance.ui;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.finance.testutil.Assert;
+
+public class UiRefreshSchedulerTest {
+
+    private final List<Runnable> postedFlushes = new ArrayList<>();
+    private final List<String> runRefreshes = new ArrayList<>();
+    private final UiRefreshScheduler scheduler = new UiRefreshScheduler(postedFlushes::add);
+
+    private final Runnable budgetRefresh = () -> runRefreshes.add("budget");
+    private final Runnable trendRefresh = () -> runRefreshes.add("trend");
+
+    @Test
+    public void markDirty_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> scheduler.markDirty(null));
+    }
+
+    @Test
+    public void markDirty_sameRefreshManyTimes_runOnceByOneFlush() {
+        scheduler.markDirty(budgetRefresh);
+        scheduler.markDirty(budgetRefresh);
+        scheduler.markDirty(budgetRefresh);
+        assertEquals(1, postedFlushes.size());
+        assertEquals(0, runRefreshes.size());
+
+        runPostedFlushes();
+        assertEquals(Arrays.asList("budget"), runRefreshes);
+        assertEquals(3, scheduler.getRequestCount());
+        assertEquals(1, scheduler.getRefreshCount());
+        assertEquals(2, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    public void flush_differentRefreshes_runInOrderFirstMarked() {
+        scheduler.markDirty(trendRefresh);
+        scheduler.markDirty(budgetRefresh);
+        scheduler.markDirty(trendRefresh);
+
+        runPostedFlushes();
+        assertEquals(Arrays.asList("trend", "budget"), runRefreshes);
+        assertEquals(1, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    public void flush_refreshMarkedDuringFlush_leftForNextFlush() {
+        Runnable chainedRefresh = () -> {
+            runRefreshes.add("chained");
+            scheduler.markDirty(budgetRefresh);
+        };
+        scheduler.markDirty(chainedRefresh);
+
+        runPostedFlushes();
+        assertEquals(Arrays.asList("chained", "budget"), runRefreshes);
+        assertEquals(0, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    public void markDirty_afterFlush_newFlushPosted() {
+        scheduler.markDirty(budgetRefresh);
+        runPostedFlushes();
+        scheduler.markDirty(budgetRefresh);
+        assertEquals(1, postedFlushes.size());
+
+        runPostedFlushes();
+        assertEquals(Arrays.asList("budget", "budget"), runRefreshes);
+        assertEquals(0, scheduler.getCoalescedCount());
+    }
+
+    /**
+     * Runs the posted flushes, including those posted while running them, the way the application thread would.
+     */
+    private void runPostedFlushes() {
+        while (!postedFlushes.isEmpty()) {
+            postedFlushes.remove(0).run();
+        }
+    }
+
+}
@@ -22,8 +22,6 @@ public class ReverseCommandSystemTest extends FinanceTrackerSystemTest {
 
     @Test
     public void reverse() {
-        final Model defaultModel = getModel();
-
         /* Case: Reverse list in finance tracker -> reversed */
         String command = ReverseCommand.COMMAND_WORD;
         String expectedResultMessage = ReverseCommand.MESSAGE_SUCCESS;
@@ -32,16 +30,12 @@ public class ReverseCommandSystemTest extends FinanceTrackerSystemTest {
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
 
-        /* Case: undo reversing of list -> original finance tracker restored */
-        command = UndoCommand.COMMAND_WORD;
-        expectedResultMessage = UndoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(command, expectedResultMessage, defaultModel);
+        /* Case: undo after reversing -> rejected, reversing only changes the displayed order */
+        assertCommandFailure(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE, expectedModel);
 
 
-        /* Case: redo reversing of list -> reversed */
-        command = RedoCommand.COMMAND_WORD;
-        expectedResultMessage = RedoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(command, expectedResultMessage, expectedModel);
+        /* Case: redo after reversing -> rejected, nothing was undone */
+        assertCommandFailure(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_FAILURE, expectedModel);
 
 
         /* Case: selects first card in record list and reverses list -> reversed */
@@ -50,7 +44,7 @@ public class ReverseCommandSystemTest extends FinanceTrackerSystemTest {
         expectedResultMessage = ReverseCommand.MESSAGE_SUCCESS;
         expectedModel.reverseFilteredRecordList();
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
-        assertSelectedCardDeselected();
+        assertSelectedCardUnchanged();
 
 
         /* Case: filters the record list before reversing -> reversed */
@@ -130,13 +124,14 @@ public class ReverseCommandSystemTest extends FinanceTrackerSystemTest {
      * Executes {@code Command} and verifies that the command box displays an empty string,
      * the result display box displays {@code expectedResultMessage}
      * and the model related components equal to {@code expectedModel}.
-     * Also verifies that the command box has the default style class and the status bar's sync status changes.
+     * Also verifies that the command box has the default style class and the status bar remains unchanged,
+     * as reversing does not modify the finance tracker.
      */
     private void assertCommandSuccess(String command, String expectedResultMessage, Model expectedModel) {
         executeCommand(command);
         assertApplicationDisplaysExpected("", expectedResultMessage, expectedModel);
         assertCommandBoxShowsDefaultStyle();
-        assertStatusBarUnchangedExceptSyncStatus();
+        assertStatusBarUnchanged();
     }
 
     /**
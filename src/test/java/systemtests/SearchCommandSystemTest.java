@@ -2,9 +2,11 @@ package systemtests;
 
 import static org.junit.Assert.assertFalse;
 import static seedu.finance.commons.core.Messages.MESSAGE_RECORDS_LISTED_OVERVIEW;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_AND;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_CATEGORY;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_DATE;
 import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_NAME;
+import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_OR;
 import static seedu.finance.testutil.TypicalRecords.BANANA;
 import static seedu.finance.testutil.TypicalRecords.CAP;
 import static seedu.finance.testutil.TypicalRecords.DONUT;
@@ -41,13 +43,12 @@ public class SearchCommandSystemTest extends FinanceTrackerSystemTest {
         assertCommandFailure(command, expectedResultMessage);
         assertSelectedCardUnchanged();
 
-        /* Case: search with 2 valid flag
+        /* Case: search with an operator but only 1 flag
          * -> rejected
          */
-        /* Case: find records with a incorrect flag*/
 
-        command = SearchCommand.COMMAND_WORD + " -cat -name " + DONUT.getName();
-        expectedResultMessage = "Invalid command format! \n" + SearchCommand.ONE_FLAG_ONLY;
+        command = SearchCommand.COMMAND_WORD + " -name " + KEYWORD_MATCHING_DONUT + " -or";
+        expectedResultMessage = "Invalid command format! \n" + SearchCommand.MISPLACED_OPERATOR;
         assertCommandFailure(command, expectedResultMessage);
         assertSelectedCardUnchanged();
 
@@ -231,6 +232,36 @@ public class SearchCommandSystemTest extends FinanceTrackerSystemTest {
         assertCommandSuccess(command, expectedModel);
         assertSelectedCardUnchanged();
 
+        /* Case: Find records in finance tracker matching both the category and the name flags.
+         * -> 2 records found
+         */
+
+        command = SearchCommand.COMMAND_WORD + " " + COMMAND_FLAG_CATEGORY + " Food " + COMMAND_FLAG_NAME + " "
+                + KEYWORD_MATCHING_DONUT;
+        ModelHelper.setFilteredList(expectedModel, BANANA, DONUT);
+        assertCommandSuccess(command, expectedModel);
+        assertSelectedCardUnchanged();
+
+        /* Case: Refine the previous search with a date flag.
+         * -> 1 record found
+         */
+
+        command = SearchCommand.COMMAND_WORD + " " + COMMAND_FLAG_CATEGORY + " Food " + COMMAND_FLAG_NAME + " "
+                + KEYWORD_MATCHING_DONUT + " " + COMMAND_FLAG_AND + " " + COMMAND_FLAG_DATE + " 12/02/2007";
+        ModelHelper.setFilteredList(expectedModel, DONUT);
+        assertCommandSuccess(command, expectedModel);
+        assertSelectedCardUnchanged();
+
+        /* Case: Find records in finance tracker matching either the date or the name flag.
+         * -> 2 records found
+         */
+
+        command = SearchCommand.COMMAND_WORD + " " + COMMAND_FLAG_DATE + " 12/05/2017 " + COMMAND_FLAG_OR + " "
+                + COMMAND_FLAG_NAME + " Fruits";
+        ModelHelper.setFilteredList(expectedModel, CAP, FRUITS);
+        assertCommandSuccess(command, expectedModel);
+        assertSelectedCardUnchanged();
+
 
         /* Case: find while a record is selected -> selected card deselected */
 
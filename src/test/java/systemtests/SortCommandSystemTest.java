@@ -10,18 +10,19 @@ import static seedu.finance.logic.parser.CliSyntax.COMMAND_FLAG_NAME;
 import static seedu.finance.testutil.TypicalRecords.AMY;
 import static seedu.finance.testutil.TypicalRecords.KEYWORD_MATCHING_DONUT;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.finance.commons.core.index.Index;
-import seedu.finance.logic.commands.DeleteCommand;
 import seedu.finance.logic.commands.RedoCommand;
 import seedu.finance.logic.commands.ReverseCommand;
 import seedu.finance.logic.commands.SortCommand;
-import seedu.finance.logic.commands.SpendCommand;
 import seedu.finance.logic.commands.UndoCommand;
 import seedu.finance.logic.parser.comparator.RecordAmountComparator;
 import seedu.finance.logic.parser.comparator.RecordCategoryComparator;
 import seedu.finance.logic.parser.comparator.RecordDateComparator;
+import seedu.finance.logic.parser.comparator.RecordMultiKeyComparator;
 import seedu.finance.logic.parser.comparator.RecordNameComparator;
 import seedu.finance.model.Model;
 import seedu.finance.model.ModelManager;
@@ -34,10 +35,6 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
     @Test
     public void sort() {
-        Model defaultModel = getModel();
-
-
-
         /* Case: Sort list by name in descending order -> sorted */
         Model expectedModel = getModel();
         String command = SortCommand.COMMAND_WORD + " " + COMMAND_FLAG_NAME + " " + COMMAND_FLAG_DESCENDING;
@@ -46,17 +43,12 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
         assertCommandSuccess(command, expectedResultMessage, expectedModel);
 
 
-        /* Case: Undo sorting -> original finance tracker restored */
-        command = UndoCommand.COMMAND_WORD;
-        expectedResultMessage = UndoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(command, expectedResultMessage, defaultModel);
+        /* Case: Undo after sorting -> rejected, sorting only changes the displayed order */
+        assertCommandFailure(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_FAILURE, expectedModel);
 
 
-
-        /* Case: Redo sorting -> sorted */
-        command = RedoCommand.COMMAND_WORD;
-        expectedResultMessage = RedoCommand.MESSAGE_SUCCESS;
-        assertCommandSuccess(command, expectedResultMessage, expectedModel);
+        /* Case: Redo after sorting -> rejected, nothing was undone */
+        assertCommandFailure(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_FAILURE, expectedModel);
 
 
         /* Case: sort list by name with default ordering (ascending -> sorted */
@@ -82,8 +74,7 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
 
         /* Case: add a record then sort list by date in ascending order */
         expectedModel.addRecord(AMY);
-        command = RecordUtil.getSpendCommand(AMY);
-        assertCommandSuccess(command, String.format(SpendCommand.MESSAGE_SUCCESS, AMY), expectedModel);
+        executeCommand(RecordUtil.getSpendCommand(AMY));
         command = SortCommand.COMMAND_WORD + " " + COMMAND_FLAG_DATE + " " + COMMAND_FLAG_ASCENDING;
         expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
         expectedModel.sortFilteredRecordList(new RecordDateComparator().reversed());
@@ -93,8 +84,7 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
         /* Case: delete a record then sort list by date in default ordering (descending) -> sorted */
         Record targetedRecord = expectedModel.getFilteredRecordList().get(0);
         expectedModel.deleteRecord(targetedRecord);
-        assertCommandSuccess("delete 1", String.format(DeleteCommand.MESSAGE_DELETE_RECORD_SUCCESS,
-                targetedRecord), expectedModel);
+        executeCommand("delete 1");
         command = SortCommand.COMMAND_WORD + " " + COMMAND_FLAG_DATE;
         expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
         expectedModel.sortFilteredRecordList(new RecordDateComparator());
@@ -136,6 +126,15 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
 
 
 
+        /* Case: sort by category then by date in ascending order -> sorted */
+        command = SortCommand.COMMAND_WORD + " " + COMMAND_FLAG_CATEGORY + " " + COMMAND_FLAG_DATE + " "
+                + COMMAND_FLAG_ASCENDING;
+        expectedResultMessage = SortCommand.MESSAGE_SUCCESS;
+        expectedModel.sortFilteredRecordList(new RecordMultiKeyComparator(Arrays.asList(
+                new RecordCategoryComparator(), new RecordDateComparator().reversed())));
+        assertCommandSuccess(command, expectedResultMessage, expectedModel);
+
+
         /* --------------------------------- Performing invalid delete operation ------------------------------------ */
 
 
@@ -161,9 +160,9 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
         assertCommandFailure(command, MESSAGE_INVALID_SORT_COMMAND_FORMAT);
 
 
-        /* Case: Invalid arguments (extra argument) -> rejected */
+        /* Case: Invalid arguments (same flag twice) -> rejected */
         command = SortCommand.COMMAND_WORD + " " + COMMAND_FLAG_NAME + " " + COMMAND_FLAG_ASCENDING
-                + " " + COMMAND_FLAG_DATE;
+                + " " + COMMAND_FLAG_NAME;
         assertCommandFailure(command, MESSAGE_INVALID_SORT_COMMAND_FORMAT);
 
     }
@@ -172,13 +171,14 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
      * Executes {@code Command} and vertifies that the command box displays an empty string,
      * the result display box displays {@code expectedResultMessage}
      * and the model related components equals to {@code expectedModel}.
-     * Also verifies that the command box has the default style class and the status bar's sync status changes.
+     * Also verifies that the command box has the default style class and the status bar remains unchanged,
+     * as sorting does not modify the finance tracker.
      */
     private void assertCommandSuccess(String command, String expectedResultMessage, Model expectedModel) {
         executeCommand(command);
         assertApplicationDisplaysExpected("", expectedResultMessage, expectedModel);
         assertCommandBoxShowsDefaultStyle();
-        assertStatusBarUnchangedExceptSyncStatus();
+        assertStatusBarUnchanged();
     }
 
     /**
@@ -193,13 +193,18 @@ public class SortCommandSystemTest extends FinanceTrackerSystemTest {
      * @see FinanceTrackerSystemTest#assertApplicationDisplaysExpected(String, String, Model)
      */
     private void assertCommandFailure(String command, String expectedResultMessage) {
-        Model expectedModel = getModel();
+        assertCommandFailure(command, expectedResultMessage, getModel());
+    }
 
+    /**
+     * Performs the same verification as {@code assertCommandFailure(String, String)} except that the model related
+     * components are expected to equal {@code expectedModel}.
+     */
+    private void assertCommandFailure(String command, String expectedResultMessage, Model expectedModel) {
         executeCommand(command);
         assertApplicationDisplaysExpected(command, expectedResultMessage, expectedModel);
         assertSelectedCardUnchanged();
         assertCommandBoxShowsErrorStyle();
         assertStatusBarUnchanged();
-
     }
 }